@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.blacklist;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares hitting the token bucket limiter against the cache of synchronized
+ * timestamp arrays the ratelimit used before, with all the threads hitting
+ * either the same key, or keys spread out over a set of users.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class TokenBucketLimiterBenchmark {
+
+    private static final int hitLimit = 10;
+    private static final long hitTime = 30 * 1000;
+
+    @Param({"1", "1024"})
+    public int keys;
+
+    private TokenBucketLimiter limiter;
+    private LoadingCache<Long, TimestampRate> cache;
+
+    @Setup
+    public void setup() {
+        limiter = new TokenBucketLimiter(hitLimit, hitTime, TimeUnit.MILLISECONDS);
+        cache = CacheBuilder.newBuilder()
+            .recordStats()
+            .expireAfterWrite(hitTime, TimeUnit.MILLISECONDS)
+            .build(CacheLoader.from(TimestampRate::new));
+    }
+
+    @Benchmark
+    public boolean hitUsingTokenBucket() {
+        return limiter.tryAcquire(nextKey());
+    }
+
+    @Benchmark
+    public boolean hitUsingTimestampCache() {
+        TimestampRate rate = cache.getUnchecked(nextKey());
+
+        //noinspection SynchronizationOnLocalVariableOrMethodParameter
+        synchronized (rate) {
+            rate.hit();
+
+            return rate.getHits() < hitLimit;
+        }
+    }
+
+    private long nextKey() {
+        return keys == 1 ? 0L : ThreadLocalRandom.current().nextInt(keys);
+    }
+
+    private static class TimestampRate {
+
+        private final Long[] timestamps = new Long[hitLimit];
+        private int index = 0;
+
+        void hit() {
+            timestamps[index++] = System.currentTimeMillis();
+            if (index >= hitLimit) {
+                index = 0;
+            }
+        }
+
+        int getHits() {
+            int hits = 0;
+            for (Long time : timestamps) {
+                if (time != null && (time + hitTime) > System.currentTimeMillis()) {
+                    hits++;
+                }
+            }
+            return hits;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.chat;
+
+import com.senither.hypixel.utils.StringReplacementUtil;
+import net.dv8tion.jda.api.EmbedBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares rendering typical embed messages using compiled message templates, against
+ * sorting the placeholder keys and replacing each of them using a regex, which is
+ * how placeholder messages was formatted before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageTemplateBenchmark {
+
+    private static final String throttleMessage = "Too many `:command` attempts. Please try again in **:time** seconds.";
+    private static final String splashMessage = ":user (IGN: :name) is splashing :time!\n\n> :note";
+    private static final String leaderboardRow = "`:rank` **:name** has earned **:amount** GXP!";
+
+    private final Map<String, String> throttlePlaceholders = new HashMap<>();
+    private final Map<String, String> splashPlaceholders = new HashMap<>();
+    private final List<Map<String, String>> leaderboardPlaceholders = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        throttlePlaceholders.put("command", "skills");
+        throttlePlaceholders.put("time", "4");
+
+        splashPlaceholders.put("user", "<@88739639380172800>");
+        splashPlaceholders.put("name", "Senither");
+        splashPlaceholders.put("time", "in 5 minutes");
+        splashPlaceholders.put("note", "Splashing 17 potions in Hub 14, bring your own $ and \\ escapes");
+
+        for (int i = 0; i < 10; i++) {
+            Map<String, String> placeholders = new HashMap<>();
+            placeholders.put("rank", String.valueOf(i + 1));
+            placeholders.put("name", "Player_" + i);
+            placeholders.put("amount", String.format("%,d", 150000 - (i * 12345)));
+
+            leaderboardPlaceholders.add(placeholders);
+        }
+    }
+
+    @Benchmark
+    public void renderUsingTemplates(Blackhole blackhole) {
+        blackhole.consume(MessageTemplate.of(throttleMessage).render(throttlePlaceholders));
+        blackhole.consume(MessageTemplate.of(splashMessage).render(splashPlaceholders));
+
+        for (Map<String, String> placeholders : leaderboardPlaceholders) {
+            blackhole.consume(MessageTemplate.of(leaderboardRow).render(placeholders));
+        }
+    }
+
+    @Benchmark
+    public void renderUsingReplacements(Blackhole blackhole) {
+        blackhole.consume(renderUsingReplacements(throttleMessage, throttlePlaceholders));
+        blackhole.consume(renderUsingReplacements(splashMessage, splashPlaceholders));
+
+        for (Map<String, String> placeholders : leaderboardPlaceholders) {
+            blackhole.consume(renderUsingReplacements(leaderboardRow, placeholders));
+        }
+    }
+
+    @Benchmark
+    public void buildPlaceholderMessage(Blackhole blackhole) {
+        PlaceholderMessage message = new PlaceholderMessage(new EmbedBuilder(), splashMessage);
+        for (Map.Entry<String, String> entry : splashPlaceholders.entrySet()) {
+            message.set(entry.getKey(), entry.getValue());
+        }
+
+        blackhole.consume(message.buildEmbed());
+    }
+
+    private String renderUsingReplacements(String message, Map<String, String> placeholders) {
+        List<String> keys = new ArrayList<>(placeholders.keySet());
+        keys.sort((o1, o2) -> o2.length() - o1.length());
+
+        for (String key : keys) {
+            message = StringReplacementUtil.replaceAll(
+                message, ":" + key, placeholders.get(key)
+            );
+        }
+
+        return message;
+    }
+}
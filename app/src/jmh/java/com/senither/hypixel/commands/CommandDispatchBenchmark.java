@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.commands;
+
+import com.senither.hypixel.Constants;
+import com.senither.hypixel.contracts.commands.Command;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares finding commands using the trigger index and splitting messages into
+ * arguments using the argument tokenizer, against scanning every registered
+ * command and splitting the arguments using a regex, which is how commands
+ * was found and their arguments was created before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommandDispatchBenchmark {
+
+    private static final Pattern argumentsRegEX = Pattern.compile("([^\"]\\S*|\".+?\")\\s*", Pattern.MULTILINE);
+
+    private static final List<List<String>> triggers = Arrays.asList(
+        Arrays.asList("ban-log", "banlog", "log", "bl"),
+        Arrays.asList("donation", "donations"),
+        Arrays.asList("guild-scan", "guildscan"),
+        Collections.singletonList("guild-setup"),
+        Arrays.asList("message", "messages", "announcement"),
+        Arrays.asList("rank-check", "rankcheck"),
+        Collections.singletonList("rank-requirement"),
+        Arrays.asList("settings", "setting", "config"),
+        Arrays.asList("splash", "splashes"),
+        Arrays.asList("calcpet", "calcpets"),
+        Arrays.asList("calcskills", "calcskill", "calcsk", "csk"),
+        Arrays.asList("calcxp", "xp"),
+        Arrays.asList("weight", "we"),
+        Collections.singletonList("verify"),
+        Arrays.asList("skills", "skill", "sk"),
+        Arrays.asList("slayers", "slayer", "sl"),
+        Arrays.asList("splash-cost", "splashcost", "sc"),
+        Arrays.asList("auctions", "auction", "ah"),
+        Arrays.asList("ahstats", "ahstat"),
+        Arrays.asList("bank", "balance", "bal", "b"),
+        Arrays.asList("bazaar", "bz"),
+        Arrays.asList("catacomb", "cata", "ca", "dungeon", "dung"),
+        Arrays.asList("expleaderboard", "gxplead", "glead", "gtop"),
+        Arrays.asList("leaderboard", "lead", "top", "lb", "l"),
+        Arrays.asList("pets", "pet"),
+        Arrays.asList("playerleaderboard", "pleaderboard", "plead", "ptop", "pt", "pl"),
+        Arrays.asList("player", "profile", "overview", "stats", "p"),
+        Arrays.asList("talismans", "talisman", "t"),
+        Collections.singletonList("ping"),
+        Collections.singletonList("boop"),
+        Collections.singletonList("boop-opt"),
+        Arrays.asList("botstats", "bstats"),
+        Arrays.asList("info", "botinfo"),
+        Collections.singletonList("amibanned"),
+        Collections.singletonList("help")
+    );
+
+    private static final String[] messages = new String[]{
+        "h!skills Senither",
+        "h!sk Senither Banana",
+        "h!bz 900 summoning eye",
+        "h!bz e redstone block + e redstone lamp + 64 e gold block",
+        "h!lead \"The Lost Legion\" weight 3",
+        "h!pl weight 12",
+        "h!weight calc 50 50 50 50 50 50 50 50",
+        "h!ah Senither 2",
+        "H!Help bazaar",
+        "h!splash \"Hub 14\" 10 minutes \"Splashing 17 potions with \"\"Godsplash\"\"\"",
+        "h!unknowncommand with some arguments",
+        "just a regular chat message that is not a command"
+    };
+
+    private final Set<CommandContainer> containers = new HashSet<>();
+    private CommandManager commandManager;
+
+    @Setup
+    public void setup() {
+        commandManager = new CommandManager(null);
+
+        for (List<String> commandTriggers : triggers) {
+            BenchmarkCommand command = new BenchmarkCommand(commandTriggers);
+
+            containers.add(new CommandContainer(command));
+            if (commandManager.getCommand(Constants.COMMAND_PREFIX + commandTriggers.get(0)) == null) {
+                commandManager.registerCommand(command);
+            }
+        }
+    }
+
+    @Benchmark
+    public void dispatchUsingTriggerIndex(Blackhole blackhole) {
+        for (String message : messages) {
+            CommandContainer container = commandManager.getCommand(message);
+            if (container != null) {
+                blackhole.consume(ArgumentTokenizer.tokenize(message));
+            }
+            blackhole.consume(container);
+        }
+    }
+
+    @Benchmark
+    public void dispatchUsingCommandScan(Blackhole blackhole) {
+        for (String message : messages) {
+            CommandContainer container = getCommandByScanning(message);
+            if (container != null) {
+                blackhole.consume(toArgumentsUsingRegex(message));
+            }
+            blackhole.consume(container);
+        }
+    }
+
+    @Benchmark
+    public void tokenizeUsingArgumentTokenizer(Blackhole blackhole) {
+        for (String message : messages) {
+            blackhole.consume(ArgumentTokenizer.tokenize(message));
+        }
+    }
+
+    @Benchmark
+    public void tokenizeUsingRegex(Blackhole blackhole) {
+        for (String message : messages) {
+            blackhole.consume(toArgumentsUsingRegex(message));
+        }
+    }
+
+    private CommandContainer getCommandByScanning(String message) {
+        if (!message.toLowerCase().startsWith(Constants.COMMAND_PREFIX)) {
+            return null;
+        }
+
+        String first = message.split(" ")[0];
+        for (CommandContainer container : containers) {
+            for (String trigger : container.getTriggers()) {
+                if (first.equalsIgnoreCase(Constants.COMMAND_PREFIX + trigger)) {
+                    return container;
+                }
+            }
+        }
+        return null;
+    }
+
+    private String[] toArgumentsUsingRegex(String string) {
+        List<String> arguments = new ArrayList<>();
+
+        Matcher matcher = argumentsRegEX.matcher(string.replaceAll("\"\"", "\" \""));
+        while (matcher.find()) {
+            arguments.add(matcher.group(0)
+                .replaceAll("\"", "")
+                .trim());
+        }
+
+        return arguments.toArray(new String[0]);
+    }
+
+    private static class BenchmarkCommand extends Command {
+
+        private final List<String> triggers;
+
+        BenchmarkCommand(List<String> triggers) {
+            super(null);
+
+            this.triggers = triggers;
+        }
+
+        @Override
+        public String getName() {
+            return triggers.get(0);
+        }
+
+        @Override
+        public List<String> getDescription() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<String> getUsageInstructions() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<String> getExampleUsage() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<String> getTriggers() {
+            return triggers;
+        }
+
+        @Override
+        public void onCommand(MessageReceivedEvent event, String[] args) {
+            // Benchmark commands are never invoked.
+        }
+    }
+}
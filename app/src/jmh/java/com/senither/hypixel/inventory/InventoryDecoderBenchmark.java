@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.inventory;
+
+import com.github.steveice10.opennbt.NBTIO;
+import com.github.steveice10.opennbt.tag.builtin.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares the streaming inventory reader against decoding the full NBT
+ * tree using OpenNBT, which is how inventories were decoded before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InventoryDecoderBenchmark {
+
+    private static final String[] itemNames = new String[]{
+        "§6Necron's Chestplate", "§5Aspect of the End", "§6Hurricane Bow", "§9Speed Talisman", "§6Wolf Ring"
+    };
+
+    private static final String[] itemLore = new String[]{
+        "§6§lLEGENDARY CHESTPLATE", "§5§lEPIC SWORD", "§d§l§ka§r §d§lMYTHIC BOW §d§l§ka", "§9§lRARE ACCESSORY", "§6§lLEGENDARY ACCESSORY"
+    };
+
+    @Param({"36", "180"})
+    private int slots;
+
+    private String encodedInventory;
+
+    @Setup
+    public void setup() throws IOException {
+        CompoundTag root = new CompoundTag("");
+        ListTag contents = new ListTag("i", CompoundTag.class);
+
+        for (int slot = 0; slot < slots; slot++) {
+            if (slot % 9 == 8) {
+                contents.add(createBackpack(slot));
+            } else {
+                contents.add(createItem(slot, null));
+            }
+        }
+
+        root.put(contents);
+
+        encodedInventory = Base64.getEncoder().encodeToString(compress(root));
+    }
+
+    @Benchmark
+    public void streamingReader(Blackhole blackhole) throws IOException {
+        Inventory inventory = new Inventory(encodedInventory);
+        for (Item item : inventory.getItems()) {
+            blackhole.consume(item.getRarity());
+        }
+    }
+
+    @Benchmark
+    public void openNbtTree(Blackhole blackhole) throws IOException {
+        for (String name : decodeWithOpenNbt(Base64.getDecoder().decode(encodedInventory))) {
+            blackhole.consume(name);
+        }
+    }
+
+    private List<String> decodeWithOpenNbt(byte[] decodedInventory) throws IOException {
+        CompoundTag root = (CompoundTag) NBTIO.readTag(new GZIPInputStream(new ByteArrayInputStream(decodedInventory)));
+
+        List<String> names = new ArrayList<>();
+        for (Tag tag : (ListTag) root.get("i")) {
+            CompoundTag itemTag = ((CompoundTag) tag).get("tag");
+            if (itemTag == null) {
+                continue;
+            }
+
+            CompoundTag attributes = itemTag.get("ExtraAttributes");
+            for (String key : attributes.getValue().keySet()) {
+                if (key.endsWith("_backpack_data")) {
+                    byte[] backpack = ((ByteArrayTag) attributes.get(key)).getValue();
+                    names.addAll(decodeWithOpenNbt(Base64.getDecoder().decode(Base64.getEncoder().encodeToString(backpack))));
+                }
+            }
+
+            CompoundTag display = itemTag.get("display");
+            ListTag lore = display.get("Lore");
+
+            names.add(display.get("Name").getValue().toString().replaceAll("([!|#|%]?[§]+[a-f|0-9])", ""));
+            names.add(lore.get(lore.size() - 1).getValue().toString().replaceAll("([!|#|%]?[§]+[a-f|0-9])", ""));
+        }
+
+        return names;
+    }
+
+    private CompoundTag createBackpack(int slot) throws IOException {
+        CompoundTag backpackRoot = new CompoundTag("");
+        ListTag backpackContents = new ListTag("i", CompoundTag.class);
+        for (int i = 0; i < 27; i++) {
+            backpackContents.add(createItem(i, null));
+        }
+        backpackRoot.put(backpackContents);
+
+        return createItem(slot, new ByteArrayTag("large_backpack_data", compress(backpackRoot)));
+    }
+
+    private CompoundTag createItem(int slot, ByteArrayTag backpackData) {
+        CompoundTag display = new CompoundTag("display");
+        display.put(new StringTag("Name", itemNames[slot % itemNames.length]));
+
+        ListTag lore = new ListTag("Lore", StringTag.class);
+        for (int i = 0; i < 12; i++) {
+            lore.add(new StringTag("", "§7Some item stat line: §a+" + i));
+        }
+        lore.add(new StringTag("", itemLore[slot % itemLore.length]));
+        display.put(lore);
+
+        CompoundTag attributes = new CompoundTag("ExtraAttributes");
+        attributes.put(new StringTag("id", "ITEM_" + (slot % itemNames.length)));
+        attributes.put(new StringTag("uuid", "5c0a7f5e-8d1f-4e21-b2c0-8cd1cf4b7e" + (10 + slot % 90)));
+        attributes.put(new StringTag("timestamp", "6/9/20 4:20 PM"));
+        if (backpackData != null) {
+            attributes.put(backpackData);
+        }
+
+        CompoundTag tag = new CompoundTag("tag");
+        tag.put(new IntTag("HideFlags", 254));
+        tag.put(display);
+        tag.put(attributes);
+
+        CompoundTag item = new CompoundTag("");
+        item.put(new ShortTag("id", (short) 276));
+        item.put(new ByteTag("Count", (byte) 1));
+        item.put(tag);
+
+        return item;
+    }
+
+    private byte[] compress(CompoundTag tag) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            NBTIO.writeTag(gzip, tag);
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.statistics;
+
+import com.google.common.collect.ImmutableMultiset;
+import com.google.gson.JsonObject;
+import com.senither.hypixel.Constants;
+import com.senither.hypixel.statistics.responses.SkillsResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares looking up levels using the precomputed experience tables against
+ * walking the experience lists from the constants, which is how levels was
+ * calculated before, along with the full skills response and weight
+ * calculation that uses the experience tables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExperienceTableBenchmark {
+
+    private static final String[] skills = new String[]{
+        "mining", "foraging", "enchanting", "farming", "combat",
+        "fishing", "alchemy", "taming", "carpentry", "runecrafting"
+    };
+
+    private JsonObject member;
+    private double[] experience;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1337);
+
+        member = new JsonObject();
+        experience = new double[skills.length];
+
+        for (int i = 0; i < skills.length; i++) {
+            experience[i] = random.nextInt(60000000);
+            member.addProperty("experience_skill_" + skills[i], experience[i]);
+        }
+    }
+
+    @Benchmark
+    public void levelsUsingExperienceTable(Blackhole blackhole) {
+        for (double value : experience) {
+            blackhole.consume(ExperienceTable.GENERAL_SKILLS.getLevelFromExperience(value));
+            blackhole.consume(ExperienceTable.DUNGEONS.getLevelFromExperience(value));
+            blackhole.consume(ExperienceTable.GENERAL_SKILLS.getExperienceForLevel(25));
+        }
+    }
+
+    @Benchmark
+    public void levelsUsingExperienceList(Blackhole blackhole) {
+        for (double value : experience) {
+            blackhole.consume(getLevelFromExperienceList(Constants.GENERAL_SKILL_EXPERIENCE, value));
+            blackhole.consume(getLevelFromExperienceList(Constants.DUNGEON_EXPERIENCE, value));
+            blackhole.consume(getExperienceForLevelFromList(Constants.GENERAL_SKILL_EXPERIENCE, 25));
+        }
+    }
+
+    @Benchmark
+    public void skillsResponseWithWeight(Blackhole blackhole) {
+        SkillsResponse response = StatisticsChecker.SKILLS.checkUser(null, null, member);
+
+        blackhole.consume(response.getAverageSkillLevel());
+        blackhole.consume(response.calculateTotalWeight());
+    }
+
+    private double getLevelFromExperienceList(ImmutableMultiset<Integer> experienceList, double experience) {
+        int level = 0;
+        for (int toRemove : experienceList) {
+            experience -= toRemove;
+            if (experience < 0) {
+                return level + (1D - (experience * -1) / (double) toRemove);
+            }
+            level++;
+        }
+        return level;
+    }
+
+    private double getExperienceForLevelFromList(ImmutableMultiset<Integer> experienceList, double level) {
+        double totalRequiredExperience = 0;
+        for (int i = 0; i < Math.min(level, experienceList.size()); i++) {
+            totalRequiredExperience += experienceList.asList().get(i);
+        }
+        return totalRequiredExperience;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.statistics.weight;
+
+/**
+ * Batch weight calculator used by the {@link WeightBatchBenchmark}, it calculates the weight
+ * for a whole guild at once over primitive experience columns, nothing in the bot scores
+ * guilds from member experience right now, so it lives with the benchmarks until then.
+ */
+public final class WeightBatch {
+
+    private WeightBatch() {
+        // This class should never be instantiated.
+    }
+
+    /**
+     * Calculates the total skill, slayer, and dungeon weight for a batch of players
+     * at once, the experience arrays are indexed by the ordinal of their weight
+     * type first, and by the player index second, so {@code skills[SkillWeight.MINING.ordinal()][3]}
+     * holds the mining experience for the fourth player in the batch, any of
+     * the experience rows can be {@code null} to skip that weight type.
+     * <p>
+     * The calculated weight and overflow are added to the given result arrays,
+     * so they should be zeroed out before being used for a new batch.
+     *
+     * @param skills   The skill experience for each player, indexed by {@link SkillWeight} ordinal.
+     * @param slayers  The slayer experience for each player, indexed by {@link SlayerWeight} ordinal.
+     * @param dungeons The dungeon experience for each player, indexed by {@link DungeonWeight} ordinal.
+     * @param weight   The array the total weight for each player should be added to.
+     * @param overflow The array the total overflow weight for each player should be added to.
+     */
+    public static void calculateTotalWeights(double[][] skills, double[][] slayers, double[][] dungeons, double[] weight, double[] overflow) {
+        for (SkillWeight skillWeight : SkillWeight.values()) {
+            if (skills != null && skills.length > skillWeight.ordinal() && skills[skillWeight.ordinal()] != null) {
+                calculateSkillWeights(skillWeight, skills[skillWeight.ordinal()], weight, overflow);
+            }
+        }
+
+        for (SlayerWeight slayerWeight : SlayerWeight.values()) {
+            if (slayers != null && slayers.length > slayerWeight.ordinal() && slayers[slayerWeight.ordinal()] != null) {
+                calculateSlayerWeights(slayerWeight, slayers[slayerWeight.ordinal()], weight);
+            }
+        }
+
+        for (DungeonWeight dungeonWeight : DungeonWeight.values()) {
+            if (dungeons != null && dungeons.length > dungeonWeight.ordinal() && dungeons[dungeonWeight.ordinal()] != null) {
+                calculateDungeonWeights(dungeonWeight, dungeons[dungeonWeight.ordinal()], weight, overflow);
+            }
+        }
+    }
+
+    /**
+     * Adds the skill weight for the given skill type to the weight
+     * and overflow arrays for every player in the batch.
+     *
+     * @param skillWeight The skill the experience belongs to.
+     * @param experience  The skill experience for each player.
+     * @param weight      The array the weight for each player should be added to.
+     * @param overflow    The array the overflow weight for each player should be added to.
+     */
+    public static void calculateSkillWeights(SkillWeight skillWeight, double[] experience, double[] weight, double[] overflow) {
+        checkBatchSize(experience, weight, overflow);
+
+        for (int i = 0; i < experience.length; i++) {
+            weight[i] += skillWeight.calculateBaseWeight(experience[i]);
+        }
+
+        for (int i = 0; i < experience.length; i++) {
+            overflow[i] += skillWeight.calculateOverflowWeight(experience[i]);
+        }
+    }
+
+    /**
+     * Adds the slayer weight for the given slayer type to the weight array
+     * for every player in the batch, slayers don't have any overflow
+     * weight, so all the weight is added to the weight array.
+     *
+     * @param slayerWeight The slayer the experience belongs to.
+     * @param experience   The slayer experience for each player.
+     * @param weight       The array the weight for each player should be added to.
+     */
+    public static void calculateSlayerWeights(SlayerWeight slayerWeight, double[] experience, double[] weight) {
+        checkBatchSize(experience, weight, weight);
+
+        for (int i = 0; i < experience.length; i++) {
+            weight[i] += slayerWeight.calculateBaseWeight(experience[i]);
+        }
+    }
+
+    /**
+     * Adds the dungeon weight for the given dungeon or class type to the
+     * weight and overflow arrays for every player in the batch.
+     *
+     * @param dungeonWeight The dungeon or class the experience belongs to.
+     * @param experience    The dungeon experience for each player.
+     * @param weight        The array the weight for each player should be added to.
+     * @param overflow      The array the overflow weight for each player should be added to.
+     */
+    public static void calculateDungeonWeights(DungeonWeight dungeonWeight, double[] experience, double[] weight, double[] overflow) {
+        checkBatchSize(experience, weight, overflow);
+
+        for (int i = 0; i < experience.length; i++) {
+            double base = dungeonWeight.calculateLevelWeight(experience[i]);
+
+            weight[i] += dungeonWeight.roundBaseWeight(experience[i], base);
+            overflow[i] += dungeonWeight.overflowFromBase(experience[i], base);
+        }
+    }
+
+    private static void checkBatchSize(double[] experience, double[] weight, double[] overflow) {
+        if (weight.length < experience.length || overflow.length < experience.length) {
+            throw new IllegalArgumentException(String.format(
+                "The result arrays must be able to hold the weight for all %s players in the batch",
+                experience.length
+            ));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.statistics.weight;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares calculating the weight for a full guild of players one player at a time
+ * through the weight enums, adding the weight objects together, against
+ * calculating the weight for all the players at once using the batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WeightBatchBenchmark {
+
+    @Param({"125"})
+    private int players;
+
+    private double[][] skills;
+    private double[][] slayers;
+    private double[][] dungeons;
+
+    private double[] weight;
+    private double[] overflow;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1337);
+
+        skills = createExperience(random, SkillWeight.values().length, 120000000);
+        slayers = createExperience(random, SlayerWeight.values().length, 5000000);
+        dungeons = createExperience(random, DungeonWeight.values().length, 600000000);
+
+        weight = new double[players];
+        overflow = new double[players];
+    }
+
+    @Benchmark
+    public void weightPerPlayer(Blackhole blackhole) {
+        for (int player = 0; player < players; player++) {
+            Weight total = new Weight();
+
+            for (SkillWeight skillWeight : SkillWeight.values()) {
+                total = total.add(skillWeight.calculateSkillWeight(skills[skillWeight.ordinal()][player]));
+            }
+
+            for (SlayerWeight slayerWeight : SlayerWeight.values()) {
+                total = total.add(slayerWeight.calculateSkillWeight(slayers[slayerWeight.ordinal()][player]));
+            }
+
+            for (DungeonWeight dungeonWeight : DungeonWeight.values()) {
+                total = total.add(dungeonWeight.calculateWeight(dungeons[dungeonWeight.ordinal()][player]));
+            }
+
+            blackhole.consume(total);
+        }
+    }
+
+    @Benchmark
+    public void weightUsingBatch(Blackhole blackhole) {
+        Arrays.fill(weight, 0D);
+        Arrays.fill(overflow, 0D);
+
+        WeightBatch.calculateTotalWeights(skills, slayers, dungeons, weight, overflow);
+
+        blackhole.consume(weight);
+        blackhole.consume(overflow);
+    }
+
+    private double[][] createExperience(Random random, int types, int maxExperience) {
+        double[][] experience = new double[types][players];
+        for (int type = 0; type < types; type++) {
+            for (int player = 0; player < players; player++) {
+                experience[type][player] = random.nextInt(maxExperience);
+            }
+        }
+        return experience;
+    }
+}
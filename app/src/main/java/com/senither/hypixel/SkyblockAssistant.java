@@ -123,12 +123,13 @@ public class SkyblockAssistant {
         log.info("Registering jobs...");
         this.scheduleManager = new ScheduleManager(this);
         scheduleManager.registerJob(new SyncMetricsJob(this));
-        scheduleManager.registerJob(new SplashQueueJob(this));
         scheduleManager.registerJob(new UpdateGuildDataJob(this));
         scheduleManager.registerJob(new GarbageCollectorJob(this));
         scheduleManager.registerJob(new DrainReportQueueJob(this));
         scheduleManager.registerJob(new DecayDonationPointsJob(this));
         scheduleManager.registerJob(new HypixelRankSynchronizeJob(this));
+        scheduleManager.registerJob(new RefreshLeaderboardsJob(this));
+        scheduleManager.registerJob(new PollBazaarJob(this));
         log.info("{} jobs have been registered!", scheduleManager.entrySet().size());
 
         log.info("Creating database manager");
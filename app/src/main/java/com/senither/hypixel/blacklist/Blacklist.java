@@ -32,19 +32,21 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 
-
-@SuppressWarnings("SuspiciousMethodCalls")
 public class Blacklist {
 
     private static final Logger log = LoggerFactory.getLogger(Blacklist.class);
 
     private final SkyblockAssistant app;
-    private final List<BlacklistEntity> blacklist;
+    private final PriorityQueue<BlacklistEntity> expiryQueue;
     private final Ratelimit ratelimit;
 
+    private volatile BlacklistIndex blacklist = BlacklistIndex.EMPTY;
+    private volatile long nextExpiry = Long.MAX_VALUE;
+
     /**
      * Creates a new blacklist instance.
      *
@@ -53,7 +55,7 @@ public class Blacklist {
     public Blacklist(SkyblockAssistant app) {
         this.app = app;
 
-        this.blacklist = new BlacklistList();
+        this.expiryQueue = new PriorityQueue<>(Comparator.comparingLong(BlacklistEntity::getExpiresAt));
         this.ratelimit = new Ratelimit(this);
     }
 
@@ -94,18 +96,11 @@ public class Blacklist {
      * @param id The ID to remove from teh blacklist.
      */
     public void remove(long id) {
-        if (!blacklist.contains(id)) {
-            return;
-        }
-
-        Iterator<BlacklistEntity> iterator = blacklist.iterator();
-        while (iterator.hasNext()) {
-            BlacklistEntity next = iterator.next();
-
-            if (next.getId() == id) {
-                iterator.remove();
-                break;
+        synchronized (this) {
+            if (blacklist.get(id) == null) {
+                return;
             }
+            blacklist = blacklist.without(id);
         }
 
         try {
@@ -124,12 +119,9 @@ public class Blacklist {
      */
     @Nullable
     public BlacklistEntity getEntity(long id) {
-        for (BlacklistEntity entity : blacklist) {
-            if (entity.getId() == id) {
-                return entity;
-            }
-        }
-        return null;
+        evictExpiredEntities();
+
+        return blacklist.get(id);
     }
 
     /**
@@ -150,12 +142,12 @@ public class Blacklist {
      * @param expiresIn The carbon time instance for when the entity should expire.
      */
     public void addIdToBlacklist(final long id, final @Nullable String reason, @Nullable Carbon expiresIn) {
-        BlacklistEntity entity = getEntity(id);
-        if (entity != null) {
-            blacklist.remove(entity);
-        }
+        BlacklistEntity entity = new BlacklistEntity(id, reason, expiresIn);
 
-        blacklist.add(new BlacklistEntity(id, reason, expiresIn));
+        synchronized (this) {
+            blacklist = blacklist.with(entity);
+            scheduleExpiry(entity);
+        }
 
         try {
             app.getDatabaseManager().queryUpdate("DELETE FROM `blacklists` WHERE `id` = ?", id);
@@ -173,14 +165,46 @@ public class Blacklist {
      * @return The entities currently on the blacklist.
      */
     public List<BlacklistEntity> getBlacklistEntities() {
-        return blacklist;
+        evictExpiredEntities();
+
+        return blacklist.getEntities();
+    }
+
+    /**
+     * Removes all the entities that has expired from the blacklist, the entities are
+     * kept in a queue sorted by when they expire, so this only needs to check the
+     * time of the next entity to expire if nothing has expired yet.
+     */
+    public void evictExpiredEntities() {
+        if (System.currentTimeMillis() <= nextExpiry) {
+            return;
+        }
+
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+
+            BlacklistIndex index = blacklist;
+            while (!expiryQueue.isEmpty() && expiryQueue.peek().getExpiresAt() < now) {
+                BlacklistEntity entity = expiryQueue.poll();
+
+                // Entities that have been replaced or removed since they were queued
+                // are still in the queue, so we only remove the entity if it's
+                // still the one on the blacklist for its ID.
+                if (index.get(entity.getId()) == entity) {
+                    index = index.without(entity.getId());
+                }
+            }
+
+            blacklist = index;
+            nextExpiry = expiryQueue.isEmpty() ? Long.MAX_VALUE : expiryQueue.peek().getExpiresAt();
+        }
     }
 
     /**
      * Syncs the blacklist with the database.
      */
     public synchronized void syncBlacklistWithDatabase() {
-        blacklist.clear();
+        List<BlacklistEntity> entities = new ArrayList<>();
         try {
             Collection collection = app.getDatabaseManager().query(
                 "SELECT * FROM `blacklists` WHERE `expires_in` > ?",
@@ -196,7 +220,7 @@ public class Blacklist {
                 try {
                     long longId = Long.parseLong(id);
 
-                    blacklist.add(new BlacklistEntity(
+                    entities.add(new BlacklistEntity(
                         longId,
                         row.getString("reason"),
                         row.getTimestamp("expires_in")
@@ -208,23 +232,22 @@ public class Blacklist {
         } catch (SQLException e) {
             log.error("Failed to sync blacklist with the database: " + e.getMessage(), e);
         }
-    }
 
-    private class BlacklistList extends ArrayList<BlacklistEntity> {
+        blacklist = new BlacklistIndex(entities);
 
-        @Override
-        public boolean contains(Object o) {
-            if (o instanceof Long) {
-                long id = (long) o;
-                for (BlacklistEntity entity : this) {
-                    if (entity.getId() == id) {
-                        return true;
-                    }
-                }
-                return false;
-            }
+        expiryQueue.clear();
+        nextExpiry = Long.MAX_VALUE;
+        for (BlacklistEntity entity : entities) {
+            scheduleExpiry(entity);
+        }
+    }
 
-            return super.contains(o);
+    private void scheduleExpiry(BlacklistEntity entity) {
+        if (entity.getExpiresAt() == Long.MAX_VALUE) {
+            return;
         }
+
+        expiryQueue.add(entity);
+        nextExpiry = Math.min(nextExpiry, entity.getExpiresAt());
     }
 }
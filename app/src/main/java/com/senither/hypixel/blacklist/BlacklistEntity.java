@@ -30,6 +30,7 @@ public class BlacklistEntity {
 
     private final long id;
     private final Carbon expiresIn;
+    private final long expiresAt;
     private final String reason;
 
     /**
@@ -43,6 +44,7 @@ public class BlacklistEntity {
         this.id = id;
         this.reason = reason;
         this.expiresIn = expiresIn;
+        this.expiresAt = expiresIn == null ? Long.MAX_VALUE : expiresIn.getTime().getTimeInMillis();
     }
 
     /**
@@ -72,7 +74,17 @@ public class BlacklistEntity {
      * @return <code>True</code> if the user is still blacklisted, <code>False</code> otherwise.
      */
     public boolean isBlacklisted() {
-        return expiresIn == null || expiresIn.isFuture();
+        return System.currentTimeMillis() <= expiresAt;
+    }
+
+    /**
+     * Gets the time in milliseconds for when the blacklist entity expires, entities
+     * that never expires will return {@link Long#MAX_VALUE} instead.
+     *
+     * @return The time in milliseconds for when the blacklist entity expires.
+     */
+    long getExpiresAt() {
+        return expiresAt;
     }
 
     /**
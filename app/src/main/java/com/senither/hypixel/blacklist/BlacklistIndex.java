@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.blacklist;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable open-addressing hash table mapping IDs to their blacklist entities, the
+ * table is never modified after it has been created, instead a new table is created
+ * for every change, allowing lookups to be done without any locks or allocations.
+ */
+class BlacklistIndex {
+
+    /**
+     * The empty blacklist index.
+     */
+    static final BlacklistIndex EMPTY = new BlacklistIndex(Collections.emptyList());
+
+    /**
+     * The minimum amount of slots in the table.
+     */
+    private static final int MIN_CAPACITY = 16;
+
+    private final long[] ids;
+    private final BlacklistEntity[] entities;
+    private final List<BlacklistEntity> entityList;
+    private final int mask;
+
+    /**
+     * Creates a new blacklist index with the given entities, if multiple entities
+     * has the same ID, the last entity with the ID will be used.
+     *
+     * @param entities The entities that should be added to the index.
+     */
+    BlacklistIndex(Collection<BlacklistEntity> entities) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < entities.size() * 2) {
+            capacity <<= 1;
+        }
+
+        this.ids = new long[capacity];
+        this.entities = new BlacklistEntity[capacity];
+        this.mask = capacity - 1;
+
+        for (BlacklistEntity entity : entities) {
+            int slot = findSlot(entity.getId());
+
+            this.ids[slot] = entity.getId();
+            this.entities[slot] = entity;
+        }
+
+        List<BlacklistEntity> entityList = new ArrayList<>();
+        for (BlacklistEntity entity : this.entities) {
+            if (entity != null) {
+                entityList.add(entity);
+            }
+        }
+        this.entityList = Collections.unmodifiableList(entityList);
+    }
+
+    /**
+     * Gets the blacklist entity with the given ID.
+     *
+     * @param id The ID of the entity that should be returned.
+     * @return Possibly-null, the blacklist entity with the given ID.
+     */
+    BlacklistEntity get(long id) {
+        return entities[findSlot(id)];
+    }
+
+    /**
+     * Creates a new index with the given entity added to it, replacing
+     * any existing entity with the same ID as the given entity.
+     *
+     * @param entity The entity that should be added to the index.
+     * @return The new blacklist index with the entity added.
+     */
+    BlacklistIndex with(BlacklistEntity entity) {
+        List<BlacklistEntity> entities = new ArrayList<>(entityList);
+        entities.add(entity);
+
+        return new BlacklistIndex(entities);
+    }
+
+    /**
+     * Creates a new index without the entity with the given ID.
+     *
+     * @param id The ID of the entity that should be removed from the index.
+     * @return The new blacklist index with the entity removed.
+     */
+    BlacklistIndex without(long id) {
+        List<BlacklistEntity> entities = new ArrayList<>(entityList);
+        entities.removeIf(entity -> entity.getId() == id);
+
+        return new BlacklistIndex(entities);
+    }
+
+    /**
+     * Gets all the entities in the index.
+     *
+     * @return An unmodifiable list of all the entities in the index.
+     */
+    List<BlacklistEntity> getEntities() {
+        return entityList;
+    }
+
+    /**
+     * Gets the amount of entities in the index.
+     *
+     * @return The amount of entities in the index.
+     */
+    int size() {
+        return entityList.size();
+    }
+
+    private int findSlot(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        int slot = (int) (hash ^ (hash >>> 32)) & mask;
+
+        while (entities[slot] != null && ids[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+}
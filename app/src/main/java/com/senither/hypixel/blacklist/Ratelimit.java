@@ -22,9 +22,6 @@
 
 package com.senither.hypixel.blacklist;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.senither.hypixel.chat.MessageFactory;
 import com.senither.hypixel.contracts.blacklist.PunishmentLevel;
 import com.senither.hypixel.time.Carbon;
@@ -35,9 +32,8 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 import java.awt.*;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 public class Ratelimit {
@@ -50,21 +46,21 @@ public class Ratelimit {
     static final int hitLimit = 10;
 
     /**
-     * This represents the amount of time in milliseconds that each
-     * hit should be valid for, if all hit slots for a given user
-     * is taken up, but one of the times exceeds the hit time
-     * limit, the rate limit won't count it as exceeding
-     * the rate limit.
+     * This represents the amount of time in milliseconds it takes for
+     * all the hits to become available again, hits are given back one
+     * at a time, so a user that is using commands at a steady pace
+     * below the limit will never exceed the rate limit.
      */
     static final long hitTime = 30 * 1000;
 
     /**
-     * The cache loader for holding all the ratelimiter rates.
+     * The amount of time in milliseconds after an entity has been punished, where
+     * any further hits will be ignored, commands are handled by their own thread
+     * pool, so it's possible to have multiple commands from the same user
+     * come in at the same time, instead of punishing the user multiple
+     * times for the same offence, the extra hits are just ignored.
      */
-    public static final LoadingCache<Long, Rate> cache = CacheBuilder.newBuilder()
-        .recordStats()
-        .expireAfterWrite(hitTime, TimeUnit.MILLISECONDS)
-        .build(CacheLoader.from(Rate::new));
+    private static final long punishmentGracePeriod = 2500;
 
     /**
      * The slf4j logger instance.
@@ -73,10 +69,10 @@ public class Ratelimit {
 
     /**
      * The punishment level holder, this map holds all the users and their current
-     * punishment level, with each offence, the punishment level(value) will go
-     * up, increasing the time the user get auto-blacklisted for.
+     * punishment level, with each offence, the punishment level will go up,
+     * increasing the time the user get auto-blacklisted for.
      */
-    private static final Map<Long, Integer> punishments = new HashMap<>();
+    private static final ConcurrentHashMap<Long, Offence> punishments = new ConcurrentHashMap<>();
 
     /**
      * The punishment levels, each index of the levels list should be an
@@ -96,6 +92,11 @@ public class Ratelimit {
      */
     private final Blacklist blacklist;
 
+    /**
+     * The token bucket limiter holding the hits for each user and guild.
+     */
+    private final TokenBucketLimiter limiter;
+
     /**
      * Creates a new ratelimit instance for the given blacklist.
      *
@@ -103,6 +104,16 @@ public class Ratelimit {
      */
     Ratelimit(Blacklist blacklist) {
         this.blacklist = blacklist;
+        this.limiter = new TokenBucketLimiter(hitLimit, hitTime, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gets the token bucket limiter used to track the hits for each user and guild.
+     *
+     * @return The token bucket limiter used by the ratelimit.
+     */
+    public TokenBucketLimiter getLimiter() {
+        return limiter;
     }
 
     /**
@@ -149,35 +160,15 @@ public class Ratelimit {
      */
     @Nullable
     public Carbon hit(long id) {
-        Rate rate = cache.getUnchecked(id);
-        if (rate == null) {
-            // This should never happen, if it does we'll just return
-            // null to not block any commands by a valid user.
+        if (limiter.tryAcquire(id)) {
             return null;
         }
 
-        //noinspection SynchronizationOnLocalVariableOrMethodParameter
-        synchronized (rate) {
-            rate.hit();
-
-            if (rate.getHits() < hitLimit) {
-                return null;
-            }
-        }
-
-        Long last = rate.getLast();
-
-        // Checks if the user was blacklisted within the last two and half seconds,
-        // the command handling process uses its own thread pool, because of that
-        // it's possible to have two commands come in from the same user in a
-        // very quick succession, instead of punishing the user twice, we
-        // just cancel the blacklist hit here instead.
-        if (last != null && last < System.currentTimeMillis() - 2500) {
+        Carbon punishment = getPunishment(id);
+        if (punishment == null) {
             return null;
         }
 
-        Carbon punishment = getPunishment(id);
-
         log.info("{} has been added to the blacklist for excessive command usage, the blacklist expires {}.",
             id, punishment.toDayDateTimeString()
         );
@@ -192,14 +183,27 @@ public class Ratelimit {
      * increasing their punishment level in the process.
      *
      * @param userId The ID of the user that the punishment should be fetched for.
-     * @return The Carbon instance with the punishment expire time.
+     * @return Possibly-null, the Carbon instance with the punishment expire time, or
+     * <code>null</code> if the user was punished within the grace period.
      */
+    @Nullable
     private Carbon getPunishment(long userId) {
-        int level = punishments.getOrDefault(userId, -1) + 1;
+        long now = System.currentTimeMillis();
+
+        boolean[] punished = new boolean[]{true};
+        Offence current = punishments.merge(userId, new Offence(0, now), (previous, ignored) -> {
+            if (previous.time > now - punishmentGracePeriod) {
+                punished[0] = false;
+                return previous;
+            }
+            return new Offence(previous.level + 1, now);
+        });
 
-        punishments.put(userId, level);
+        if (!punished[0]) {
+            return null;
+        }
 
-        return getPunishment(level);
+        return getPunishment(current.level);
     }
 
     /**
@@ -215,4 +219,15 @@ public class Ratelimit {
         }
         return levels.get(level >= levels.size() ? levels.size() - 1 : level).generateTime();
     }
+
+    private static class Offence {
+
+        private final int level;
+        private final long time;
+
+        Offence(int level, long time) {
+            this.level = level;
+            this.time = time;
+        }
+    }
 }
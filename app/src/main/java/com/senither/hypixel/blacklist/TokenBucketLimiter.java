@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.blacklist;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TokenBucketLimiter {
+
+    /**
+     * The amount of bits used to store the tokens in the packed bucket state,
+     * the rest of the bits are used to store the time of the last refill.
+     */
+    private static final int TOKEN_BITS = 16;
+
+    /**
+     * The bit mask used to get the tokens from the packed bucket state.
+     */
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+
+    /**
+     * The bucket state used for buckets that has been removed by the timing
+     * wheel, threads that see this state will look up the bucket again.
+     */
+    private static final long REMOVED = -1L;
+
+    /**
+     * The amount of slots in the timing wheel, buckets are never scheduled
+     * more than one full refill ahead, which is {@link #TICKS_PER_WINDOW}
+     * ticks, so this just needs to be larger than that.
+     */
+    private static final int WHEEL_SIZE = 32;
+
+    /**
+     * The maximum amount of slots that is expired when the wheel is advanced, keeping
+     * this at half the wheel ensures buckets that are scheduled again during the
+     * expiry never ends up in a slot that is being expired, slots that are
+     * skipped will instead be expired the next time the wheel gets to them.
+     */
+    private static final int MAX_EXPIRED_SLOTS = WHEEL_SIZE / 2;
+
+    /**
+     * The amount of timing wheel ticks it takes to fully refill a bucket.
+     */
+    private static final int TICKS_PER_WINDOW = 8;
+
+    private final ConcurrentHashMap<Long, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final Queue<Long>[] wheel;
+    private final AtomicLong currentTick;
+
+    private final int capacity;
+    private final long refillInterval;
+    private final long tickDuration;
+
+    /**
+     * Creates a new token bucket limiter, where each key can be hit up to the given
+     * capacity at once, and where the tokens are refilled one at a time, so that
+     * an empty bucket is completely refilled over the given window.
+     *
+     * @param capacity The maximum amount of tokens a single bucket can hold.
+     * @param window   The amount of time it takes to refill an empty bucket.
+     * @param unit     The time unit for the window.
+     */
+    @SuppressWarnings("unchecked")
+    public TokenBucketLimiter(int capacity, long window, TimeUnit unit) {
+        if (capacity < 1 || capacity > TOKEN_MASK) {
+            throw new IllegalArgumentException("The capacity must be between 1 and " + TOKEN_MASK);
+        }
+
+        this.capacity = capacity;
+        this.refillInterval = Math.max(1, unit.toMillis(window) / capacity);
+        this.tickDuration = Math.max(1, (refillInterval * capacity) / TICKS_PER_WINDOW);
+
+        this.wheel = new Queue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.currentTick = new AtomicLong(System.currentTimeMillis() / tickDuration);
+    }
+
+    /**
+     * Tries to take a token from the bucket for the given key, buckets are
+     * created full the first time they're used, and are removed again
+     * by the timing wheel once they have been refilled.
+     *
+     * @param key The key for the user, guild, or command that should be hit.
+     * @return <code>True</code> if a token was taken, <code>False</code> if the bucket is empty.
+     */
+    public boolean tryAcquire(long key) {
+        long now = System.currentTimeMillis();
+        advance(now);
+
+        while (true) {
+            AtomicLong bucket = getBucket(key, now);
+
+            long state = bucket.get();
+            if (state == REMOVED) {
+                buckets.remove(key, bucket);
+                continue;
+            }
+
+            long refilled = refill(state, now);
+            int tokens = (int) (refilled & TOKEN_MASK);
+            if (tokens == 0) {
+                return false;
+            }
+
+            if (bucket.compareAndSet(state, refilled - 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gets the amount of milliseconds until the bucket for
+     * the given key will have at least one token again.
+     *
+     * @param key The key for the user, guild, or command that should be checked.
+     * @return The amount of milliseconds until the next token is available,
+     * or <code>0</code> if the bucket already has a token available.
+     */
+    public long getMillisUntilAvailable(long key) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            return 0L;
+        }
+
+        long state = bucket.get();
+        if (state == REMOVED) {
+            return 0L;
+        }
+
+        long now = System.currentTimeMillis();
+        long refilled = refill(state, now);
+        if ((refilled & TOKEN_MASK) > 0) {
+            return 0L;
+        }
+        return Math.max(0L, (refilled >>> TOKEN_BITS) + refillInterval - now);
+    }
+
+    /**
+     * Gets the amount of buckets that are currently being tracked by the limiter.
+     *
+     * @return The amount of buckets currently being tracked.
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong getBucket(long key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+
+        AtomicLong created = new AtomicLong(pack(now, capacity));
+        bucket = buckets.putIfAbsent(key, created);
+        if (bucket != null) {
+            return bucket;
+        }
+
+        schedule(key, now + refillInterval * capacity);
+
+        return created;
+    }
+
+    /**
+     * Refills the given bucket state up to the given time, the time of the last refill
+     * is only moved forward by the time used to create the new tokens, so partial
+     * progress towards the next token isn't lost between calls.
+     *
+     * @param state The packed bucket state that should be refilled.
+     * @param now   The current time in milliseconds.
+     * @return The packed refilled bucket state.
+     */
+    private long refill(long state, long now) {
+        long last = state >>> TOKEN_BITS;
+        int tokens = (int) (state & TOKEN_MASK);
+
+        if (tokens >= capacity || now <= last) {
+            return tokens >= capacity ? pack(Math.max(last, now), capacity) : state;
+        }
+
+        long newTokens = (now - last) / refillInterval;
+        if (newTokens == 0) {
+            return state;
+        }
+
+        if (tokens + newTokens >= capacity) {
+            return pack(now, capacity);
+        }
+        return pack(last + (newTokens * refillInterval), (int) (tokens + newTokens));
+    }
+
+    private long pack(long time, int tokens) {
+        return (time << TOKEN_BITS) | tokens;
+    }
+
+    private void schedule(long key, long deadline) {
+        long tick = Math.max(deadline / tickDuration + 1, currentTick.get() + 1);
+
+        wheel[(int) (tick % WHEEL_SIZE)].add(key);
+    }
+
+    /**
+     * Advances the timing wheel to the given time, the thread that manages to move the
+     * wheel forward is the one that expires the buckets in the slots it moved past,
+     * buckets that are refilled gets removed, while buckets that are still in use
+     * are scheduled again for the time they will be refilled.
+     *
+     * @param now The current time in milliseconds.
+     */
+    private void advance(long now) {
+        long tick = now / tickDuration;
+
+        long previousTick = currentTick.get();
+        if (tick <= previousTick || !currentTick.compareAndSet(previousTick, tick)) {
+            return;
+        }
+
+        long firstTick = Math.max(previousTick + 1, tick - MAX_EXPIRED_SLOTS + 1);
+        for (long i = firstTick; i <= tick; i++) {
+            expire(wheel[(int) (i % WHEEL_SIZE)], now);
+        }
+    }
+
+    private void expire(Queue<Long> slot, long now) {
+        Long key;
+        while ((key = slot.poll()) != null) {
+            AtomicLong bucket = buckets.get(key);
+            if (bucket == null) {
+                continue;
+            }
+
+            long state = bucket.get();
+            if (state == REMOVED) {
+                continue;
+            }
+
+            long refilled = refill(state, now);
+            int tokens = (int) (refilled & TOKEN_MASK);
+            if (tokens >= capacity && bucket.compareAndSet(state, REMOVED)) {
+                buckets.remove(key, bucket);
+                continue;
+            }
+
+            long last = refilled >>> TOKEN_BITS;
+            schedule(key, last + ((capacity - tokens) * refillInterval));
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.chat;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class MessageTemplate {
+
+    /**
+     * The compiled message templates, cached by their source string.
+     */
+    public static final Cache<String, MessageTemplate> cache = CacheBuilder.newBuilder()
+        .recordStats()
+        .maximumSize(1000)
+        .expireAfterAccess(30, TimeUnit.MINUTES)
+        .build();
+
+    /**
+     * The maximum length of source strings that will be cached, messages longer than
+     * this are usually built dynamically for a single reply, like leaderboards
+     * and paginated lists, so they're compiled without being cached.
+     */
+    private static final int maxCachedLength = 512;
+
+    private final String source;
+    private final int[] placeholderStarts;
+
+    private MessageTemplate(String source, int[] placeholderStarts) {
+        this.source = source;
+        this.placeholderStarts = placeholderStarts;
+    }
+
+    /**
+     * Gets the compiled template for the given source string, using
+     * the cached template if the source has been compiled before.
+     *
+     * @param source The source string that the template should be created for.
+     * @return The compiled message template for the given source string.
+     */
+    public static MessageTemplate of(String source) {
+        if (source.length() > maxCachedLength) {
+            return compile(source);
+        }
+
+        try {
+            return cache.get(source, () -> compile(source));
+        } catch (ExecutionException e) {
+            return compile(source);
+        }
+    }
+
+    /**
+     * Compiles the given source string into a template, the template stores the
+     * position of every placeholder in the source, the text between the
+     * placeholders are then copied as-is when the template is rendered.
+     *
+     * @param source The source string that should be compiled.
+     * @return The compiled message template for the given source string.
+     */
+    static MessageTemplate compile(String source) {
+        int[] placeholderStarts = new int[8];
+        int placeholders = 0;
+
+        for (int i = source.indexOf(':'); i >= 0; i = source.indexOf(':', i + 1)) {
+            if (i + 1 >= source.length()) {
+                break;
+            }
+
+            if (placeholders == placeholderStarts.length) {
+                placeholderStarts = Arrays.copyOf(placeholderStarts, placeholders * 2);
+            }
+            placeholderStarts[placeholders++] = i;
+        }
+
+        return new MessageTemplate(source, Arrays.copyOf(placeholderStarts, placeholders));
+    }
+
+    /**
+     * Renders the template using the given placeholders, each placeholder in the
+     * template is replaced by the value of the longest key that matches it,
+     * placeholders without any matching key are left as they are.
+     *
+     * @param placeholders The placeholder keys and their values.
+     * @return The rendered message.
+     */
+    public String render(Map<String, String> placeholders) {
+        if (placeholderStarts.length == 0 || placeholders.isEmpty()) {
+            return source;
+        }
+
+        String[] keys = new String[placeholders.size()];
+        String[] values = new String[keys.length];
+
+        int capacity = source.length();
+        int index = 0;
+        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
+            keys[index] = entry.getKey();
+            values[index++] = entry.getValue();
+
+            if (entry.getValue() != null) {
+                capacity += entry.getValue().length();
+            }
+        }
+
+        StringBuilder message = new StringBuilder(capacity);
+
+        int position = 0;
+        for (int start : placeholderStarts) {
+            if (start < position) {
+                continue;
+            }
+
+            int match = -1;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == null || values[i] == null || (match >= 0 && keys[i].length() <= keys[match].length())) {
+                    continue;
+                }
+
+                if (source.startsWith(keys[i], start + 1)) {
+                    match = i;
+                }
+            }
+
+            if (match < 0) {
+                continue;
+            }
+
+            message.append(source, position, start).append(values[match]);
+            position = start + 1 + keys[match].length();
+        }
+
+        if (position == 0) {
+            return source;
+        }
+
+        return message.append(source, position, source.length()).toString();
+    }
+
+    /**
+     * Gets the source string the template was compiled from.
+     *
+     * @return The source string the template was compiled from.
+     */
+    public String getSource() {
+        return source;
+    }
+}
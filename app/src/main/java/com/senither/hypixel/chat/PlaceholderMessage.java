@@ -22,16 +22,13 @@
 package com.senither.hypixel.chat;
 
 import com.senither.hypixel.contracts.chat.Restable;
-import com.senither.hypixel.utils.StringReplacementUtil;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.MessageChannel;
 import net.dv8tion.jda.api.entities.MessageEmbed;
 
 import java.awt.*;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 public class PlaceholderMessage extends Restable {
@@ -165,23 +162,15 @@ public class PlaceholderMessage extends Restable {
     }
 
     private String formatMessage() {
-        if (placeholders.isEmpty()) {
+        if (message == null || placeholders.isEmpty()) {
             return trimString(
                 formatGlobalMessage(message),
                 MessageEmbed.TEXT_MAX_LENGTH
             );
         }
 
-        List<String> keys = new ArrayList<>(placeholders.keySet());
-        keys.sort((o1, o2) -> o2.length() - o1.length());
-        keys.forEach(key -> {
-            message = StringReplacementUtil.replaceAll(
-                message, ":" + key, placeholders.get(key)
-            );
-        });
-
         return trimString(
-            formatGlobalMessage(message),
+            formatGlobalMessage(MessageTemplate.of(message).render(placeholders)),
             MessageEmbed.TEXT_MAX_LENGTH
         );
     }
@@ -21,11 +21,13 @@
 
 package com.senither.hypixel.chat;
 
+import com.senither.hypixel.contracts.chat.PageLoader;
 import com.senither.hypixel.contracts.chat.Paginator;
 
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntFunction;
 
 public class SimplePaginator<T> extends Paginator<T> {
 
@@ -63,6 +65,14 @@ public class SimplePaginator<T> extends Paginator<T> {
         this(iterator, perPage, 1);
     }
 
+    public SimplePaginator(int total, PageLoader<T> loader, int perPage, int currentPage) {
+        super(total, loader, perPage, currentPage);
+    }
+
+    public SimplePaginator(int total, IntFunction<T> supplier, int perPage, int currentPage) {
+        super(total, supplier, perPage, currentPage);
+    }
+
     public String generateFooter(String command) {
         return String.format("Page **%s** out of **%s** pages.\n`%s [page]`",
             getCurrentPage(),
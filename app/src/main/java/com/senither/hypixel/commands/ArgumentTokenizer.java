@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.commands;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ArgumentTokenizer {
+
+    private ArgumentTokenizer() {
+        // This class should never be instantiated.
+    }
+
+    /**
+     * Splits the given string into arguments in a single pass, arguments are separated
+     * by whitespace, while text wrapped in quotes on a single line is kept together
+     * as one argument, quotes are removed from all the arguments, and two quotes
+     * right next to each other will result in an empty argument.
+     *
+     * @param string The string that should be split into arguments.
+     * @return The arguments from the given string.
+     */
+    @Nonnull
+    public static String[] tokenize(@Nonnull String string) {
+        List<String> arguments = new ArrayList<>();
+
+        // Two quotes right next to each other are read as an empty argument, so a space
+        // is added between them, allowing them to be matched as a quoted argument.
+        if (string.contains("\"\"")) {
+            string = string.replace("\"\"", "\" \"");
+        }
+
+        int length = string.length();
+        int index = 0;
+
+        while (index < length) {
+            int end = string.charAt(index) == '"'
+                ? findClosingQuote(string, index)
+                : findEndOfWord(string, index + 1);
+
+            // The quote was never closed on the same line, so it's skipped
+            // and the text that comes after it is read as normal words.
+            if (end < 0) {
+                index++;
+                continue;
+            }
+
+            arguments.add(createArgument(string, index, end));
+
+            index = end;
+            while (index < length && isWhitespace(string.charAt(index))) {
+                index++;
+            }
+        }
+
+        return arguments.toArray(new String[0]);
+    }
+
+    private static int findEndOfWord(String string, int index) {
+        while (index < string.length() && !isWhitespace(string.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int findClosingQuote(String string, int start) {
+        for (int index = start + 1; index < string.length(); index++) {
+            char character = string.charAt(index);
+            if (isLineTerminator(character)) {
+                return -1;
+            }
+
+            if (character == '"' && index > start + 1) {
+                return index + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static String createArgument(String string, int start, int end) {
+        while (start < end && string.charAt(start) <= ' ') {
+            start++;
+        }
+
+        while (end > start && string.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        if (string.indexOf('"', start) < 0 || string.indexOf('"', start) >= end) {
+            return string.substring(start, end);
+        }
+
+        StringBuilder builder = new StringBuilder(end - start);
+        for (int index = start; index < end; index++) {
+            char character = string.charAt(index);
+            if (character != '"') {
+                builder.append(character);
+            }
+        }
+        return builder.toString().trim();
+    }
+
+    private static boolean isWhitespace(char character) {
+        return character == ' '
+            || character == '\t'
+            || character == '\n'
+            || character == '\u000B'
+            || character == '\f'
+            || character == '\r';
+    }
+
+    private static boolean isLineTerminator(char character) {
+        return character == '\n'
+            || character == '\r'
+            || character == '\u0085'
+            || character == '\u2028'
+            || character == '\u2029';
+    }
+}
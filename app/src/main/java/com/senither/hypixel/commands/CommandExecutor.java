@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.commands;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.senither.hypixel.metrics.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CommandExecutor {
+
+    /**
+     * The maximum amount of commands that can be executed at the same time across all guilds.
+     */
+    public static final int MAX_CONCURRENT_COMMANDS = 12;
+
+    /**
+     * The maximum amount of commands that can be queued or running across all guilds.
+     */
+    public static final int MAX_PENDING_COMMANDS = 200;
+
+    /**
+     * The maximum amount of commands that can be executed at the same time for a single guild.
+     */
+    public static final int MAX_CONCURRENT_GUILD_COMMANDS = 2;
+
+    /**
+     * The maximum amount of commands that can be queued or running for a single guild.
+     */
+    public static final int MAX_PENDING_GUILD_COMMANDS = 6;
+
+    private static final Logger log = LoggerFactory.getLogger(CommandExecutor.class);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(MAX_CONCURRENT_COMMANDS, new ThreadFactoryBuilder()
+        .setNameFormat("command-executor-%d")
+        .setDaemon(true)
+        .build()
+    );
+
+    private final ConcurrentHashMap<Long, GuildQueue> guildQueues = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger(0);
+
+    /**
+     * Queues the given command for the given guild, the command will be executed as soon as
+     * the guild and the executor has room for it, if either the guild or the executor
+     * already has too many commands waiting to run, the command is rejected.
+     *
+     * @param guildId The ID of the guild the command was invoked in.
+     * @param command The command that should be executed.
+     * @return {@code true} if the command was queued, {@code false} if it was rejected.
+     */
+    public boolean submit(long guildId, @Nonnull Runnable command) {
+        if (pending.incrementAndGet() > MAX_PENDING_COMMANDS) {
+            pending.decrementAndGet();
+            Metrics.commandsRejected.labels("global").inc();
+
+            return false;
+        }
+
+        Task task = new Task(guildId, command);
+        while (true) {
+            GuildQueue queue = guildQueues.computeIfAbsent(guildId, id -> new GuildQueue());
+
+            synchronized (queue) {
+                // The queue was removed after it was emptied by another thread,
+                // so we'll try again, which will create a new queue for the guild.
+                if (queue.removed) {
+                    continue;
+                }
+
+                if (queue.running + queue.tasks.size() >= MAX_PENDING_GUILD_COMMANDS) {
+                    pending.decrementAndGet();
+                    Metrics.commandsRejected.labels("guild").inc();
+
+                    return false;
+                }
+
+                Metrics.commandQueueDepth.set(pending.get());
+
+                if (queue.running < MAX_CONCURRENT_GUILD_COMMANDS) {
+                    queue.running++;
+                    dispatch(queue, task);
+                } else {
+                    queue.tasks.add(task);
+                }
+                return true;
+            }
+        }
+    }
+
+    public int getPendingCommands() {
+        return pending.get();
+    }
+
+    private void dispatch(GuildQueue queue, Task task) {
+        try {
+            executor.execute(() -> run(queue, task));
+        } catch (RejectedExecutionException e) {
+            log.error("The command executor rejected a command for guild {}, error: {}",
+                task.guildId, e.getMessage(), e
+            );
+
+            finish(queue, task);
+        }
+    }
+
+    private void run(GuildQueue queue, Task task) {
+        Metrics.commandQueueWaitTime.observe((System.nanoTime() - task.queuedAt) / 1E9D);
+
+        try {
+            task.command.run();
+        } catch (Exception e) {
+            log.error("An exception were thrown while running a queued command for guild {}, error: {}",
+                task.guildId, e.getMessage(), e
+            );
+        } finally {
+            finish(queue, task);
+        }
+    }
+
+    private void finish(GuildQueue queue, Task task) {
+        Metrics.commandQueueDepth.set(pending.decrementAndGet());
+
+        synchronized (queue) {
+            Task next = queue.tasks.poll();
+            if (next != null) {
+                dispatch(queue, next);
+                return;
+            }
+
+            if (--queue.running == 0) {
+                queue.removed = true;
+                guildQueues.remove(task.guildId, queue);
+            }
+        }
+    }
+
+    private static class GuildQueue {
+
+        private final Queue<Task> tasks = new ArrayDeque<>();
+        private int running = 0;
+        private boolean removed = false;
+    }
+
+    private static class Task {
+
+        private final long guildId;
+        private final Runnable command;
+        private final long queuedAt;
+
+        Task(long guildId, Runnable command) {
+            this.guildId = guildId;
+            this.command = command;
+            this.queuedAt = System.nanoTime();
+        }
+    }
+}
@@ -21,6 +21,8 @@
 
 package com.senither.hypixel.commands;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.senither.hypixel.Constants;
 import com.senither.hypixel.SkyblockAssistant;
 import com.senither.hypixel.chat.MessageFactory;
@@ -40,81 +42,130 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.TimeUnit;
 
 public class CommandManager {
 
     private static final Logger log = LoggerFactory.getLogger(CommandManager.class);
     private static final Set<CommandContainer> commands = new HashSet<>();
-    private static final Pattern argumentsRegEX = Pattern.compile("([^\"]\\S*|\".+?\")\\s*", Pattern.MULTILINE);
-    private static final List<Middleware> middlewares = Arrays.asList(
+    private static final Map<String, CommandContainer> triggers = new HashMap<>();
+
+    /**
+     * The middlewares that are cheap enough to run on the event thread, these are handled
+     * before the command is queued, so blacklisted and throttled users never take up
+     * any room on the command executor, or get told that the bot is busy.
+     */
+    private static final List<Middleware> queueMiddlewares = Arrays.asList(
         new BlacklistMiddleware(),
-        new VerificationMiddleware(),
         new ThrottleMiddleware()
     );
 
+    /**
+     * The middlewares that may have to look things up from the database or the
+     * Hypixel API, these are handled on the command executor with the command.
+     */
+    private static final List<Middleware> middlewares = Collections.singletonList(
+        new VerificationMiddleware()
+    );
+
+    /**
+     * The users that was recently told that the bot is too busy to run their command,
+     * used to only send the busy message once every few seconds to each user.
+     */
+    private static final Cache<Long, Boolean> busyMessageCache = CacheBuilder.newBuilder()
+        .recordStats()
+        .expireAfterWrite(5, TimeUnit.SECONDS)
+        .build();
+
     private final SkyblockAssistant app;
+    private final CommandExecutor executor;
 
     public CommandManager(SkyblockAssistant app) {
         this.app = app;
+        this.executor = new CommandExecutor();
     }
 
     @Nullable
     public CommandContainer getCommand(@Nonnull String message) {
-        if (!message.toLowerCase().startsWith(Constants.COMMAND_PREFIX)) {
+        int prefixLength = Constants.COMMAND_PREFIX.length();
+        if (!message.regionMatches(true, 0, Constants.COMMAND_PREFIX, 0, prefixLength)) {
             return null;
         }
 
-        String first = message.split(" ")[0];
-        for (CommandContainer container : commands) {
-            for (String trigger : container.getTriggers()) {
-                if (first.equalsIgnoreCase(Constants.COMMAND_PREFIX + trigger)) {
-                    return container;
-                }
-            }
-        }
-        return null;
+        int end = message.indexOf(' ');
+        return triggers.get(
+            message.substring(prefixLength, end < 0 ? message.length() : end).toLowerCase(Locale.ROOT)
+        );
     }
 
     public void registerCommand(@Nonnull Command command) {
-        for (CommandContainer registeredCommand : commands) {
-            for (String registeredCommandTrigger : registeredCommand.getTriggers()) {
-                for (String trigger : command.getTriggers()) {
-                    if (registeredCommandTrigger.equalsIgnoreCase(trigger)) {
-                        throw new CommandAlreadyRegisteredException(command, trigger);
-                    }
-                }
+        for (String trigger : command.getTriggers()) {
+            if (triggers.containsKey(trigger.toLowerCase(Locale.ROOT))) {
+                throw new CommandAlreadyRegisteredException(command, trigger);
             }
         }
-        commands.add(new CommandContainer(command));
+
+        CommandContainer container = new CommandContainer(command);
+        for (String trigger : command.getTriggers()) {
+            triggers.put(trigger.toLowerCase(Locale.ROOT), container);
+        }
+        commands.add(container);
     }
 
+    /**
+     * Queues the given command to be invoked on the command executor, the blacklist and throttle
+     * middlewares are handled and the message is split into arguments right away, while the
+     * remaining middlewares and the command itself are executed once the command executor
+     * has room for the command, if the executor is too busy the user is told to try again.
+     *
+     * @param event                  The message event that invoked the command.
+     * @param command                The command that should be invoked.
+     * @param invokedThroughMentions {@code true} if the command was invoked by mentioning the bot.
+     */
     public void invokeCommand(@Nonnull MessageReceivedEvent event, @Nonnull Command command, boolean invokedThroughMentions) {
         Metrics.commandsReceived.labels(command.getClass().getSimpleName()).inc();
-        Histogram.Timer timer = Metrics.executionTime.labels(command.getClass().getSimpleName()).startTimer();
 
         try {
-            String[] arguments = toArguments(event.getMessage().getContentRaw());
+            if (!handleMiddlewares(queueMiddlewares, event, command)) {
+                return;
+            }
+        } catch (Exception e) {
+            logCommandException(command, e);
+            return;
+        }
+
+        String[] arguments = ArgumentTokenizer.tokenize(event.getMessage().getContentRaw());
+        String[] commandArguments = Arrays.copyOfRange(
+            arguments, Math.min(invokedThroughMentions ? 2 : 1, arguments.length), arguments.length
+        );
 
-            for (Middleware middleware : middlewares) {
-                if (!middleware.handle(app, event, command)) {
-                    return;
-                }
+        if (executor.submit(event.getGuild().getIdLong(), () -> executeCommand(event, command, commandArguments))) {
+            return;
+        }
+
+        if (busyMessageCache.asMap().putIfAbsent(event.getAuthor().getIdLong(), true) == null) {
+            MessageFactory.makeWarning(event.getMessage(),
+                "I'm a bit busy right now with other commands, please try again in a few seconds."
+            ).queue();
+        }
+    }
+
+    private void executeCommand(@Nonnull MessageReceivedEvent event, @Nonnull Command command, @Nonnull String[] arguments) {
+        Histogram.Timer timer = Metrics.executionTime.labels(command.getClass().getSimpleName()).startTimer();
+
+        try {
+            if (!handleMiddlewares(middlewares, event, command)) {
+                return;
             }
 
-            command.onCommand(event, Arrays.copyOfRange(arguments, invokedThroughMentions ? 2 : 1, arguments.length));
+            command.onCommand(event, arguments);
 
             Metrics.commandsExecuted.labels(command.getClass().getSimpleName()).inc();
             Metrics.commandsExecutedByGuild.labels(event.getGuild().getName()).inc();
         } catch (FriendlyException e) {
             MessageFactory.makeError(event.getMessage(), e.getMessage()).queue();
         } catch (Exception e) {
-            Metrics.commandExceptions.labels(e.getClass().getSimpleName()).inc();
-
-            log.error("The {} command threw an {} exception, error: {}",
-                command.getClass().getSimpleName(), e.getClass().getSimpleName(), e.getMessage(), e
-            );
+            logCommandException(command, e);
         } finally {
             if (timer != null) {
                 timer.observeDuration();
@@ -122,20 +173,24 @@ public class CommandManager {
         }
     }
 
-    public Set<CommandContainer> getCommands() {
-        return commands;
+    private boolean handleMiddlewares(@Nonnull List<Middleware> middlewares, @Nonnull MessageReceivedEvent event, @Nonnull Command command) throws Exception {
+        for (Middleware middleware : middlewares) {
+            if (!middleware.handle(app, event, command)) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private String[] toArguments(String string) {
-        List<String> arguments = new ArrayList<>();
+    private void logCommandException(@Nonnull Command command, @Nonnull Exception e) {
+        Metrics.commandExceptions.labels(e.getClass().getSimpleName()).inc();
 
-        Matcher matcher = argumentsRegEX.matcher(string.replaceAll("\"\"", "\" \""));
-        while (matcher.find()) {
-            arguments.add(matcher.group(0)
-                .replaceAll("\"", "")
-                .trim());
-        }
+        log.error("The {} command threw an {} exception, error: {}",
+            command.getClass().getSimpleName(), e.getClass().getSimpleName(), e.getMessage(), e
+        );
+    }
 
-        return arguments.toArray(new String[0]);
+    public Set<CommandContainer> getCommands() {
+        return commands;
     }
 }
@@ -1,13 +1,19 @@
 package com.senither.hypixel.commands;
 
+import com.senither.hypixel.blacklist.TokenBucketLimiter;
+
+import java.util.concurrent.TimeUnit;
+
 public class ThrottleContainer {
 
     private final int maxAttempts;
     private final int decaySeconds;
+    private final TokenBucketLimiter limiter;
 
     public ThrottleContainer(int maxAttempts, int decaySeconds) {
         this.maxAttempts = maxAttempts;
         this.decaySeconds = decaySeconds;
+        this.limiter = new TokenBucketLimiter(maxAttempts, decaySeconds, TimeUnit.SECONDS);
     }
 
     public int getMaxAttempts() {
@@ -17,4 +23,8 @@ public class ThrottleContainer {
     public int getDecaySeconds() {
         return decaySeconds;
     }
+
+    public TokenBucketLimiter getLimiter() {
+        return limiter;
+    }
 }
@@ -217,27 +217,40 @@ public class BanLogCommand extends Command {
             return;
         }
 
-        Collection query = app.getDatabaseManager().query(
-            "SELECT `ban_log`.`id`, `ban_log`.`reason`, `guilds`.`name`, `uuids`.`username` FROM `ban_log`" +
-                "  LEFT JOIN `guilds` ON `ban_log`.`discord_id` = `guilds`.`discord_id`" +
-                "  LEFT JOIN `uuids` ON `ban_log`.`uuid` = `uuids`.`uuid`" +
-                "WHERE `name` = ?" +
-                "GROUP BY `username`" +
-                "ORDER BY `username`",
+        final String entriesQuery = "SELECT `ban_log`.`id`, `ban_log`.`reason`, `guilds`.`name`, `uuids`.`username` FROM `ban_log`" +
+            "  LEFT JOIN `guilds` ON `ban_log`.`discord_id` = `guilds`.`discord_id`" +
+            "  LEFT JOIN `uuids` ON `ban_log`.`uuid` = `uuids`.`uuid`" +
+            "WHERE `name` = ?" +
+            "GROUP BY `username`" +
+            "ORDER BY `username`";
+
+        Collection countQuery = app.getDatabaseManager().query(
+            "SELECT COUNT(*) AS `total` FROM (" + entriesQuery + ") AS `entries`",
             name
         );
 
-        if (query.isEmpty()) {
+        int total = countQuery.isEmpty() ? 0 : countQuery.first().getInt("total");
+        if (total == 0) {
             MessageFactory.makeWarning(event.getMessage(),
                 "Found no ban-log entries for a guild called **:name**!"
             ).set("name", name).queue();
             return;
         }
 
+        int perPage = 5;
+        int currentPage = Math.max(1, Math.min((total + perPage - 1) / perPage, page));
+
+        // The database manager binds every value as a string, which MySQL doesn't
+        // accept for the limit clause, so the offset and limit are added directly.
+        List<DataRow> entries = app.getDatabaseManager().query(
+            entriesQuery + String.format(" LIMIT %d, %d", (currentPage - 1) * perPage, perPage), name
+        ).getItems();
+
+        SimplePaginator<DataRow> paginator = new SimplePaginator<>(total, (offset, limit) -> entries, perPage, currentPage);
+
         PlaceholderMessage message = MessageFactory.makeInfo(event.getMessage(), "")
             .setTitle("Ban Log entries from \"" + name + "\"");
 
-        SimplePaginator<DataRow> paginator = new SimplePaginator<>(query.getItems(), 5, page);
         paginator.forEach((index, key, val) -> {
             message.addField(String.format("#%s - %s",
                 val.getLong("id"),
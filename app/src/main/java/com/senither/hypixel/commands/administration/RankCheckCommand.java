@@ -42,8 +42,9 @@ import net.hypixel.api.reply.PlayerReply;
 import net.hypixel.api.reply.skyblock.SkyBlockProfileReply;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 public class RankCheckCommand extends SkillCommand {
 
@@ -139,45 +140,50 @@ public class RankCheckCommand extends SkillCommand {
             .set("user", getUsernameFromPlayer(playerReply))
             .setTimestamp(Carbon.now().setTimestamp(member.get("last_save").getAsLong() / 1000L).getTime().toInstant());
 
-        HashMap<RankRequirementType, GuildReply.Guild.Rank> rankQualifiers = new HashMap<>();
+        EnumMap<RankRequirementType, CompletableFuture<RankCheckResponse>> checks = new EnumMap<>(RankRequirementType.class);
+        for (RankRequirementType type : RankRequirementType.values()) {
+            checks.put(type, type.getChecker().getRankForUserAsync(guildEntry, guildReply, profileReply, uuid));
+        }
+
+        EnumMap<RankRequirementType, GuildReply.Guild.Rank> rankQualifiers = new EnumMap<>(RankRequirementType.class);
 
         placeholderMessage
             .addField(RankRequirementType.FAIRY_SOULS.getName(), getRankForType(
-                rankQualifiers, RankRequirementType.FAIRY_SOULS, guildEntry, guildReply, profileReply, uuid, response -> {
+                rankQualifiers, RankRequirementType.FAIRY_SOULS, checks, response -> {
                     return formatRank(response) + NumberUtil.formatNicelyWithDecimals(
                         (Integer) response.getMetric().getOrDefault("amount", 0)
                     ) + " Fairy Souls";
                 }
             ), true)
             .addField(RankRequirementType.AVERAGE_SKILLS.getName(), getRankForType(
-                rankQualifiers, RankRequirementType.AVERAGE_SKILLS, guildEntry, guildReply, profileReply, uuid, response -> {
+                rankQualifiers, RankRequirementType.AVERAGE_SKILLS, checks, response -> {
                     return formatRank(response) + NumberUtil.formatNicelyWithDecimals(
                         (Double) response.getMetric().getOrDefault("amount", 0D)
                     ) + " Average Skill";
                 }
             ), true)
             .addField(RankRequirementType.SLAYER.getName(), getRankForType(
-                rankQualifiers, RankRequirementType.SLAYER, guildEntry, guildReply, profileReply, uuid, response -> {
+                rankQualifiers, RankRequirementType.SLAYER, checks, response -> {
                     return formatRank(response) + NumberUtil.formatNicely(
                         (Long) response.getMetric().getOrDefault("amount", 0)
                     ) + " Total XP";
                 }
             ), true)
             .addField(RankRequirementType.BANK.getName(), getRankForType(
-                rankQualifiers, RankRequirementType.BANK, guildEntry, guildReply, profileReply, uuid, response -> {
+                rankQualifiers, RankRequirementType.BANK, checks, response -> {
                     return formatRank(response) + NumberUtil.formatNicely(
                         (Integer) response.getMetric().getOrDefault("amount", 0)
                     ) + " Coins";
                 }
             ), true)
             .addField(RankRequirementType.ARMOR.getName(), getRankForType(
-                rankQualifiers, RankRequirementType.ARMOR, guildEntry, guildReply, profileReply, uuid, this::formatRank
+                rankQualifiers, RankRequirementType.ARMOR, checks, this::formatRank
             ), true)
             .addField(RankRequirementType.WEAPONS.getName(), getRankForType(
-                rankQualifiers, RankRequirementType.WEAPONS, guildEntry, guildReply, profileReply, uuid, this::formatRank
+                rankQualifiers, RankRequirementType.WEAPONS, checks, this::formatRank
             ), true)
             .addField(RankRequirementType.TALISMANS.getName(), getRankForType(
-                rankQualifiers, RankRequirementType.TALISMANS, guildEntry, guildReply, profileReply, uuid, response -> {
+                rankQualifiers, RankRequirementType.TALISMANS, checks, response -> {
                     int legendaries = (int) response.getMetric().get("legendaries");
                     int epics = (int) response.getMetric().get("epics");
 
@@ -185,43 +191,14 @@ public class RankCheckCommand extends SkillCommand {
                 }
             ), true)
             .addField(RankRequirementType.POWER_ORBS.getName(), getRankForType(
-                rankQualifiers, RankRequirementType.POWER_ORBS, guildEntry, guildReply, profileReply, uuid, response -> {
+                rankQualifiers, RankRequirementType.POWER_ORBS, checks, response -> {
                     PowerOrb powerOrb = (PowerOrb) response.getMetric().get("item");
 
                     return formatRank(response) + powerOrb.getName();
                 }
             ), true);
 
-        GuildReply.Guild.Rank rankQualifier = null;
-        List<GuildReply.Guild.Rank> sortedRanks = guildReply.getGuild().getRanks().stream()
-            .sorted((o1, o2) -> o2.getPriority() - o1.getPriority())
-            .collect(Collectors.toList());
-
-        RANK_LOOP:
-        for (GuildReply.Guild.Rank rank : sortedRanks) {
-            if (!guildEntry.getRankRequirements().containsKey(rank.getName())) {
-                continue;
-            }
-
-            GuildController.GuildEntry.RankRequirement requirements = guildEntry.getRankRequirements().get(rank.getName());
-            for (RankRequirementType type : RankRequirementType.values()) {
-                if (!type.getChecker().hasRequirementsSetup(requirements)) {
-                    continue;
-                }
-
-                if (!rankQualifiers.containsKey(type)) {
-                    continue RANK_LOOP;
-                }
-
-                GuildReply.Guild.Rank qualifierRank = rankQualifiers.get(type);
-                if (rank.getPriority() > qualifierRank.getPriority()) {
-                    continue RANK_LOOP;
-                }
-            }
-
-            rankQualifier = rank;
-            break;
-        }
+        GuildReply.Guild.Rank rankQualifier = guildEntry.getRankRequirementPlan(guildReply).resolveRank(rankQualifiers);
 
         placeholderMessage.set("note", rankQualifier == null
             ? "doesn't qualify for any rank!"
@@ -236,18 +213,13 @@ public class RankCheckCommand extends SkillCommand {
     }
 
     private String getRankForType(
-        HashMap<RankRequirementType, GuildReply.Guild.Rank> rankQualifiers,
+        EnumMap<RankRequirementType, GuildReply.Guild.Rank> rankQualifiers,
         RankRequirementType rankRequirementType,
-        GuildController.GuildEntry guildEntry,
-        GuildReply guildReply,
-        SkyBlockProfileReply profileReply,
-        UUID playerUUID,
+        EnumMap<RankRequirementType, CompletableFuture<RankCheckResponse>> checks,
         Function<RankCheckResponse, String> metricsCallback
     ) {
         try {
-            RankCheckResponse response = rankRequirementType.getChecker().getRankForUser(
-                guildEntry, guildReply, profileReply, playerUUID
-            );
+            RankCheckResponse response = checks.get(rankRequirementType).join();
 
             if (response == null || response.getRank() == null) {
                 return "_Unranked_";
@@ -260,12 +232,17 @@ public class RankCheckCommand extends SkillCommand {
                 return response.getRank().getName();
             }
             return metricMessage;
-        } catch (NoRankRequirementException e) {
-            return "_No Requirements!_";
-        } catch (FriendlyException e) {
-            return "_API is Disabled!_";
         } catch (Exception e) {
-            e.printStackTrace();
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof NoRankRequirementException) {
+                return "_No Requirements!_";
+            }
+
+            if (cause instanceof FriendlyException) {
+                return "_API is Disabled!_";
+            }
+
+            cause.printStackTrace();
             return "Unknown error occurred!";
         }
     }
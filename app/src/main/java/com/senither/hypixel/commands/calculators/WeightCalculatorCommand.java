@@ -1,12 +1,11 @@
 package com.senither.hypixel.commands.calculators;
 
-import com.google.gson.JsonObject;
 import com.senither.hypixel.SkyblockAssistant;
 import com.senither.hypixel.chat.MessageFactory;
 import com.senither.hypixel.chat.PlaceholderMessage;
 import com.senither.hypixel.contracts.commands.SkillCommand;
 import com.senither.hypixel.contracts.statistics.CanCalculateWeight;
-import com.senither.hypixel.statistics.StatisticsChecker;
+import com.senither.hypixel.statistics.ProfileStatistics;
 import com.senither.hypixel.statistics.responses.DungeonResponse;
 import com.senither.hypixel.statistics.responses.SkillsResponse;
 import com.senither.hypixel.statistics.responses.SlayerResponse;
@@ -59,15 +58,17 @@ public class WeightCalculatorCommand extends SkillCommand {
 
     @Override
     protected void handleSkyblockProfile(Message message, SkyBlockProfileReply profileReply, PlayerReply playerReply, String[] args) {
-        JsonObject member = getProfileMemberFromPlayer(profileReply, playerReply);
+        ProfileStatistics statistics = ProfileStatistics.of(
+            playerReply, profileReply, playerReply.getPlayer().get("uuid").getAsString()
+        );
 
         PlaceholderMessage placeholderMessage = MessageFactory.makeInfo(message,
             "**:name's** weight for their **:profile** profile is **:weight**."
         ).setTitle(message.getEmbeds().get(0).getTitle());
 
-        Weight skillWeight = applySkillWeight(placeholderMessage, profileReply, playerReply, member);
-        Weight slayerWeight = applySlayerWeight(placeholderMessage, profileReply, playerReply, member);
-        Weight dungeonWeight = applyDungeonWeight(placeholderMessage, profileReply, playerReply, member);
+        Weight skillWeight = applySkillWeight(placeholderMessage, statistics.getSkills());
+        Weight slayerWeight = applySlayerWeight(placeholderMessage, statistics.getSlayer());
+        Weight dungeonWeight = applyDungeonWeight(placeholderMessage, statistics.getDungeon());
 
         message.editMessage(placeholderMessage
             .set("name", getUsernameFromPlayer(playerReply))
@@ -81,8 +82,7 @@ public class WeightCalculatorCommand extends SkillCommand {
         ).queueAfter(250, TimeUnit.MILLISECONDS);
     }
 
-    private Weight applySkillWeight(PlaceholderMessage message, SkyBlockProfileReply profileReply, PlayerReply playerReply, JsonObject member) {
-        SkillsResponse skillsResponse = StatisticsChecker.SKILLS.checkUser(playerReply, profileReply, member);
+    private Weight applySkillWeight(PlaceholderMessage message, SkillsResponse skillsResponse) {
         if (!skillsResponse.isApiEnable()) {
             message.addField(
                 "Skills Weight (API is disabled)",
@@ -115,8 +115,7 @@ public class WeightCalculatorCommand extends SkillCommand {
         return totalWeight;
     }
 
-    private Weight applySlayerWeight(PlaceholderMessage message, SkyBlockProfileReply profileReply, PlayerReply playerReply, JsonObject member) {
-        SlayerResponse slayerResponse = StatisticsChecker.SLAYER.checkUser(playerReply, profileReply, member);
+    private Weight applySlayerWeight(PlaceholderMessage message, SlayerResponse slayerResponse) {
         if (!slayerResponse.isApiEnable()) {
             message.addField(
                 "Slayer Weight (No data)",
@@ -148,8 +147,7 @@ public class WeightCalculatorCommand extends SkillCommand {
         return totalWeight;
     }
 
-    private Weight applyDungeonWeight(PlaceholderMessage message, SkyBlockProfileReply profileReply, PlayerReply playerReply, JsonObject member) {
-        DungeonResponse dungeonResponse = StatisticsChecker.DUNGEON.checkUser(playerReply, profileReply, member);
+    private Weight applyDungeonWeight(PlaceholderMessage message, DungeonResponse dungeonResponse) {
         if (!dungeonResponse.hasData()) {
             message.addField(
                 "Dungeon Weight (No data)",
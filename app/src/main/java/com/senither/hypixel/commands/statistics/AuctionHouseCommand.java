@@ -6,6 +6,7 @@ import com.senither.hypixel.chat.MessageFactory;
 import com.senither.hypixel.chat.PlaceholderMessage;
 import com.senither.hypixel.chat.SimplePaginator;
 import com.senither.hypixel.contracts.commands.SkillCommand;
+import com.senither.hypixel.hypixel.auction.AuctionHouseIndex;
 import com.senither.hypixel.hypixel.response.AuctionHouseResponse;
 import com.senither.hypixel.time.Carbon;
 import com.senither.hypixel.utils.NumberUtil;
@@ -18,7 +19,6 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
 
 public class AuctionHouseCommand extends SkillCommand {
@@ -76,74 +76,63 @@ public class AuctionHouseCommand extends SkillCommand {
             return;
         }
 
-        if (auctions.getAuctions().isEmpty()) {
+        AuctionHouseIndex index = auctions.getIndex();
+        if (index.getUnclaimedCount() == 0) {
             sendNoAuctionsMessage(message, playerReply, profileReply);
             return;
         }
 
-        long totalUnclaimedAuctions = auctions.getAuctions()
-            .stream().filter(auction -> !auction.isClaimed())
-            .count();
-
-        if (totalUnclaimedAuctions == 0) {
-            sendNoAuctionsMessage(message, playerReply, profileReply);
-            return;
-        }
-
-        List<MessageEmbed.Field> messages = new ArrayList<>();
-        auctions.getAuctions().stream()
-            .filter(auction -> !auction.isClaimed())
-            .sorted(Comparator.comparingLong(AuctionHouseResponse.Auction::getEnd))
-            .forEachOrdered(auction -> {
-                String time = Carbon.now().addSeconds(
-                    Math.toIntExact((auction.getEnd() - System.currentTimeMillis()) / 1000)
-                ).diffForHumans(true);
-
-                String fieldMessage;
-
-                // If the auction has ended, we'll use this message.
-                if (auction.getEnd() <= System.currentTimeMillis()) {
-                    fieldMessage = String.format(
-                        "Sold for:     %s\n- This auction has already ended!",
-                        NumberUtil.formatNicely(auction.getHighestBidAmount()),
-                        time
-                    );
-                }
-                // If the auction has no bids
-                else if (auction.getBids().isEmpty()) {
-                    fieldMessage = String.format(
-                        "Starting Bid: %s\nEnds in:      %s",
-                        NumberUtil.formatNicely(auction.getStartingBid()),
-                        time
-                    );
-                }
-                // If the auction has not yet ended and has at least one bid
-                else {
-                    fieldMessage = String.format(
-                        "Current Bid:  %s\nTotal Bids:   %s\nEnds in:      %s",
-                        NumberUtil.formatNicely(auction.getHighestBidAmount()),
-                        NumberUtil.formatNicely(auction.getBids().size()),
-                        time
-                    );
-                }
-
-                messages.add(new MessageEmbed.Field(
-                    auction.getItemName(),
-                    String.format("```yml\n%s```", fieldMessage),
-                    false
-                ));
-            });
-
         int currentPage = 1;
         if (args.length > 0) {
             currentPage = NumberUtil.parseInt(args[0], 1);
         }
 
-        long totalUnclaimedCoins = auctions.getAuctions().stream()
-            .filter(auction -> !auction.isClaimed())
-            .filter(auction -> !auction.getBids().isEmpty())
-            .mapToLong(AuctionHouseResponse.Auction::getHighestBidAmount)
-            .sum();
+        SimplePaginator<AuctionHouseResponse.Auction> paginator = new SimplePaginator<>(
+            index.getUnclaimedAuctions(), 5, currentPage
+        );
+
+        List<MessageEmbed.Field> messages = new ArrayList<>();
+        paginator.forEach((position, key, auction) -> {
+            String time = Carbon.now().addSeconds(
+                Math.toIntExact((auction.getEnd() - System.currentTimeMillis()) / 1000)
+            ).diffForHumans(true);
+
+            String fieldMessage;
+
+            // If the auction has ended, we'll use this message.
+            if (auction.getEnd() <= System.currentTimeMillis()) {
+                fieldMessage = String.format(
+                    "Sold for:     %s\n- This auction has already ended!",
+                    NumberUtil.formatNicely(auction.getHighestBidAmount()),
+                    time
+                );
+            }
+            // If the auction has no bids
+            else if (auction.getBids().isEmpty()) {
+                fieldMessage = String.format(
+                    "Starting Bid: %s\nEnds in:      %s",
+                    NumberUtil.formatNicely(auction.getStartingBid()),
+                    time
+                );
+            }
+            // If the auction has not yet ended and has at least one bid
+            else {
+                fieldMessage = String.format(
+                    "Current Bid:  %s\nTotal Bids:   %s\nEnds in:      %s",
+                    NumberUtil.formatNicely(auction.getHighestBidAmount()),
+                    NumberUtil.formatNicely(auction.getBids().size()),
+                    time
+                );
+            }
+
+            messages.add(new MessageEmbed.Field(
+                auction.getItemName(),
+                String.format("```yml\n%s```", fieldMessage),
+                false
+            ));
+        });
+
+        long totalUnclaimedCoins = index.getUnclaimedCoins();
 
         String displayName = playerReply.getPlayer().get("displayname").getAsString();
 
@@ -156,9 +145,7 @@ public class AuctionHouseCommand extends SkillCommand {
                 profileReply.getProfile().get("cute_name").getAsString()
             ));
 
-        SimplePaginator<MessageEmbed.Field> paginator = new SimplePaginator<>(messages, 5, currentPage);
-
-        paginator.forEach((index, key, val) -> placeholderMessage.addField(val));
+        messages.forEach(placeholderMessage::addField);
 
         placeholderMessage.addField("", paginator.generateFooter(
             Constants.COMMAND_PREFIX + getTriggers().get(0) + " " + displayName
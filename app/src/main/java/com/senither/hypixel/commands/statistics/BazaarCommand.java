@@ -4,6 +4,8 @@ import com.senither.hypixel.SkyblockAssistant;
 import com.senither.hypixel.chat.MessageFactory;
 import com.senither.hypixel.chat.PlaceholderMessage;
 import com.senither.hypixel.contracts.commands.Command;
+import com.senither.hypixel.hypixel.bazaar.BazaarHistory;
+import com.senither.hypixel.hypixel.bazaar.BazaarPriceTable;
 import com.senither.hypixel.hypixel.bazaar.BazaarProduct;
 import com.senither.hypixel.hypixel.bazaar.BazaarProductReply;
 import com.senither.hypixel.utils.NumberUtil;
@@ -13,6 +15,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class BazaarCommand extends Command {
 
@@ -70,6 +73,8 @@ public class BazaarCommand extends Command {
             return;
         }
 
+        BazaarPriceTable prices = bazaarProducts.getPrices();
+
         String[] parts = String.join(" ", args).split("\\+");
         if (parts.length > 6) {
             MessageFactory.makeWarning(event.getMessage(),
@@ -84,7 +89,7 @@ public class BazaarCommand extends Command {
         PlaceholderMessage placeholderMessage = MessageFactory.makeInfo(event.getMessage(), "")
             .setTitle("Bazaar Summary");
 
-        for (String part : String.join(" ", args).split("\\+")) {
+        for (String part : parts) {
             int amount = 1;
             String[] split = part.trim().split(" ");
 
@@ -102,17 +107,15 @@ public class BazaarCommand extends Command {
                 return;
             }
 
-            BazaarProductReply.Product product = bazaarProducts.getProduct(bazaarProduct);
-
-            double buyPrice = product.getQuickStatus().getBuyPrice();
-            double sellPrice = product.getQuickStatus().getSellPrice();
+            double buyPrice = prices.getBuyPrice(bazaarProduct);
+            double sellPrice = prices.getSellPrice(bazaarProduct);
 
             totalBuy += buyPrice * amount;
             totalSell += sellPrice * amount;
 
             placeholderMessage.addField(
                 String.format("%sx %s", NumberUtil.formatNicely(amount), bazaarProduct.getName()),
-                createItemDescription(buyPrice, sellPrice, amount),
+                createItemDescription(bazaarProduct, buyPrice, sellPrice, amount),
                 false
             );
         }
@@ -124,24 +127,43 @@ public class BazaarCommand extends Command {
             ), false
         );
 
+        BazaarHistory history = app.getHypixel().getBazaarHistory();
+        if (history.size() > 1) {
+            long minutes = TimeUnit.MILLISECONDS.toMinutes(history.getTimestamp(0) - history.getTimestamp(history.size() - 1));
+
+            placeholderMessage.setFooter(String.format(
+                "Average prices are based on the last %s hours and %s minutes of Bazaar prices",
+                minutes / 60, minutes % 60
+            ));
+        }
+
         placeholderMessage.queue();
     }
 
-    private String createItemDescription(double buyPrice, double sellPrice, int amount) {
+    private String createItemDescription(BazaarProduct product, double buyPrice, double sellPrice, int amount) {
+        BazaarHistory history = app.getHypixel().getBazaarHistory();
+        boolean hasHistory = history.size() > 1;
+
         String totalSellPriceString = String.format("Sell %s Price: ", NumberUtil.formatNicely(amount));
+        int labelWidth = Math.max(totalSellPriceString.length(), hasHistory ? "Avg Sell Price: ".length() : 0);
 
         List<String> content = new ArrayList<>(Arrays.asList(
-            padSpaces("Buy 1 Price:", totalSellPriceString.length()) + NumberUtil.formatNicelyWithDecimals(buyPrice),
-            padSpaces("Sell 1 Price:", totalSellPriceString.length()) + NumberUtil.formatNicelyWithDecimals(sellPrice)
+            padSpaces("Buy 1 Price:", labelWidth) + NumberUtil.formatNicelyWithDecimals(buyPrice),
+            padSpaces("Sell 1 Price:", labelWidth) + NumberUtil.formatNicelyWithDecimals(sellPrice)
         ));
 
         if (amount > 1) {
             content.add(
-                padSpaces(String.format("Buy %s Price:", NumberUtil.formatNicely(amount)), totalSellPriceString.length())
+                padSpaces(String.format("Buy %s Price:", NumberUtil.formatNicely(amount)), labelWidth)
                     + NumberUtil.formatNicelyWithDecimals(buyPrice * amount)
             );
 
-            content.add(totalSellPriceString + NumberUtil.formatNicelyWithDecimals(sellPrice * amount));
+            content.add(padSpaces(totalSellPriceString, labelWidth) + NumberUtil.formatNicelyWithDecimals(sellPrice * amount));
+        }
+
+        if (hasHistory) {
+            content.add(padSpaces("Avg Buy Price:", labelWidth) + NumberUtil.formatNicelyWithDecimals(history.getAverageBuyPrice(product)));
+            content.add(padSpaces("Avg Sell Price:", labelWidth) + NumberUtil.formatNicelyWithDecimals(history.getAverageSellPrice(product)));
         }
 
         return String.format("```scala\n%s```", String.join("\n", content));
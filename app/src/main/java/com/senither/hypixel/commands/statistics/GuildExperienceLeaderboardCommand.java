@@ -124,16 +124,25 @@ public class GuildExperienceLeaderboardCommand extends Command {
             paginator.setCurrentPage(NumberUtil.parseInt(args[0], 1));
         }
 
+        List<UUID> pageUuids = new ArrayList<>();
+        paginator.forEach((index, key, val) -> pageUuids.add(UUID.fromString(key.toString())));
+
+        Map<UUID, String> usernames = new HashMap<>();
+        try {
+            usernames = app.getHypixel().getUsernamesFromUuids(pageUuids);
+        } catch (SQLException ignored) {
+            //
+        }
+
+        final Map<UUID, String> pageUsernames = usernames;
+
         StringBuilder embedDescription = new StringBuilder();
         paginator.forEach((index, key, val) -> {
-            String usernameFromUuid = "-- Unavailable Username --";
-            try {
-                usernameFromUuid = app.getHypixel().getUsernameFromUuid(UUID.fromString(key.toString()));
-                if (usernameFromUuid.startsWith("_")) {
-                    usernameFromUuid = "\\" + usernameFromUuid;
-                }
-            } catch (SQLException ignored) {
-                //
+            String usernameFromUuid = pageUsernames.getOrDefault(
+                UUID.fromString(key.toString()), "-- Unavailable Username --"
+            );
+            if (usernameFromUuid.startsWith("_")) {
+                usernameFromUuid = "\\" + usernameFromUuid;
             }
 
             embedDescription
@@ -27,8 +27,11 @@ import com.senither.hypixel.chat.MessageFactory;
 import com.senither.hypixel.chat.PlaceholderMessage;
 import com.senither.hypixel.chat.SimplePaginator;
 import com.senither.hypixel.contracts.commands.Command;
+import com.senither.hypixel.contracts.hypixel.Response;
 import com.senither.hypixel.database.controller.GuildController;
+import com.senither.hypixel.hypixel.leaderboard.GuildLeaderboardTable;
 import com.senither.hypixel.hypixel.leaderboard.LeaderboardType;
+import com.senither.hypixel.hypixel.leaderboard.PlayerLeaderboardTable;
 import com.senither.hypixel.hypixel.response.GuildLeaderboardResponse;
 import com.senither.hypixel.hypixel.response.GuildMetricsResponse;
 import com.senither.hypixel.hypixel.response.PlayerLeaderboardResponse;
@@ -39,8 +42,6 @@ import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 
 import java.sql.SQLException;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 
 public class LeaderboardCommand extends Command {
 
@@ -109,7 +110,6 @@ public class LeaderboardCommand extends Command {
         }
 
         UUID userUUID = null;
-        final int[] position = {-1};
 
         try {
             userUUID = app.getHypixel().getUUIDFromUser(event.getAuthor());
@@ -142,10 +142,20 @@ public class LeaderboardCommand extends Command {
         }
 
         if (guild == null) {
+            List<String> suggestions = new ArrayList<>();
+            for (GuildLeaderboardResponse.Guild suggestion : app.getHypixel().getGuildLeaderboard().getNameIndex().getSuggestions(guildName, 3)) {
+                suggestions.add(suggestion.getName());
+            }
+
             MessageFactory.makeError(event.getMessage(),
                 "There are no guild called `:name` that are being tracked by the bot currently, "
                     + "please provide the name of a guild that the bot is already tracking to see their player leaderboard."
-            ).set("name", guildName).setTitle("Invalid guild name", "https://hypixel-leaderboard.senither.com/").queue();
+                    + (suggestions.isEmpty() ? "" : "\n\nDid you mean `:suggestions`?")
+            )
+                .set("name", guildName)
+                .set("suggestions", String.join("`, `", suggestions))
+                .setTitle("Invalid guild name", "https://hypixel-leaderboard.senither.com/")
+                .queue();
             return;
         }
 
@@ -167,58 +177,27 @@ public class LeaderboardCommand extends Command {
             ? "%s: %s\n%s> %s (%s)" : type.equals(LeaderboardType.WEIGHT)
             ? "%s: %s\n%s> %s + %s" : "%s: %s\n%s> %s [%s XP]";
 
-        AtomicReference<Double> totalStatCounter = new AtomicReference<>(0D);
-        AtomicReference<Double> totalExpCounter = new AtomicReference<>(0D);
-        AtomicReference<Integer> totalPlayers = new AtomicReference<>(0);
-
-        final int[] index = {1};
-        final UUID finalUserUUID = userUUID;
-        List<String> completeRows = new ArrayList<>();
-
-        Comparator<PlayerLeaderboardResponse.Player> comparator = Comparator.comparing(
-            player -> type.getOrderFunction().getStat(player)
-        );
-
-        if (type.getIndexFunction() != null) {
-            comparator = comparator.thenComparing(player -> type.getIndexFunction().getStat(player));
-        }
-
-        leaderboard.getData().stream()
-            .sorted(comparator.reversed())
-            .forEach(player -> {
-                if (player.getUuid().equals(finalUserUUID)) {
-                    position[0] = index[0];
-                }
-
-                double stat = type.getStatFunction().getStat(player);
-                Double exp = type.getExpFunction() == null ? null : type.getExpFunction().getStat(player);
-
-                if (stat > 0) {
-                    totalStatCounter.updateAndGet(v -> v + stat);
-                    totalPlayers.getAndSet(totalPlayers.get() + 1);
-
-                    if (exp != null && exp > 0) {
-                        totalExpCounter.updateAndGet(v -> v + exp);
-                    }
-                }
-
-                completeRows.add(String.format(rowMessage,
-                    padPosition("#" + NumberUtil.formatNicely(index[0]), index[0] - 1),
-                    player.getUsername(),
-                    padPosition("", index[0] - 1),
-                    stat == -1
-                        ? "API IS DISABLED"
-                        : NumberUtil.formatNicelyWithDecimals(stat),
-                    exp == null ? "" : exp == -1
-                        ? "API IS DISABLED"
-                        : NumberUtil.formatNicelyWithDecimals(exp)
-                ));
-                index[0]++;
-            });
+        PlayerLeaderboardTable table = leaderboard.getTable();
+
+        SimplePaginator<String> paginator = new SimplePaginator<>(table.size(), rank -> {
+            double stat = table.getStat(type, rank);
+            Double exp = table.getExperience(type, rank);
+
+            return String.format(rowMessage,
+                padPosition("#" + NumberUtil.formatNicely(rank + 1), rank),
+                table.getPlayer(type, rank).getUsername(),
+                padPosition("", rank),
+                stat == -1
+                    ? "API IS DISABLED"
+                    : NumberUtil.formatNicelyWithDecimals(stat),
+                exp == null ? "" : exp == -1
+                    ? "API IS DISABLED"
+                    : NumberUtil.formatNicelyWithDecimals(exp)
+            );
+        }, 10, pageNumber);
 
         List<String> rows = new ArrayList<>();
-        SimplePaginator<String> paginator = new SimplePaginator<>(completeRows, 10, pageNumber);
-        paginator.forEach((index1, key, val) -> rows.add(val));
+        paginator.forEach((index, key, row) -> rows.add(row));
 
         String command = String.format("%s%s %s %s",
             Constants.COMMAND_PREFIX, getTriggers().get(0),
@@ -226,9 +205,10 @@ public class LeaderboardCommand extends Command {
         );
 
         String note = "";
-        if (finalUserUUID != null && position[0] > 0) {
+        int position = table.getPosition(type, userUUID);
+        if (position > 0) {
             note = String.format("> You're ranked **#%s** in %s in the guild!\n\n",
-                position[0], type.getName()
+                position, type.getName()
             );
         }
 
@@ -244,13 +224,13 @@ public class LeaderboardCommand extends Command {
                 String.format("https://hypixel-leaderboard.senither.com/guilds/%s", guild.getId())
             )
             .set("type", type.getName().toLowerCase().replace("average", "").trim())
-            .set("skill", NumberUtil.formatNicelyWithDecimals(totalStatCounter.get() / totalPlayers.get()))
-            .set("xp", NumberUtil.formatNicelyWithDecimals(totalExpCounter.get() / totalPlayers.get()))
+            .set("skill", NumberUtil.formatNicelyWithDecimals(table.getAverageStat(type)))
+            .set("xp", NumberUtil.formatNicelyWithDecimals(table.getAverageExperience(type)))
             .set("xptype", type.equals(LeaderboardType.WEIGHT)
                 ? " overflow weight!" : type.equals(LeaderboardType.AVERAGE_SKILL)
                 ? " without progress!" : " average XP!"
             )
-            .setFooter("Requested by " + event.getAuthor().getAsTag(), event.getAuthor().getEffectiveAvatarUrl())
+            .setFooter("Requested by " + event.getAuthor().getAsTag() + getDataAge(leaderboard), event.getAuthor().getEffectiveAvatarUrl())
             .setTimestamp(Carbon.now().getTime().toInstant())
             .queue();
     }
@@ -304,93 +284,79 @@ public class LeaderboardCommand extends Command {
         message.queue();
     }
 
-    @SuppressWarnings("ComparatorMethodParameterNotUsed")
     private void showGuildLeaderboard(MessageReceivedEvent event, String[] args) {
         GuildLeaderboardResponse leaderboard = app.getHypixel().getGuildLeaderboard();
+        GuildLeaderboardTable table = leaderboard.getTable();
+
+        int currentPage = 1;
+        if (args.length > 0) {
+            currentPage = NumberUtil.parseInt(args[0], 1);
+        }
+        currentPage = Math.max(1, Math.min((int) Math.ceil((double) table.size() / 5), currentPage));
+
+        int start = (currentPage - 1) * 5;
+        int end = Math.min(start + 5, table.size());
 
-        AtomicInteger index = new AtomicInteger(0);
         LinkedHashMap<String, List<String>> leaderboardMessages = new LinkedHashMap<>();
 
         leaderboardMessages.put("Weight Leaderboard", new ArrayList<>());
-        leaderboard.getData().stream()
-            .filter(guild -> guild.getName() != null)
-            .filter(guild -> !guild.getMeta().isHidden())
-            .sorted((o1, o2) -> Double.compare(o2.getWeight().getTotal(), o1.getWeight().getTotal()))
-            .forEachOrdered(guild -> {
-                leaderboardMessages.get("Weight Leaderboard").add(String.format("%s: %s\n    > %s < [%s]",
-                    padPosition("#" + (index.get() + 1), index.getAndIncrement()),
-                    guild.getName(),
-                    NumberUtil.formatNicelyWithDecimals(guild.getWeight().getTotal()),
-                    guild.getMembers()
-                ));
-            });
-
-        index.set(0);
+        for (int rank = start; rank < end; rank++) {
+            GuildLeaderboardResponse.Guild guild = table.getGuild(GuildLeaderboardTable.Ranking.WEIGHT, rank);
+            leaderboardMessages.get("Weight Leaderboard").add(String.format("%s: %s\n    > %s < [%s]",
+                padPosition("#" + (rank + 1), rank),
+                guild.getName(),
+                NumberUtil.formatNicelyWithDecimals(guild.getWeight().getTotal()),
+                guild.getMembers()
+            ));
+        }
+
         leaderboardMessages.put("Skills Leaderboard", new ArrayList<>());
-        leaderboard.getData().stream()
-            .filter(guild -> guild.getName() != null)
-            .filter(guild -> !guild.getMeta().isHidden())
-            .sorted((o1, o2) -> Double.compare(o2.getAverageSkill(), o1.getAverageSkill()))
-            .forEachOrdered(guild -> {
-                leaderboardMessages.get("Skills Leaderboard").add(String.format("%s: %s\n    > %s (%s) < [%s]",
-                    padPosition("#" + (index.get() + 1), index.getAndIncrement()),
-                    guild.getName(),
-                    NumberUtil.formatNicelyWithDecimals(guild.getAverageSkillProgress()),
-                    NumberUtil.formatNicelyWithDecimals(guild.getAverageSkill()),
-                    guild.getMembers()
-                ));
-            });
-
-        index.set(0);
+        for (int rank = start; rank < end; rank++) {
+            GuildLeaderboardResponse.Guild guild = table.getGuild(GuildLeaderboardTable.Ranking.AVERAGE_SKILL, rank);
+            leaderboardMessages.get("Skills Leaderboard").add(String.format("%s: %s\n    > %s (%s) < [%s]",
+                padPosition("#" + (rank + 1), rank),
+                guild.getName(),
+                NumberUtil.formatNicelyWithDecimals(guild.getAverageSkillProgress()),
+                NumberUtil.formatNicelyWithDecimals(guild.getAverageSkill()),
+                guild.getMembers()
+            ));
+        }
+
         leaderboardMessages.put("Catacombs Leaderboard", new ArrayList<>());
-        leaderboard.getData().stream()
-            .filter(guild -> guild.getName() != null)
-            .filter(guild -> !guild.getMeta().isHidden())
-            .sorted((o1, o2) -> Double.compare(o2.getAverageCatacomb(), o1.getAverageCatacomb()))
-            .forEachOrdered(guild -> {
-                leaderboardMessages.get("Catacombs Leaderboard").add(String.format("%s: %s\n    > %s < [%s]",
-                    padPosition("#" + (index.get() + 1), index.getAndIncrement()),
-                    guild.getName(),
-                    NumberUtil.formatNicelyWithDecimals(guild.getAverageCatacomb()),
-                    guild.getMembers()
-                ));
-            });
-
-        index.set(0);
-        leaderboardMessages.put("Slayers Leaderboard", new ArrayList<>());
-        leaderboard.getData().stream()
-            .filter(guild -> guild.getName() != null)
-            .filter(guild -> !guild.getMeta().isHidden())
-            .sorted((o1, o2) -> Double.compare(o2.getAverageSlayer(), o1.getAverageSlayer()))
-            .forEachOrdered(guild -> {
-                leaderboardMessages.get("Slayers Leaderboard").add(String.format("%s: %s\n    > %s < [%s]",
-                    padPosition("#" + (index.get() + 1), index.getAndIncrement()),
-                    guild.getName(),
-                    NumberUtil.formatNicelyWithDecimals(guild.getAverageSlayer()),
-                    guild.getMembers()
-                ));
-            });
+        for (int rank = start; rank < end; rank++) {
+            GuildLeaderboardResponse.Guild guild = table.getGuild(GuildLeaderboardTable.Ranking.CATACOMB, rank);
+            leaderboardMessages.get("Catacombs Leaderboard").add(String.format("%s: %s\n    > %s < [%s]",
+                padPosition("#" + (rank + 1), rank),
+                guild.getName(),
+                NumberUtil.formatNicelyWithDecimals(guild.getAverageCatacomb()),
+                guild.getMembers()
+            ));
+        }
 
-        int currentPage = 1;
-        if (args.length > 0) {
-            currentPage = NumberUtil.parseInt(args[0], 1);
+        leaderboardMessages.put("Slayers Leaderboard", new ArrayList<>());
+        for (int rank = start; rank < end; rank++) {
+            GuildLeaderboardResponse.Guild guild = table.getGuild(GuildLeaderboardTable.Ranking.SLAYER, rank);
+            leaderboardMessages.get("Slayers Leaderboard").add(String.format("%s: %s\n    > %s < [%s]",
+                padPosition("#" + (rank + 1), rank),
+                guild.getName(),
+                NumberUtil.formatNicelyWithDecimals(guild.getAverageSlayer()),
+                guild.getMembers()
+            ));
         }
 
         PlaceholderMessage message = MessageFactory.makeInfo(event.getMessage(),
             "The guild leaderboards are refreshed every 24 hours, you can also view the leaderboard on the website by clicking on the message title."
+                + (leaderboard.getFetchedAt() == null ? "" : "\nThe leaderboard data was last fetched :time.")
         )
+            .set("time", leaderboard.getFetchedAt() == null ? "" : leaderboard.getFetchedAt().diffForHumans())
             .setTitle("Guild Leaderboard", "https://hypixel-leaderboard.senither.com/")
             .setTimestamp(Carbon.now().getTime().toInstant());
 
         int leaderboardCounter = 1;
         for (Map.Entry<String, List<String>> leaderboardEntry : leaderboardMessages.entrySet()) {
-            List<String> messages = new ArrayList<>();
-            (new SimplePaginator<>(leaderboardEntry.getValue(), 5, currentPage))
-                .forEach((index1, key, val) -> messages.add(val));
-
             message.addField(
                 leaderboardEntry.getKey(),
-                String.format("```elm\n%s```", String.join("\n", messages)),
+                String.format("```elm\n%s```", String.join("\n", leaderboardEntry.getValue())),
                 true
             );
 
@@ -407,14 +373,14 @@ public class LeaderboardCommand extends Command {
     }
 
     private GuildLeaderboardResponse.Guild getGuildFromName(String name) {
-        GuildLeaderboardResponse guildLeaderboard = app.getHypixel().getGuildLeaderboard();
-        for (GuildLeaderboardResponse.Guild guild : guildLeaderboard.getData()) {
-            if (name.equalsIgnoreCase(guild.getName())) {
-                return guild;
-            }
-        }
+        return app.getHypixel().getGuildLeaderboard().getNameIndex().getGuild(name);
+    }
 
-        return null;
+    private String getDataAge(Response response) {
+        if (response == null || response.getFetchedAt() == null) {
+            return "";
+        }
+        return " | Data from " + response.getFetchedAt().diffForHumans();
     }
 
     private String padPosition(String string, double position) {
@@ -26,8 +26,10 @@ import com.senither.hypixel.SkyblockAssistant;
 import com.senither.hypixel.chat.MessageFactory;
 import com.senither.hypixel.chat.SimplePaginator;
 import com.senither.hypixel.contracts.commands.Command;
+import com.senither.hypixel.contracts.hypixel.Response;
 import com.senither.hypixel.hypixel.leaderboard.LeaderboardPlayer;
 import com.senither.hypixel.hypixel.leaderboard.LeaderboardType;
+import com.senither.hypixel.hypixel.leaderboard.PlayerLeaderboardTable;
 import com.senither.hypixel.hypixel.response.PlayerLeaderboardResponse;
 import com.senither.hypixel.time.Carbon;
 import com.senither.hypixel.utils.NumberUtil;
@@ -121,45 +123,30 @@ public class PlayerLeaderboardCommand extends Command {
             ? "%s: %s [%s]\n%s> %s (%s)" : type.equals(LeaderboardType.WEIGHT)
             ? "%s: %s [%s]\n%s> %s + %s" : "%s: %s [%s]\n%s> %s [%s XP]";
 
-        final int[] index = {1};
-        final int[] position = {-1};
-        final UUID finalUserUUID = userUUID;
-        List<String> completeRows = new ArrayList<>();
-
-        Comparator<PlayerLeaderboardResponse.Player> comparator = Comparator.comparing(
-            player -> type.getOrderFunction().getStat(player)
-        );
-
-        if (type.getIndexFunction() != null) {
-            comparator = comparator.thenComparing(player -> type.getIndexFunction().getStat(player));
-        }
-
-        app.getHypixel().getPlayerLeaderboard().getData().stream()
-            .sorted(comparator.reversed())
-            .forEach(player -> {
-                if (player.getUuid().equals(finalUserUUID)) {
-                    position[0] = index[0];
-                }
-
-                completeRows.add(String.format(rowMessage,
-                    padPosition("#" + NumberUtil.formatNicely(index[0]), index[0] - 1),
-                    player.getUsername(),
-                    player.getGuildName(),
-                    padPosition("", index[0] - 1),
-                    type.getStatFunction().getStat(player) == -1
-                        ? "API IS DISABLED"
-                        : NumberUtil.formatNicelyWithDecimals(type.getStatFunction().getStat(player)),
-                    type.getExpFunction() == null ? "" : type.getExpFunction().getStat(player) == -1
-                        ? "API IS DISABLED"
-                        : NumberUtil.formatNicelyWithDecimals(type.getExpFunction().getStat(player))
-                ));
-
-                index[0]++;
-            });
+        PlayerLeaderboardResponse leaderboard = app.getHypixel().getPlayerLeaderboard();
+        PlayerLeaderboardTable table = leaderboard.getTable();
+
+        SimplePaginator<String> paginator = new SimplePaginator<>(table.size(), rank -> {
+            LeaderboardPlayer player = table.getPlayer(type, rank);
+            double stat = table.getStat(type, rank);
+            Double exp = table.getExperience(type, rank);
+
+            return String.format(rowMessage,
+                padPosition("#" + NumberUtil.formatNicely(rank + 1), rank),
+                player.getUsername(),
+                player.getGuildName(),
+                padPosition("", rank),
+                stat == -1
+                    ? "API IS DISABLED"
+                    : NumberUtil.formatNicelyWithDecimals(stat),
+                exp == null ? "" : exp == -1
+                    ? "API IS DISABLED"
+                    : NumberUtil.formatNicelyWithDecimals(exp)
+            );
+        }, 10, pageNumber);
 
         List<String> rows = new ArrayList<>();
-        SimplePaginator<String> paginator = new SimplePaginator<>(completeRows, 10, pageNumber);
-        paginator.forEach((index1, key, val) -> rows.add(val));
+        paginator.forEach((index, key, row) -> rows.add(row));
 
         String command = String.format("%s%s %s",
             Constants.COMMAND_PREFIX, getTriggers().get(0),
@@ -167,9 +154,10 @@ public class PlayerLeaderboardCommand extends Command {
         );
 
         String note = "";
-        if (finalUserUUID != null && position[0] > 0) {
+        int position = table.getPosition(type, userUUID);
+        if (position > 0) {
             note = String.format("> You're ranked **#%s** in %s!\n\n",
-                NumberUtil.formatNicely(position[0]), type.getName()
+                NumberUtil.formatNicely(position), type.getName()
             );
         }
 
@@ -179,7 +167,7 @@ public class PlayerLeaderboardCommand extends Command {
             + note + paginator.generateFooter(command)
         )
             .setTitle(String.format("%s Player Leaderboard", type.getName()))
-            .setFooter("Requested by " + event.getAuthor().getAsTag(), event.getAuthor().getEffectiveAvatarUrl())
+            .setFooter("Requested by " + event.getAuthor().getAsTag() + getDataAge(leaderboard), event.getAuthor().getEffectiveAvatarUrl())
             .setTimestamp(Carbon.now().getTime().toInstant())
             .queue();
     }
@@ -187,48 +175,38 @@ public class PlayerLeaderboardCommand extends Command {
     private void showLeaderboard(MessageReceivedEvent event, String[] args) {
         PlayerLeaderboardResponse leaderboard = app.getHypixel().getPlayerLeaderboard();
 
-        List<String> slayerRow = new ArrayList<>();
         List<LeaderboardPlayer> sortedBySlayer = leaderboard.getData().stream()
             .filter(guild -> guild.getGuildName() != null)
             .sorted((o1, o2) -> Double.compare(o2.getTotalSlayer(), o1.getTotalSlayer()))
             .collect(Collectors.toList());
 
-        List<String> skillsRow = new ArrayList<>();
         List<LeaderboardPlayer> sortedBySkills = leaderboard.getData().stream()
             .filter(guild -> guild.getGuildName() != null)
             .sorted((o1, o2) -> Double.compare(o2.getAverageSkillProgress(), o1.getAverageSkillProgress()))
             .collect(Collectors.toList());
 
-        for (int i = 0; i < sortedBySkills.size(); i++) {
-            LeaderboardPlayer skillsPlayer = sortedBySkills.get(i);
-            skillsRow.add(String.format("%s: %s\n%s> %s (%s)",
-                padPosition("#" + NumberUtil.formatNicely(i + 1), i), skillsPlayer.getUsername(),
-                padPosition("", i),
-                NumberUtil.formatNicelyWithDecimals(skillsPlayer.getAverageSkillProgress()),
-                NumberUtil.formatNicelyWithDecimals(skillsPlayer.getAverageSkill())
-            ));
-
-            LeaderboardPlayer slayerPlayer = sortedBySlayer.get(i);
-            slayerRow.add(String.format("%s: %s\n%s> %s",
-                padPosition("#" + NumberUtil.formatNicely(i + 1), i),
-                slayerPlayer.getUsername(),
-                padPosition("", i),
-                NumberUtil.formatNicelyWithDecimals(slayerPlayer.getTotalSlayer())
-            ));
-        }
-
         int currentPage = 1;
         if (args.length > 0) {
             currentPage = NumberUtil.parseInt(args[0], 1);
         }
 
-        SimplePaginator<String> skillsPaginator = new SimplePaginator<>(skillsRow, 10, currentPage);
-        skillsRow.clear();
-        skillsPaginator.forEach((index, key, val) -> skillsRow.add(val));
+        List<String> skillsRow = new ArrayList<>();
+        SimplePaginator<LeaderboardPlayer> skillsPaginator = new SimplePaginator<>(sortedBySkills, 10, currentPage);
+        skillsPaginator.forEach((index, key, skillsPlayer) -> skillsRow.add(String.format("%s: %s\n%s> %s (%s)",
+            padPosition("#" + NumberUtil.formatNicely(index + 1), index), skillsPlayer.getUsername(),
+            padPosition("", index),
+            NumberUtil.formatNicelyWithDecimals(skillsPlayer.getAverageSkillProgress()),
+            NumberUtil.formatNicelyWithDecimals(skillsPlayer.getAverageSkill())
+        )));
 
-        SimplePaginator<String> slayerPaginator = new SimplePaginator<>(slayerRow, 10, currentPage);
-        slayerRow.clear();
-        slayerPaginator.forEach((index, key, val) -> slayerRow.add(val));
+        List<String> slayerRow = new ArrayList<>();
+        SimplePaginator<LeaderboardPlayer> slayerPaginator = new SimplePaginator<>(sortedBySlayer, 10, currentPage);
+        slayerPaginator.forEach((index, key, slayerPlayer) -> slayerRow.add(String.format("%s: %s\n%s> %s",
+            padPosition("#" + NumberUtil.formatNicely(index + 1), index),
+            slayerPlayer.getUsername(),
+            padPosition("", index),
+            NumberUtil.formatNicelyWithDecimals(slayerPlayer.getTotalSlayer())
+        )));
 
         MessageFactory.makeInfo(event.getMessage(),
             "The players leaderboards are the total average skill and slayer stats for every player in a guild the bot is tracking, the stats are refreshed every 24 hours."
@@ -243,6 +221,13 @@ public class PlayerLeaderboardCommand extends Command {
             .queue();
     }
 
+    private String getDataAge(Response response) {
+        if (response == null || response.getFetchedAt() == null) {
+            return "";
+        }
+        return " | Data from " + response.getFetchedAt().diffForHumans();
+    }
+
     private String padPosition(String string, double position) {
         StringBuilder builder = new StringBuilder(string);
         while (builder.length() < 1 + String.valueOf(position).length()) {
@@ -30,11 +30,10 @@ import com.senither.hypixel.chat.PlaceholderMessage;
 import com.senither.hypixel.contracts.commands.SkillCommand;
 import com.senither.hypixel.hypixel.HypixelRank;
 import com.senither.hypixel.rank.items.Collection;
-import com.senither.hypixel.statistics.StatisticsChecker;
+import com.senither.hypixel.statistics.ProfileStatistics;
 import com.senither.hypixel.statistics.responses.DungeonResponse;
 import com.senither.hypixel.statistics.responses.SkillsResponse;
 import com.senither.hypixel.statistics.responses.SlayerResponse;
-import com.senither.hypixel.statistics.weight.Weight;
 import com.senither.hypixel.time.Carbon;
 import com.senither.hypixel.utils.NumberUtil;
 import net.dv8tion.jda.api.entities.Message;
@@ -108,13 +107,12 @@ public class PlayerOverviewCommand extends SkillCommand {
             .set("guild", guildName)
             .setTitle(getUsernameFromPlayer(playerReply) + "'s Profile Overview");
 
-        SkillsResponse skillsResponse = StatisticsChecker.SKILLS.checkUser(playerReply, profileReply, member);
-        SlayerResponse slayerResponse = StatisticsChecker.SLAYER.checkUser(playerReply, profileReply, member);
-        DungeonResponse dungeonResponse = StatisticsChecker.DUNGEON.checkUser(playerReply, profileReply, member);
+        ProfileStatistics statistics = ProfileStatistics.of(
+            playerReply, profileReply, playerReply.getPlayer().get("uuid").getAsString()
+        );
 
-        Weight weight = skillsResponse.calculateTotalWeight()
-            .add(slayerResponse.calculateTotalWeight())
-            .add(dungeonResponse.calculateTotalWeight());
+        SkillsResponse skillsResponse = statistics.getSkills();
+        DungeonResponse dungeonResponse = statistics.getDungeon();
 
         message.editMessage(placeholderMessage
             .addField("Average Skill Level", String.format("%s [%s w/o progress]",
@@ -124,8 +122,8 @@ public class PlayerOverviewCommand extends SkillCommand {
             .addField("Catacombs Level", NumberUtil.formatNicelyWithDecimals(
                 dungeonResponse.getDungeonFromType(DungeonResponse.DungeonType.CATACOMBS).getLevel()
             ), true)
-            .addField("Slayer", getTotalSlayerXp(profileReply, member), true)
-            .addField("Profile Weight", weight.getTotalWeightStringified(), true)
+            .addField("Slayer", getTotalSlayerXp(statistics.getSlayer()), true)
+            .addField("Profile Weight", statistics.getWeight().getTotalWeightStringified(), true)
             .addField("Coins", getCoins(profileReply, member), true)
             .addField("Minion Slots", getMinionSlots(profileReply), true)
             .addField("Pets", NumberUtil.formatNicely(member.get("pets").getAsJsonArray().size()), true)
@@ -137,8 +135,7 @@ public class PlayerOverviewCommand extends SkillCommand {
         ).queue();
     }
 
-    private String getTotalSlayerXp(SkyBlockProfileReply profileReply, JsonObject member) {
-        SlayerResponse response = StatisticsChecker.SLAYER.checkUser(null, profileReply, member);
+    private String getTotalSlayerXp(SlayerResponse response) {
         if (!response.isApiEnable() || response.getTotalSlayerExperience() == 0) {
             return "No Slayer to Display";
         }
@@ -4,6 +4,7 @@ import com.senither.hypixel.SkyblockAssistant;
 import com.senither.hypixel.chat.MessageFactory;
 import com.senither.hypixel.chat.PlaceholderMessage;
 import com.senither.hypixel.contracts.commands.Command;
+import com.senither.hypixel.hypixel.bazaar.BazaarPriceTable;
 import com.senither.hypixel.hypixel.bazaar.BazaarProduct;
 import com.senither.hypixel.hypixel.bazaar.BazaarProductReply;
 import com.senither.hypixel.utils.NumberUtil;
@@ -88,6 +89,8 @@ public class SplashCostCommand extends Command {
             return;
         }
 
+        BazaarPriceTable prices = bazaarProducts.getPrices();
+
         double totalCost = 0D;
         PlaceholderMessage message = MessageFactory.makeInfo(event.getMessage(),
             "A **17** potion splash costs **:price** coins on average with current Bazaar prices."
@@ -95,31 +98,31 @@ public class SplashCostCommand extends Command {
             "The splash calculation assumes you're splashing all the normal buff potions(Strength 8, Critical 4, Archery 4, etc) using the special brews for the ones that requires it + 3 skill potions."
         );
 
-        for (BazaarProduct bazaarProduct : products) {
-            BazaarProductReply.Product product = bazaarProducts.getProduct(bazaarProduct);
+        for (int i = 0; i < products.size(); i++) {
+            BazaarProduct bazaarProduct = products.get(i);
 
-            double price = product.getQuickStatus().getBuyPrice();
-            totalCost += products.indexOf(bazaarProduct) < 3 ? price : price / 3D;
+            double price = prices.getBuyPrice(bazaarProduct);
+            totalCost += i < 3 ? price : price / 3D;
 
-            message.addField(createEmbedField(bazaarProduct, product));
+            message.addField(createEmbedField(bazaarProduct, price));
         }
 
-        double redstoneLamp = bazaarProducts.getProduct(BazaarProduct.ENCHANTED_REDSTONE_LAMP).getQuickStatus().getBuyPrice();
+        double redstoneLamp = prices.getBuyPrice(BazaarProduct.ENCHANTED_REDSTONE_LAMP);
         totalCost += ((redstoneLamp * 15) / 3) - redstoneLamp;
 
-        double redstoneBlock = bazaarProducts.getProduct(BazaarProduct.ENCHANTED_REDSTONE_BLOCK).getQuickStatus().getBuyPrice();
+        double redstoneBlock = prices.getBuyPrice(BazaarProduct.ENCHANTED_REDSTONE_BLOCK);
         totalCost += ((redstoneBlock * 17) / 3) - redstoneBlock;
 
-        double gunpowder = bazaarProducts.getProduct(BazaarProduct.ENCHANTED_GUNPOWDER).getQuickStatus().getBuyPrice();
+        double gunpowder = prices.getBuyPrice(BazaarProduct.ENCHANTED_GUNPOWDER);
         totalCost += ((gunpowder * 17) / 3) - gunpowder;
 
         message.set("price", NumberUtil.formatNicely(totalCost + brewCosts + additionalCosts)).queue();
     }
 
-    private MessageEmbed.Field createEmbedField(BazaarProduct bazaarProduct, BazaarProductReply.Product product) {
+    private MessageEmbed.Field createEmbedField(BazaarProduct bazaarProduct, double price) {
         return new MessageEmbed.Field(
             bazaarProduct.getName(),
-            NumberUtil.formatNicely(product.getQuickStatus().getBuyPrice()),
+            NumberUtil.formatNicely(price),
             true
         );
     }
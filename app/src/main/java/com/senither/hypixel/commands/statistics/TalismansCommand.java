@@ -26,6 +26,7 @@ import com.senither.hypixel.SkyblockAssistant;
 import com.senither.hypixel.chat.MessageType;
 import com.senither.hypixel.contracts.commands.SkillCommand;
 import com.senither.hypixel.inventory.Inventory;
+import com.senither.hypixel.inventory.InventoryCache;
 import com.senither.hypixel.inventory.Item;
 import com.senither.hypixel.inventory.ItemRarity;
 import com.senither.hypixel.inventory.ItemType;
@@ -93,9 +94,9 @@ public class TalismansCommand extends SkillCommand {
 
         try {
             List<Item> talismans = new ArrayList<>();
-            talismans.addAll(getTalismansFromInventory(member, "ender_chest_contents"));
-            talismans.addAll(getTalismansFromInventory(member, "talisman_bag"));
-            talismans.addAll(getTalismansFromInventory(member, "inv_contents"));
+            talismans.addAll(getTalismansFromInventory(profileReply, playerReply, member, "ender_chest_contents"));
+            talismans.addAll(getTalismansFromInventory(profileReply, playerReply, member, "talisman_bag"));
+            talismans.addAll(getTalismansFromInventory(profileReply, playerReply, member, "inv_contents"));
 
             EmbedBuilder builder = new EmbedBuilder()
                 .setColor(MessageType.SUCCESS.getColor())
@@ -134,8 +135,12 @@ public class TalismansCommand extends SkillCommand {
         }
     }
 
-    private List<Item> getTalismansFromInventory(JsonObject member, String inventoryName) throws IOException {
-        Inventory inventory = new Inventory(member.get(inventoryName).getAsJsonObject().get("data").getAsString());
+    private List<Item> getTalismansFromInventory(SkyBlockProfileReply profileReply, PlayerReply playerReply, JsonObject member, String inventoryName) throws IOException {
+        Inventory inventory = InventoryCache.getInventory(
+            profileReply.getProfile().get("profile_id").getAsString(),
+            playerReply.getPlayer().get("uuid").getAsString(),
+            member, inventoryName
+        );
 
         return inventory.getItemsWithType(ItemType.ACCESSORY);
     }
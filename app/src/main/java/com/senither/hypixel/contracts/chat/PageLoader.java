@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.contracts.chat;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface PageLoader<T> {
+
+    /**
+     * Loads the items for a single page, this method is invoked by the
+     * {@link Paginator} the first time the items for the current
+     * page is needed, and is never invoked for any other page.
+     *
+     * @param offset The index of the first item that should be loaded.
+     * @param limit  The maximum amount of items that should be loaded.
+     * @return The items for the page, starting at the given offset.
+     */
+    List<T> load(int offset, int limit);
+}
@@ -24,17 +24,20 @@ package com.senither.hypixel.contracts.chat;
 import com.senither.hypixel.utils.NumberUtil;
 
 import javax.annotation.Nonnull;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.function.IntFunction;
 
 public abstract class Paginator<T> implements Cloneable {
 
     /**
-     * The items that should be paginated.
+     * The window used to get the items for the current page.
      */
-    protected final LinkedHashMap<Object, T> items;
+    private final PageWindow<T> window;
+
+    /**
+     * The total amount of items that can be paginated.
+     */
+    protected final int total;
 
     /**
      * The amount of items to display per-page.
@@ -49,16 +52,16 @@ public abstract class Paginator<T> implements Cloneable {
     /**
      * Creates a new paginator instance using the given
      * items, per page, and current page values.
+     * <p>
+     * The map is not copied, instead the entries for the current
+     * page are found by iterating over the map when needed.
      *
      * @param items       The items that should be paginated.
      * @param perPage     The amount of items to show per-page.
      * @param currentPage The current page that should be shown.
      */
     public Paginator(@Nonnull Map<?, T> items, int perPage, int currentPage) {
-        this.items = new LinkedHashMap<>(items);
-        this.perPage = perPage;
-
-        this.setCurrentPage(currentPage);
+        this(items.size(), new MapWindow<>(items), perPage, currentPage);
     }
 
     /**
@@ -76,30 +79,24 @@ public abstract class Paginator<T> implements Cloneable {
 
     /**
      * Creates a new paginator instance using the given items list, per page,
-     * and current page, the items will be converted to a map, where the
-     * key for the map is the index for the record in the list element,
-     * and the value will stay as the value.
+     * and current page, the key for each item will be the index for the
+     * record in the list, and the value will stay as the value.
+     * <p>
+     * The list is not copied, only the items for the current
+     * page are read from the list when they're needed.
      *
      * @param items       The items that should be paginated.
      * @param perPage     The amount of items to show per-page.
      * @param currentPage The current page that should be shown.
      */
     public Paginator(@Nonnull List<T> items, int perPage, int currentPage) {
-        LinkedHashMap<Object, T> map = new LinkedHashMap<>();
-        for (int i = 0; i < items.size(); i++) {
-            map.put(i, items.get(i));
-        }
-        this.items = map;
-        this.perPage = perPage;
-
-        this.setCurrentPage(currentPage);
+        this(items.size(), new ListWindow<>(items), perPage, currentPage);
     }
 
     /**
      * Creates a new paginator instance using the given items list, per page,
-     * and current page, the items will be converted to a map, where the
-     * key for the map is the index for the record in the list element,
-     * and the value will stay as the value.
+     * and current page, the key for each item will be the index for the
+     * record in the list, and the value will stay as the value.
      * <p>
      * The current page will be parsed to a integer, if the current page is
      * not a valid number, the first page will be selected instead.
@@ -115,26 +112,59 @@ public abstract class Paginator<T> implements Cloneable {
     /**
      * Creates a new paginator instance using the given iterator, per page, and
      * current page, the items will be pulled from the iterator and be stored
-     * into a map, where the key is the index in the given iterator.
+     * into a list, where the key is the index in the given iterator.
      *
      * @param iterator    The iterator containing all the items that should be paginated.
      * @param perPage     The amount of items to show per-page.
      * @param currentPage The current page that should be shown.
      */
     public Paginator(@Nonnull Iterator<T> iterator, int perPage, int currentPage) {
-        int index = 0;
-        LinkedHashMap<Object, T> items = new LinkedHashMap<>();
-        while (iterator.hasNext()) {
-            items.put(index++, iterator.next());
-        }
+        this(toList(iterator), perPage, currentPage);
+    }
+
+    /**
+     * Creates a new paginator instance for the given total amount of items, where
+     * only the items for the current page is loaded using the given page loader,
+     * this allows paginating over things like database queries without having
+     * to load every row, the key for each item will be its index.
+     *
+     * @param total       The total amount of items that can be paginated.
+     * @param loader      The page loader used to load the items for the current page.
+     * @param perPage     The amount of items to show per-page.
+     * @param currentPage The current page that should be shown.
+     */
+    public Paginator(int total, @Nonnull PageLoader<T> loader, int perPage, int currentPage) {
+        this(total, new LoaderWindow<>(loader), perPage, currentPage);
+    }
 
-        this.items = items;
+    /**
+     * Creates a new paginator instance for the given total amount of items, where the
+     * items for the current page is created one at a time by the given supplier using
+     * their index, the key for each item will be its index.
+     *
+     * @param total       The total amount of items that can be paginated.
+     * @param supplier    The supplier used to create the item at the given index.
+     * @param perPage     The amount of items to show per-page.
+     * @param currentPage The current page that should be shown.
+     */
+    public Paginator(int total, @Nonnull IntFunction<T> supplier, int perPage, int currentPage) {
+        this(total, (offset, limit) -> {
+            List<T> items = new ArrayList<>(limit);
+            for (int i = offset; i < offset + limit; i++) {
+                items.add(supplier.apply(i));
+            }
+            return items;
+        }, perPage, currentPage);
+    }
+
+    private Paginator(int total, PageWindow<T> window, int perPage, int currentPage) {
+        this.window = window;
+        this.total = total;
         this.perPage = perPage;
 
         this.setCurrentPage(currentPage);
     }
 
-
     /**
      * Loops over each item in the paginator for the current page
      * and invokes the closure with the index, key, and value.
@@ -142,33 +172,23 @@ public abstract class Paginator<T> implements Cloneable {
      * @param closure The closure that should get the paginator item for the current page.
      */
     public void forEach(@Nonnull PaginatorClosure<? super T> closure) {
-        int counter = 0;
-        int start = perPage * (getCurrentPage() - 1);
-        int end = start + getPerPage();
-
-        for (Map.Entry<Object, T> item : items.entrySet()) {
-            int current = counter;
-            counter++;
-
-            if (current < start) {
-                continue;
-            }
+        int start = getOffset();
+        int end = Math.min(start + getPerPage(), getTotal());
 
-            if (current >= end || getTotal() <= current) {
-                break;
-            }
-
-            closure.run(current, item.getKey(), item.getValue());
+        if (start >= end) {
+            return;
         }
+
+        window.forEach(start, end, closure);
     }
 
     /**
-     * Gets a map of the items for the paginator.
+     * Gets the index of the first item on the current page.
      *
-     * @return A map of items for the paginator.
+     * @return The index of the first item on the current page.
      */
-    public final Map<Object, T> getItems() {
-        return items;
+    public final int getOffset() {
+        return perPage * (getCurrentPage() - 1);
     }
 
     /**
@@ -215,6 +235,91 @@ public abstract class Paginator<T> implements Cloneable {
      * @return The total amount of items in the paginator.
      */
     public final int getTotal() {
-        return items.size();
+        return total;
+    }
+
+    private static <T> List<T> toList(Iterator<T> iterator) {
+        List<T> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        return items;
+    }
+
+    private interface PageWindow<T> {
+
+        void forEach(int start, int end, PaginatorClosure<? super T> closure);
+    }
+
+    private static class ListWindow<T> implements PageWindow<T> {
+
+        private final List<T> items;
+
+        ListWindow(List<T> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void forEach(int start, int end, PaginatorClosure<? super T> closure) {
+            if (items instanceof RandomAccess) {
+                for (int i = start; i < end; i++) {
+                    closure.run(i, i, items.get(i));
+                }
+                return;
+            }
+
+            ListIterator<T> iterator = items.listIterator(start);
+            for (int i = start; i < end && iterator.hasNext(); i++) {
+                closure.run(i, i, iterator.next());
+            }
+        }
+    }
+
+    private static class MapWindow<T> implements PageWindow<T> {
+
+        private final Map<?, T> items;
+
+        MapWindow(Map<?, T> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void forEach(int start, int end, PaginatorClosure<? super T> closure) {
+            int index = 0;
+            for (Map.Entry<?, T> item : items.entrySet()) {
+                if (index >= end) {
+                    break;
+                }
+
+                if (index >= start) {
+                    closure.run(index, item.getKey(), item.getValue());
+                }
+                index++;
+            }
+        }
+    }
+
+    private static class LoaderWindow<T> implements PageWindow<T> {
+
+        private final PageLoader<T> loader;
+
+        private int loadedStart = -1;
+        private List<T> loadedItems;
+
+        LoaderWindow(PageLoader<T> loader) {
+            this.loader = loader;
+        }
+
+        @Override
+        public void forEach(int start, int end, PaginatorClosure<? super T> closure) {
+            if (loadedStart != start || loadedItems == null) {
+                loadedItems = loader.load(start, end - start);
+                loadedStart = start;
+            }
+
+            for (int i = 0; i < loadedItems.size() && start + i < end; i++) {
+                closure.run(start + i, start + i, loadedItems.get(i));
+            }
+        }
     }
 }
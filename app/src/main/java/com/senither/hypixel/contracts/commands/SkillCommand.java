@@ -31,6 +31,7 @@ import com.senither.hypixel.chat.MessageType;
 import com.senither.hypixel.chat.PlaceholderMessage;
 import com.senither.hypixel.commands.statistics.SkillsCommand;
 import com.senither.hypixel.exceptions.FriendlyException;
+import com.senither.hypixel.metrics.Metrics;
 import com.senither.hypixel.utils.NumberUtil;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.IMentionable;
@@ -93,21 +94,38 @@ public abstract class SkillCommand extends Command {
             .setColor(MessageType.INFO.getColor());
 
         event.getChannel().sendMessage(embedBuilder.build()).queue(message -> {
+            final String profileName;
+            final String[] profileArgs;
+
             if (args.length < 2 || NumberUtil.isNumeric(args[1])) {
-                app.getHypixel().getSelectedSkyBlockProfileFromUsername(username).whenCompleteAsync((profileReply, throwable) -> {
-                    handleProfileResponse(profileReply, throwable, message, embedBuilder, username,
-                        args.length == 0 || args.length == 1 && NumberUtil.isNumeric(args[0])
-                            ? args : Arrays.copyOfRange(args, 1, args.length)
-                    );
-                });
-                return;
+                profileName = null;
+                profileArgs = args.length == 0 || args.length == 1 && NumberUtil.isNumeric(args[0])
+                    ? args : Arrays.copyOfRange(args, 1, args.length);
+            } else {
+                profileName = args[1];
+                profileArgs = Arrays.copyOfRange(args, 2, args.length);
             }
 
-            String profileName = args[1];
+            final long startedAt = System.nanoTime();
+
+            // The player and profile requests are chained together without blocking any threads
+            // while waiting on the API, only the final stage that builds and sends the reply
+            // is handed off to the scheduler service.
+            app.getHypixel().getPlayerByName(username).thenCompose(playerReply -> {
+                final long profileStartedAt = observeStage("player", startedAt);
+
+                return loadSkyBlockProfile(playerReply, profileName).thenApply(profileReply -> {
+                    observeStage("profile", profileStartedAt);
 
-            try {
-                PlayerReply playerReply = app.getHypixel().getPlayerByName(username).get(5, TimeUnit.SECONDS);
-                if (playerReply == null) {
+                    return new ProfileContext(playerReply, profileReply);
+                });
+            }).whenCompleteAsync((context, throwable) -> {
+                if (throwable != null) {
+                    handleProfileException(message, embedBuilder, username, profileName, throwable);
+                    return;
+                }
+
+                if (context.playerReply == null) {
                     message.editMessage(embedBuilder
                         .setColor(MessageType.ERROR.getColor())
                         .setDescription(String.format("Failed to load player data for **%s**, found no valid player data.",
@@ -118,76 +136,109 @@ public abstract class SkillCommand extends Command {
                     return;
                 }
 
-                if (playerReply.getPlayer() == null) {
-                    sendMissingSkyBlockProfilesMessage(message, username, profileName, new ArrayList<>());
+                if (context.profileReply == null) {
+                    sendMissingSkyBlockProfilesMessage(message, username, profileName, getProfileNames(context.playerReply));
                     return;
                 }
 
-                List<String> profileNames = new ArrayList<>();
-                JsonObject profiles = playerReply.getPlayer().getAsJsonObject("stats").getAsJsonObject("SkyBlock").getAsJsonObject("profiles");
-                for (Map.Entry<String, JsonElement> profileEntry : profiles.entrySet()) {
-                    String cuteProfileName = profileEntry.getValue().getAsJsonObject().get("cute_name").getAsString();
-                    if (!cuteProfileName.equalsIgnoreCase(profileName)) {
-                        profileNames.add(cuteProfileName);
-                        continue;
-                    }
+                final long computeStartedAt = System.nanoTime();
+                try {
+                    handleProfileResponse(message, context.profileReply, context.playerReply, profileArgs);
+                } finally {
+                    observeStage("compute", computeStartedAt);
+                }
+            }, schedulerService);
+        });
+    }
 
-                    SkyBlockProfileReply profileReply = app.getHypixel().getSkyBlockProfile(profileEntry.getKey()).get(10, TimeUnit.SECONDS);
-                    profileReply.getProfile().add("cute_name", profileEntry.getValue().getAsJsonObject().get("cute_name"));
+    private CompletableFuture<SkyBlockProfileReply> loadSkyBlockProfile(PlayerReply playerReply, String profileName) {
+        if (playerReply == null) {
+            return CompletableFuture.completedFuture(null);
+        }
 
-                    handleProfileResponse(profileReply, null, message, embedBuilder, username, Arrays.copyOfRange(args, 2, args.length));
-                    return;
-                }
+        if (profileName == null) {
+            return app.getHypixel().getSelectedSkyBlockProfile(playerReply);
+        }
 
-                sendMissingSkyBlockProfilesMessage(message, username, profileName, profileNames);
-            } catch (InterruptedException | ExecutionException | TimeoutException e) {
-                if (e.getCause() instanceof FriendlyException) {
-                    message.editMessage(embedBuilder
-                        .setColor(MessageType.ERROR.getColor())
-                        .setDescription(String.format("Failed to load player data for **%s**!\n%s",
-                            username, e.getCause().getMessage()
-                        ))
-                        .build()
-                    ).queue();
-                    return;
-                }
+        if (playerReply.getPlayer() == null) {
+            return CompletableFuture.completedFuture(null);
+        }
 
-                log.error("Failed to fetch player data for {}, error: {}",
-                    username, e.getMessage(), e
-                );
+        JsonObject profiles = playerReply.getPlayer().getAsJsonObject("stats").getAsJsonObject("SkyBlock").getAsJsonObject("profiles");
+        for (Map.Entry<String, JsonElement> profileEntry : profiles.entrySet()) {
+            JsonElement cuteProfileName = profileEntry.getValue().getAsJsonObject().get("cute_name");
+            if (!cuteProfileName.getAsString().equalsIgnoreCase(profileName)) {
+                continue;
             }
-        });
+
+            return app.getHypixel().getSkyBlockProfile(profileEntry.getKey())
+                .orTimeout(10, TimeUnit.SECONDS)
+                .thenApply(profileReply -> {
+                    profileReply.getProfile().add("cute_name", cuteProfileName);
+
+                    return profileReply;
+                });
+        }
+
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private List<String> getProfileNames(PlayerReply playerReply) {
+        List<String> profileNames = new ArrayList<>();
+        if (playerReply.getPlayer() == null) {
+            return profileNames;
+        }
+
+        JsonObject profiles = playerReply.getPlayer().getAsJsonObject("stats").getAsJsonObject("SkyBlock").getAsJsonObject("profiles");
+        for (Map.Entry<String, JsonElement> profileEntry : profiles.entrySet()) {
+            profileNames.add(profileEntry.getValue().getAsJsonObject().get("cute_name").getAsString());
+        }
+        return profileNames;
     }
 
-    private void handleProfileResponse(SkyBlockProfileReply profileReply, Throwable throwable, Message message, EmbedBuilder embedBuilder, String username, String[] args) {
-        if (throwable != null) {
-            sendExceptionMessage(message, embedBuilder, throwable);
+    private void handleProfileException(Message message, EmbedBuilder embedBuilder, String username, String profileName, Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+            ? throwable.getCause() : throwable;
+
+        if (profileName != null && cause instanceof FriendlyException) {
+            message.editMessage(embedBuilder
+                .setColor(MessageType.ERROR.getColor())
+                .setDescription(String.format("Failed to load player data for **%s**!\n%s",
+                    username, cause.getMessage()
+                ))
+                .build()
+            ).queue();
             return;
         }
 
-        schedulerService.submit(() -> {
-            try {
-                PlayerReply playerReply = app.getHypixel().getPlayerByName(username).get(10, TimeUnit.SECONDS);
-                if (playerReply != null && playerReply.getPlayer() != null) {
-                    UUID uuid = convertStringifiedUUID(playerReply.getPlayer().get("uuid").getAsString());
+        sendExceptionMessage(message, embedBuilder, cause);
+    }
 
-                    String cachedUsername = app.getHypixel().getUsernameFromUuid(uuid);
-                    String currentUsername = playerReply.getPlayer().get("displayname").getAsString();
+    private void handleProfileResponse(Message message, SkyBlockProfileReply profileReply, PlayerReply playerReply, String[] args) {
+        try {
+            if (playerReply.getPlayer() != null) {
+                UUID uuid = convertStringifiedUUID(playerReply.getPlayer().get("uuid").getAsString());
 
-                    if (cachedUsername != null && !cachedUsername.equalsIgnoreCase(currentUsername)) {
-                        updateUsernameForUuidEntry(uuid, currentUsername);
-                    }
-                }
+                String cachedUsername = app.getHypixel().getUsernameFromUuid(uuid);
+                String currentUsername = playerReply.getPlayer().get("displayname").getAsString();
 
-                handleSkyblockProfile(message, profileReply, playerReply, args);
-            } catch (InterruptedException | ExecutionException | TimeoutException e) {
-                sendExceptionMessage(message, embedBuilder, e);
-            } catch (Exception e) {
-                log.error("An exception where thrown during the {} command, message: {}",
-                    getClass().getSimpleName(), e.getMessage(), e
-                );
+                if (cachedUsername != null && !cachedUsername.equalsIgnoreCase(currentUsername)) {
+                    updateUsernameForUuidEntry(uuid, currentUsername);
+                }
             }
-        });
+
+            handleSkyblockProfile(message, profileReply, playerReply, args);
+        } catch (Exception e) {
+            log.error("An exception where thrown during the {} command, message: {}",
+                getClass().getSimpleName(), e.getMessage(), e
+            );
+        }
+    }
+
+    private long observeStage(String stage, long startedAt) {
+        long now = System.nanoTime();
+        Metrics.skillCommandStageTime.labels(getClass().getSimpleName(), stage).observe((now - startedAt) / 1E9D);
+        return now;
     }
 
     protected JsonObject getProfileMemberFromPlayer(SkyBlockProfileReply profileReply, PlayerReply playerReply) {
@@ -289,4 +340,15 @@ public abstract class SkillCommand extends Command {
     }
 
     protected abstract void handleSkyblockProfile(Message message, SkyBlockProfileReply profileReply, PlayerReply playerReply, String[] args);
+
+    private static class ProfileContext {
+
+        private final PlayerReply playerReply;
+        private final SkyBlockProfileReply profileReply;
+
+        ProfileContext(PlayerReply playerReply, SkyBlockProfileReply profileReply) {
+            this.playerReply = playerReply;
+            this.profileReply = profileReply;
+        }
+    }
 }
@@ -35,6 +35,8 @@ public abstract class Response {
 
     protected int status;
 
+    private transient long fetchedAt;
+
     protected static Carbon timestampToCarbonInstance(String timestamp) {
         try {
             Date date = Response.ISO_8601_DateFormat.parse(timestamp
@@ -55,4 +57,22 @@ public abstract class Response {
     public int getStatus() {
         return status;
     }
+
+    /**
+     * Gets the time the response was fetched from the API, this is only
+     * set for responses that are kept in memory and refreshed
+     * in the background, like the leaderboard responses.
+     *
+     * @return The time the response was fetched, or {@code null} if the time is unknown.
+     */
+    public Carbon getFetchedAt() {
+        if (fetchedAt == 0L) {
+            return null;
+        }
+        return Carbon.now().setTimestamp(fetchedAt / 1000L);
+    }
+
+    public void setFetchedAt(long fetchedAt) {
+        this.fetchedAt = fetchedAt;
+    }
 }
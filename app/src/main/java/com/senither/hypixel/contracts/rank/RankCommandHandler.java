@@ -63,6 +63,8 @@ public abstract class RankCommandHandler {
             }
         }
 
+        guildEntry.forgetRankRequirementPlan();
+
         try {
             app.getDatabaseManager().queryUpdate("UPDATE `guilds` SET `rank_requirements` = ? WHERE `discord_id` = ?",
                 app.getHypixel().getGson().toJson(guildEntry.getRankRequirements()), event.getGuild().getIdLong()
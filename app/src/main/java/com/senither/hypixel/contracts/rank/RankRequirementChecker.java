@@ -21,70 +21,95 @@
 
 package com.senither.hypixel.contracts.rank;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonObject;
 import com.senither.hypixel.database.controller.GuildController;
 import com.senither.hypixel.exceptions.NoRankRequirementException;
 import com.senither.hypixel.inventory.Inventory;
+import com.senither.hypixel.inventory.InventoryCache;
+import com.senither.hypixel.metrics.Metrics;
 import com.senither.hypixel.rank.RankCheckResponse;
+import com.senither.hypixel.rank.RankRequirementPlan;
+import com.senither.hypixel.rank.RankRequirementType;
+import io.prometheus.client.Histogram;
 import net.hypixel.api.reply.GuildReply;
 import net.hypixel.api.reply.skyblock.SkyBlockProfileReply;
 
 import java.io.IOException;
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public abstract class RankRequirementChecker {
 
+    private static final ExecutorService computePool = Executors.newFixedThreadPool(
+        Math.max(2, Runtime.getRuntime().availableProcessors()), new ThreadFactoryBuilder()
+            .setNameFormat("rank-checker-%d")
+            .setDaemon(true)
+            .build()
+    );
+
     private final String type;
+    protected RankRequirementType rankType;
 
     protected RankRequirementChecker(String type) {
         this.type = type;
     }
 
+    public void setRankType(RankRequirementType rankType) {
+        this.rankType = rankType;
+    }
+
     public RankCheckResponse getRankForUser(GuildController.GuildEntry guildEntry, GuildReply guildReply, SkyBlockProfileReply profileReply, UUID playerUUID) {
-        RankCheckResponse response = handleGetRankForUser(guildEntry, guildReply, profileReply, playerUUID);
+        RankRequirementPlan plan = guildEntry.getRankRequirementPlan(guildReply);
+
+        Histogram.Timer timer = Metrics.rankCheckerExecutionTime.labels(rankType.name()).startTimer();
         try {
-            checkForRankRequirementsSetup(guildEntry, type);
+            RankCheckResponse response = handleGetRankForUser(plan, profileReply, playerUUID);
+            if (!plan.hasRequirementsSetup(rankType)) {
+                NoRankRequirementException exception = new NoRankRequirementException(type);
+                exception.setRankResponse(response);
 
+                throw exception;
+            }
             return response;
-        } catch (NoRankRequirementException e) {
-            e.setRankResponse(response);
-
-            throw e;
+        } finally {
+            timer.observeDuration();
         }
     }
 
+    /**
+     * Runs the rank check on the shared rank checker pool, allowing the expensive inventory
+     * based checkers to run alongside the cheaper checkers instead of one after another,
+     * any exception thrown by the checker will complete the future exceptionally.
+     *
+     * @param guildEntry   The guild entry the rank requirements should be loaded from.
+     * @param guildReply   The guild the rank requirements belongs to.
+     * @param profileReply The SkyBlock profile that should be checked.
+     * @param playerUUID   The UUID of the player that should be checked.
+     * @return The future that completes with the rank check response.
+     */
+    public CompletableFuture<RankCheckResponse> getRankForUserAsync(GuildController.GuildEntry guildEntry, GuildReply guildReply, SkyBlockProfileReply profileReply, UUID playerUUID) {
+        return CompletableFuture.supplyAsync(() -> getRankForUser(guildEntry, guildReply, profileReply, playerUUID), computePool);
+    }
+
     public abstract String getRankRequirementNote(GuildController.GuildEntry.RankRequirement requirement);
 
     public abstract boolean hasRequirementsSetup(GuildController.GuildEntry.RankRequirement requirement);
 
-    protected abstract RankCheckResponse handleGetRankForUser(GuildController.GuildEntry guildEntry, GuildReply guildReply, SkyBlockProfileReply profileReply, UUID playerUUID);
-
-    private void checkForRankRequirementsSetup(GuildController.GuildEntry guildEntry, String type) {
-        boolean hasAtleastOneRequirementSetup = false;
-        for (GuildController.GuildEntry.RankRequirement requirement : guildEntry.getRankRequirements().values()) {
-            if (hasRequirementsSetup(requirement)) {
-                hasAtleastOneRequirementSetup = true;
-            }
-        }
-
-        if (!hasAtleastOneRequirementSetup) {
-            throw new NoRankRequirementException(type);
-        }
-    }
+    protected abstract RankCheckResponse handleGetRankForUser(RankRequirementPlan plan, SkyBlockProfileReply profileReply, UUID playerUUID);
 
     protected JsonObject getProfileMemberFromUUID(SkyBlockProfileReply profileReply, UUID playerUUID) {
         return profileReply.getProfile().getAsJsonObject("members").getAsJsonObject(playerUUID.toString().replace("-", ""));
     }
 
-    protected final List<GuildReply.Guild.Rank> getSortedRanksFromGuild(GuildReply guild) {
-        return guild.getGuild().getRanks().stream()
-            .sorted((o1, o2) -> o2.getPriority() - o1.getPriority())
-            .collect(Collectors.toList());
-    }
-
-    protected final Inventory buildInventoryForPlayer(JsonObject member, String inventoryName) throws IOException {
-        return new Inventory(member.get(inventoryName).getAsJsonObject().get("data").getAsString());
+    protected final Inventory buildInventoryForPlayer(SkyBlockProfileReply profileReply, UUID playerUUID, String inventoryName) throws IOException {
+        return InventoryCache.getInventory(
+            profileReply.getProfile().get("profile_id").getAsString(),
+            playerUUID.toString().replace("-", ""),
+            getProfileMemberFromUUID(profileReply, playerUUID),
+            inventoryName
+        );
     }
 }
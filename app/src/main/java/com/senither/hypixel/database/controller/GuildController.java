@@ -28,7 +28,9 @@ import com.google.gson.JsonObject;
 import com.senither.hypixel.database.DatabaseManager;
 import com.senither.hypixel.database.collection.Collection;
 import com.senither.hypixel.database.collection.DataRow;
+import com.senither.hypixel.rank.RankRequirementPlan;
 import com.senither.hypixel.rank.items.PowerOrb;
+import net.hypixel.api.reply.GuildReply;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -113,6 +115,7 @@ public class GuildController {
         private final Long banLogRole;
         private final boolean autoRename;
         private final LinkedHashMap<String, RankRequirement> rankRequirements;
+        private volatile RankRequirementPlan rankRequirementPlan;
 
         GuildEntry(DataRow row) {
             id = row.getString("id");
@@ -241,6 +244,19 @@ public class GuildController {
             return rankRequirements;
         }
 
+        public RankRequirementPlan getRankRequirementPlan(GuildReply guildReply) {
+            RankRequirementPlan plan = rankRequirementPlan;
+            if (plan == null || !plan.isCompiledFor(guildReply)) {
+                plan = new RankRequirementPlan(rankRequirements, guildReply);
+                rankRequirementPlan = plan;
+            }
+            return plan;
+        }
+
+        public void forgetRankRequirementPlan() {
+            rankRequirementPlan = null;
+        }
+
         public static class RankRequirement {
 
             private int fairySouls = Integer.MAX_VALUE;
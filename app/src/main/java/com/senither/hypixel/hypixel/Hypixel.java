@@ -23,18 +23,20 @@ package com.senither.hypixel.hypixel;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.senither.hypixel.SkyblockAssistant;
 import com.senither.hypixel.contracts.commands.Command;
-import com.senither.hypixel.contracts.hypixel.Response;
 import com.senither.hypixel.database.collection.Collection;
 import com.senither.hypixel.exceptions.FriendlyException;
+import com.senither.hypixel.hypixel.bazaar.BazaarHistory;
 import com.senither.hypixel.hypixel.bazaar.BazaarProductReply;
+import com.senither.hypixel.hypixel.leaderboard.LeaderboardSnapshots;
 import com.senither.hypixel.hypixel.response.*;
-import com.senither.hypixel.statistics.StatisticsChecker;
+import com.senither.hypixel.statistics.ProfileStatistics;
 import com.senither.hypixel.time.Carbon;
 import net.dv8tion.jda.api.entities.User;
 import net.hypixel.api.adapters.DateTimeTypeAdapter;
@@ -52,14 +54,15 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.net.ssl.SSLPeerUnverifiedException;
+import java.io.File;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.regex.Pattern;
 
 public class Hypixel {
@@ -86,11 +89,6 @@ public class Hypixel {
         .recordStats()
         .build();
 
-    public static final Cache<String, Response> responseCache = CacheBuilder.newBuilder()
-        .expireAfterWrite(30, TimeUnit.MINUTES)
-        .recordStats()
-        .build();
-
     public static final Cache<String, AuctionHouseResponse> auctionsCache = CacheBuilder.newBuilder()
         .expireAfterWrite(1, TimeUnit.MINUTES)
         .recordStats()
@@ -101,17 +99,52 @@ public class Hypixel {
         .registerTypeAdapter(ZonedDateTime.class, new DateTimeTypeAdapter())
         .create();
 
+    private static final String bazaarProductsCacheKey = "skyblock-bazaar-products";
+
+    /**
+     * The maximum age of the latest Bazaar snapshot before the commands stops using it,
+     * and falls back to the reply cache instead, this should only happen if the
+     * Bazaar poll job has been failing for multiple minutes in a row.
+     */
+    private static final long maxBazaarSnapshotAge = TimeUnit.MINUTES.toMillis(5);
+
     private static final Pattern minecraftUsernameRegex = Pattern.compile("^\\w+$", Pattern.CASE_INSENSITIVE);
 
+    /**
+     * The executor used for the database and Mojang lookups needed to load players
+     * and profiles, so the threads completing the lookup futures, like the JDA
+     * event threads and the Hypixel API threads, never waits on any I/O.
+     */
+    private final ExecutorService ioExecutor = Executors.newFixedThreadPool(8, new ThreadFactoryBuilder()
+        .setNameFormat("hypixel-io-%d")
+        .setDaemon(true)
+        .build()
+    );
+
     private final SkyblockAssistant app;
     private final ClientContainer clientContainer;
     private final HttpClient httpClient;
+    private final LeaderboardSnapshots leaderboardSnapshots;
+    private final BazaarHistory bazaarHistory;
+    private final PlayerNameResolver playerNameResolver;
+
+    private volatile BazaarProductReply latestBazaarProducts;
+    private volatile long latestBazaarProductsAt;
 
     public Hypixel(SkyblockAssistant app) {
         this.app = app;
 
         this.httpClient = HttpClientBuilder.create().build();
         this.clientContainer = new ClientContainer(app);
+        this.leaderboardSnapshots = new LeaderboardSnapshots();
+        this.bazaarHistory = new BazaarHistory(new File("storage/bazaar-history.dat"));
+        this.playerNameResolver = new PlayerNameResolver(app, this, httpClient);
+
+        try {
+            bazaarHistory.loadCheckpoint();
+        } catch (IOException e) {
+            log.warn("Failed to restore the Bazaar history from its checkpoint, error: {}", e.getMessage(), e);
+        }
     }
 
     public boolean isValidMinecraftUsername(@Nonnull String username) {
@@ -133,12 +166,24 @@ public class Hypixel {
     public CompletableFuture<PlayerReply> getPlayerByName(String name, boolean ignoreDatabaseCache) {
         CompletableFuture<PlayerReply> future = new CompletableFuture<>();
 
+        ioExecutor.execute(() -> {
+            try {
+                loadPlayerByName(name, ignoreDatabaseCache, future);
+            } catch (Exception e) {
+                handleResponseException(future, e);
+            }
+        });
+
+        return future;
+    }
+
+    private void loadPlayerByName(String name, boolean ignoreDatabaseCache, CompletableFuture<PlayerReply> future) {
         final String cacheKey = "player-name-" + name.toLowerCase();
         try {
             UUID uuid = getUUIDFromName(name);
             if (uuid == null) {
                 handleResponseException(future, new FriendlyException("Failed to find a valid UUID for the given username!"));
-                return future;
+                return;
             }
 
             AbstractReply cachedPlayerProfile = replyCache.getIfPresent(cacheKey);
@@ -146,7 +191,7 @@ public class Hypixel {
                 log.debug("Found player profile for {} using the in-memory cache (ID: {})", name, uuid.toString());
 
                 future.complete((PlayerReply) cachedPlayerProfile);
-                return future;
+                return;
             }
 
             final boolean[] hasDatabaseEntry = {false};
@@ -163,7 +208,7 @@ public class Hypixel {
                             replyCache.put(cacheKey, playerReply);
                             future.complete(playerReply);
 
-                            return future;
+                            return;
                         }
                     }
                     hasDatabaseEntry[0] = true;
@@ -204,12 +249,10 @@ public class Hypixel {
                 }
 
                 future.complete(playerReply);
-            });
+            }, ioExecutor);
         } catch (SQLException e) {
             handleResponseException(future, e);
         }
-
-        return future;
     }
 
     public CompletableFuture<SkyBlockProfileReply> getSelectedSkyBlockProfileFromUsername(String name) {
@@ -222,13 +265,36 @@ public class Hypixel {
                 return;
             }
 
-            if (playerReply.getPlayer() == null) {
-                handleResponseException(future, new FriendlyException("Failed to find any valid SkyBlock profiles!"));
-                return;
-            }
+            getSelectedSkyBlockProfile(playerReply).whenComplete((skyBlockProfileReply, profileThrowable) -> {
+                if (profileThrowable != null) {
+                    handleResponseException(future, profileThrowable);
+                    return;
+                }
+
+                future.complete(skyBlockProfileReply);
+            });
+        });
+
+        return future;
+    }
+
+    public CompletableFuture<SkyBlockProfileReply> getSelectedSkyBlockProfile(PlayerReply playerReply) {
+        CompletableFuture<SkyBlockProfileReply> future = new CompletableFuture<>();
+
+        if (playerReply.getPlayer() == null) {
+            handleResponseException(future, new FriendlyException("Failed to find any valid SkyBlock profiles!"));
+            return future;
+        }
+
+        final String name = playerReply.getPlayer().get("displayname").getAsString();
+
+        try {
+            prepareSkyBlockProfiles(playerReply).whenComplete((skyBlockProfileReplies, throwable) -> {
+                if (throwable != null) {
+                    handleResponseException(future, throwable);
+                    return;
+                }
 
-            try {
-                List<SkyBlockProfileReply> skyBlockProfileReplies = prepareSkyBlockProfiles(playerReply);
                 if (skyBlockProfileReplies.isEmpty()) {
                     log.debug("Failed to get selected skyblock profile for \"{}\" due to having found no valid profiles.", name);
 
@@ -236,27 +302,33 @@ public class Hypixel {
                     return;
                 }
 
-                //noinspection ConstantConditions
-                SkyBlockProfileReply skyBlockProfileReply = skyBlockProfileReplies.stream()
-                    .sorted((profileOne, profileTwo) -> {
-                        return getLastSaveFromMember(profileOne.getProfile().getAsJsonObject("members").getAsJsonObject(
-                            playerReply.getPlayer().get("uuid").getAsString()
-                        )) < getLastSaveFromMember(profileTwo.getProfile().getAsJsonObject("members").getAsJsonObject(
-                            playerReply.getPlayer().get("uuid").getAsString()
-                        )) ? 1 : -1;
-                    }).findFirst().get();
-
-                log.debug("Found selected SkyBlock profile for \"{}\" it was \"{}\" with UUID \"{}\"",
-                    name, skyBlockProfileReply.getProfile().get("cute_name").getAsString(), skyBlockProfileReply.getProfile().get("profile_id").getAsString()
-                );
+                try {
+                    //noinspection ConstantConditions
+                    SkyBlockProfileReply skyBlockProfileReply = skyBlockProfileReplies.stream()
+                        .sorted((profileOne, profileTwo) -> {
+                            return getLastSaveFromMember(profileOne.getProfile().getAsJsonObject("members").getAsJsonObject(
+                                playerReply.getPlayer().get("uuid").getAsString()
+                            )) < getLastSaveFromMember(profileTwo.getProfile().getAsJsonObject("members").getAsJsonObject(
+                                playerReply.getPlayer().get("uuid").getAsString()
+                            )) ? 1 : -1;
+                        }).findFirst().get();
+
+                    log.debug("Found selected SkyBlock profile for \"{}\" it was \"{}\" with UUID \"{}\"",
+                        name, skyBlockProfileReply.getProfile().get("cute_name").getAsString(), skyBlockProfileReply.getProfile().get("profile_id").getAsString()
+                    );
 
-                future.complete(skyBlockProfileReply);
-            } catch (NullPointerException e) {
-                handleResponseException(future, new FriendlyException("Found no SkyBlock profiles for " + name));
-            } catch (Exception e) {
-                handleResponseException(future, e);
-            }
-        });
+                    future.complete(skyBlockProfileReply);
+                } catch (NullPointerException e) {
+                    handleResponseException(future, new FriendlyException("Found no SkyBlock profiles for " + name));
+                } catch (Exception e) {
+                    handleResponseException(future, e);
+                }
+            });
+        } catch (NullPointerException e) {
+            handleResponseException(future, new FriendlyException("Found no SkyBlock profiles for " + name));
+        } catch (Exception e) {
+            handleResponseException(future, e);
+        }
 
         return future;
     }
@@ -277,25 +349,37 @@ public class Hypixel {
             }
 
             try {
-                List<SkyBlockProfileReply> skyBlockProfileReplies = prepareSkyBlockProfiles(playerReply);
-                if (skyBlockProfileReplies.isEmpty()) {
-                    log.debug("Failed to get most progressed skyblock profile for \"{}\" due to having found no valid profiles.", name);
+                prepareSkyBlockProfiles(playerReply).whenComplete((skyBlockProfileReplies, profilesThrowable) -> {
+                    if (profilesThrowable != null) {
+                        handleResponseException(future, profilesThrowable);
+                        return;
+                    }
 
-                    handleResponseException(future, new FriendlyException("Failed to find any valid SkyBlock profiles!"));
-                    return;
-                }
+                    if (skyBlockProfileReplies.isEmpty()) {
+                        log.debug("Failed to get most progressed skyblock profile for \"{}\" due to having found no valid profiles.", name);
 
-                final String uuid = playerReply.getPlayer().get("uuid").getAsString();
+                        handleResponseException(future, new FriendlyException("Failed to find any valid SkyBlock profiles!"));
+                        return;
+                    }
 
-                SkyBlockProfileReply skyBlockProfileReply = skyBlockProfileReplies.stream()
-                    .max(Comparator.comparingDouble(profile -> getSkyblockProfileScore(playerReply, profile, uuid)))
-                    .orElseThrow(() -> new FriendlyException("Failed to find any valid SkyBlock profiles!"));
+                    try {
+                        final String uuid = playerReply.getPlayer().get("uuid").getAsString();
 
-                log.debug("Found selected SkyBlock profile for \"{}\" it was \"{}\" with UUID \"{}\"",
-                    name, skyBlockProfileReply.getProfile().get("cute_name").getAsString(), skyBlockProfileReply.getProfile().get("profile_id").getAsString()
-                );
+                        SkyBlockProfileReply skyBlockProfileReply = skyBlockProfileReplies.stream()
+                            .max(Comparator.comparingDouble(profile -> getSkyblockProfileScore(playerReply, profile, uuid)))
+                            .orElseThrow(() -> new FriendlyException("Failed to find any valid SkyBlock profiles!"));
 
-                future.complete(skyBlockProfileReply);
+                        log.debug("Found selected SkyBlock profile for \"{}\" it was \"{}\" with UUID \"{}\"",
+                            name, skyBlockProfileReply.getProfile().get("cute_name").getAsString(), skyBlockProfileReply.getProfile().get("profile_id").getAsString()
+                        );
+
+                        future.complete(skyBlockProfileReply);
+                    } catch (NullPointerException e) {
+                        handleResponseException(future, new FriendlyException("Failed to find any valid SkyBlock profiles!"));
+                    } catch (Exception e) {
+                        handleResponseException(future, e);
+                    }
+                });
             } catch (NullPointerException e) {
                 handleResponseException(future, new FriendlyException("Failed to find any valid SkyBlock profiles!"));
             } catch (Exception e) {
@@ -321,6 +405,18 @@ public class Hypixel {
             return future;
         }
 
+        ioExecutor.execute(() -> {
+            try {
+                loadSkyBlockProfile(name, cacheKey, future);
+            } catch (Exception e) {
+                handleResponseException(future, e);
+            }
+        });
+
+        return future;
+    }
+
+    private void loadSkyBlockProfile(String name, String cacheKey, CompletableFuture<SkyBlockProfileReply> future) {
         boolean hasDatabaseEntry = false;
 
         try {
@@ -337,7 +433,7 @@ public class Hypixel {
                         replyCache.put(cacheKey, skyblockProfile);
                         future.complete(skyblockProfile);
 
-                        return future;
+                        return;
                     }
                 }
                 hasDatabaseEntry = true;
@@ -351,7 +447,7 @@ public class Hypixel {
         log.debug("Requesting for SkyBlock profile with an ID of {} from the API", name);
 
         boolean finalHasDatabaseEntry = hasDatabaseEntry;
-        clientContainer.getNextClient().getSkyBlockProfile(name).whenComplete((skyBlockProfileReply, throwable) -> {
+        clientContainer.getNextClient().getSkyBlockProfile(name).whenCompleteAsync((skyBlockProfileReply, throwable) -> {
             if (throwable != null) {
                 handleResponseException(future, throwable);
                 return;
@@ -376,9 +472,7 @@ public class Hypixel {
             }
 
             future.complete(skyBlockProfileReply);
-        });
-
-        return future;
+        }, ioExecutor);
     }
 
     public CompletableFuture<GuildReply> getGuildByPlayer(String uuid) {
@@ -483,6 +577,8 @@ public class Hypixel {
                 return null;
             }
 
+            auctionHouseResponse.getIndex();
+
             auctionsCache.put(profileId, auctionHouseResponse);
 
             return auctionHouseResponse;
@@ -492,15 +588,31 @@ public class Hypixel {
     }
 
     public BazaarProductReply getBazaarProducts() {
-        final String cacheKey = "skyblock-bazaar-products";
+        BazaarProductReply latestSnapshot = latestBazaarProducts;
+        if (latestSnapshot != null && latestBazaarProductsAt > System.currentTimeMillis() - maxBazaarSnapshotAge) {
+            log.debug("Found Bazaar Products using the latest Bazaar snapshot");
+
+            return latestSnapshot;
+        }
 
-        AbstractReply bazaarProductsCacheReply = replyCache.getIfPresent(cacheKey);
+        AbstractReply bazaarProductsCacheReply = replyCache.getIfPresent(bazaarProductsCacheKey);
         if (bazaarProductsCacheReply instanceof BazaarProductReply) {
             log.debug("Found Bazaar Products using the in-memory cache");
 
             return (BazaarProductReply) bazaarProductsCacheReply;
         }
 
+        return refreshBazaarProducts();
+    }
+
+    /**
+     * Requests a fresh snapshot of the Bazaar products from the API, ignoring any cached
+     * products, if the request is successful the snapshot is published as the latest
+     * Bazaar snapshot, which the Bazaar commands will use from then on.
+     *
+     * @return Possibly-null, the fresh Bazaar snapshot, or <code>null</code> if the request failed.
+     */
+    public BazaarProductReply refreshBazaarProducts() {
         log.debug("Requesting for SkyBlock Bazaar Products from the API");
 
         UUID randomApiKey = clientContainer.getNextClient().getApiKey();
@@ -517,7 +629,12 @@ public class Hypixel {
                 return null;
             }
 
-            replyCache.put(cacheKey, bazaarProductReply);
+            bazaarProductReply.getPrices();
+
+            replyCache.put(bazaarProductsCacheKey, bazaarProductReply);
+
+            latestBazaarProductsAt = System.currentTimeMillis();
+            latestBazaarProducts = bazaarProductReply;
 
             return bazaarProductReply;
         } catch (IOException e) {
@@ -526,15 +643,30 @@ public class Hypixel {
     }
 
     public PlayerLeaderboardResponse getPlayerLeaderboard() {
-        final String cacheKey = "skyblock-player-leaderboard";
+        return leaderboardSnapshots.get("skyblock-player-leaderboard", this::fetchPlayerLeaderboard);
+    }
 
-        Response cachedLeaderboard = responseCache.getIfPresent(cacheKey);
-        if (cachedLeaderboard instanceof PlayerLeaderboardResponse) {
-            log.debug("Found Player Leaderboard using the in-memory cache");
+    public GuildLeaderboardResponse getGuildLeaderboard() {
+        return leaderboardSnapshots.get("skyblock-leaderboard", this::fetchGuildLeaderboard);
+    }
 
-            return (PlayerLeaderboardResponse) cachedLeaderboard;
-        }
+    public GuildMetricsResponse getGuildLeaderboardMetrics(String guildId) {
+        return leaderboardSnapshots.get("skyblock-metrics-leaderboard-" + guildId, () -> fetchGuildLeaderboardMetrics(guildId));
+    }
+
+    public PlayerLeaderboardResponse getGuildPlayersLeaderboard(String guildId) {
+        return leaderboardSnapshots.get("skyblock-player-leaderboard-" + guildId, () -> fetchGuildPlayersLeaderboard(guildId));
+    }
+
+    public LeaderboardSnapshots getLeaderboardSnapshots() {
+        return leaderboardSnapshots;
+    }
 
+    public BazaarHistory getBazaarHistory() {
+        return bazaarHistory;
+    }
+
+    private PlayerLeaderboardResponse fetchPlayerLeaderboard() {
         log.debug("Requesting for Player Leaderboard from the API");
 
         try {
@@ -547,7 +679,8 @@ public class Hypixel {
                 return null;
             }
 
-            responseCache.put(cacheKey, leaderboardResponse);
+            // Builds the leaderboard table once when it's fetched, instead of every time it's viewed.
+            leaderboardResponse.getTable();
 
             return leaderboardResponse;
         } catch (IOException e) {
@@ -555,16 +688,7 @@ public class Hypixel {
         }
     }
 
-    public GuildLeaderboardResponse getGuildLeaderboard() {
-        final String cacheKey = "skyblock-leaderboard";
-
-        Response cachedLeaderboard = responseCache.getIfPresent(cacheKey);
-        if (cachedLeaderboard instanceof GuildLeaderboardResponse) {
-            log.debug("Found Guild Leaderboard using the in-memory cache");
-
-            return (GuildLeaderboardResponse) cachedLeaderboard;
-        }
-
+    private GuildLeaderboardResponse fetchGuildLeaderboard() {
         log.debug("Requesting for Guild Leaderboard from the API");
 
         try {
@@ -577,7 +701,9 @@ public class Hypixel {
                 return null;
             }
 
-            responseCache.put(cacheKey, leaderboardResponse);
+            // Builds the leaderboard table and name index once when it's fetched, instead of every time it's viewed.
+            leaderboardResponse.getTable();
+            leaderboardResponse.getNameIndex();
 
             return leaderboardResponse;
         } catch (IOException e) {
@@ -585,46 +711,20 @@ public class Hypixel {
         }
     }
 
-    public GuildMetricsResponse getGuildLeaderboardMetrics(String guildId) {
-        final String cacheKey = "skyblock-metrics-leaderboard-" + guildId;
-
-        Response cachedLeaderboard = responseCache.getIfPresent(cacheKey);
-        if (cachedLeaderboard instanceof GuildMetricsResponse) {
-            log.debug("Found metrics for {} using the in-memory cache", guildId);
-
-            return (GuildMetricsResponse) cachedLeaderboard;
-        }
-
+    private GuildMetricsResponse fetchGuildLeaderboardMetrics(String guildId) {
         log.debug("Requesting for Guild metrics for {} from the API", guildId);
 
         try {
-            GuildMetricsResponse leaderboardResponse = httpClient.execute(new HttpGet(app.getConfiguration().getLeaderboardUri() + "/metrics/" + guildId), obj -> {
+            return httpClient.execute(new HttpGet(app.getConfiguration().getLeaderboardUri() + "/metrics/" + guildId), obj -> {
                 String content = EntityUtils.toString(obj.getEntity(), "UTF-8");
                 return gson.fromJson(content, GuildMetricsResponse.class);
             });
-
-            if (leaderboardResponse == null) {
-                return null;
-            }
-
-            responseCache.put(cacheKey, leaderboardResponse);
-
-            return leaderboardResponse;
         } catch (IOException e) {
             return null;
         }
     }
 
-    public PlayerLeaderboardResponse getGuildPlayersLeaderboard(String guildId) {
-        final String cacheKey = "skyblock-player-leaderboard-" + guildId;
-
-        Response cachedLeaderboard = responseCache.getIfPresent(cacheKey);
-        if (cachedLeaderboard instanceof PlayerLeaderboardResponse) {
-            log.debug("Found Player Leaderboard for {} using the in-memory cache", guildId);
-
-            return (PlayerLeaderboardResponse) cachedLeaderboard;
-        }
-
+    private PlayerLeaderboardResponse fetchGuildPlayersLeaderboard(String guildId) {
         log.debug("Requesting for Player Leaderboard for {} from the API", guildId);
 
         try {
@@ -637,7 +737,8 @@ public class Hypixel {
                 return null;
             }
 
-            responseCache.put(cacheKey, leaderboardResponse);
+            // Builds the leaderboard table once when it's fetched, instead of every time it's viewed.
+            leaderboardResponse.getTable();
 
             return leaderboardResponse;
         } catch (IOException e) {
@@ -707,108 +808,28 @@ public class Hypixel {
         return null;
     }
 
-    public synchronized UUID getUUIDFromName(String name) throws SQLException {
-        UUID cachedUUID = usernameToUuidCache.getIfPresent(name.toLowerCase());
-        if (cachedUUID != null) {
-            log.debug("Found UUID for {} using the in-memory cache (ID: {})", name, cachedUUID);
-            return cachedUUID;
-        }
-
-        Collection result = app.getDatabaseManager().query("SELECT `uuid` FROM `uuids` WHERE `username` = ?", name);
-        if (!result.isEmpty()) {
-            UUID uuid = UUID.fromString(result.get(0).getString("uuid"));
-            usernameToUuidCache.put(name.toLowerCase(), uuid);
-            log.debug("Found UUID for {} using the database cache (ID: {})", name, uuid);
-
-            return uuid;
-        }
-
-        try {
-            MojangPlayerUUID mojangPlayer = httpClient.execute(new HttpGet("https://api.mojang.com/users/profiles/minecraft/" + name), obj -> {
-                String content = EntityUtils.toString(obj.getEntity(), "UTF-8");
-                return gson.fromJson(content, MojangPlayerUUID.class);
-            });
-
-            if (mojangPlayer == null || mojangPlayer.getUUID() == null) {
-                return null;
-            }
-
-            log.debug("Found UUID for {} using the Mojang API (ID: {})", name, mojangPlayer.getUUID());
-
-            try {
-                app.getDatabaseManager().queryInsert("INSERT INTO `uuids` SET `uuid` = ?, `username` = ?",
-                    mojangPlayer.getUUID().toString(), name
-                );
-            } catch (Exception e) {
-                log.error("Failed to get UUID for player {}, error: {}",
-                    name, e.getMessage(), e
-                );
-            }
-
-            return mojangPlayer.getUUID();
-        } catch (IOException e) {
-            log.error("Failed to fetch UUID for {} using the Mojang API, error: {}", name, e.getMessage(), e);
-        } catch (IllegalArgumentException e) {
-            // We can ignore this exception since it should only be thrown if
-            // the Hypixel API returns null due to the player not existing.
-        }
+    public UUID getUUIDFromName(String name) throws SQLException {
+        return playerNameResolver.getUUID(name);
+    }
 
-        return null;
+    public Map<String, UUID> getUUIDsFromNames(java.util.Collection<String> names) throws SQLException {
+        return playerNameResolver.resolveAll(names);
     }
 
     public void forgetUsernameCacheEntry(UUID uuid) {
         uuidToUsernameCache.invalidate(uuid);
     }
 
-    public synchronized String getUsernameFromUuid(UUID uuid) throws SQLException {
-        String cachedUsername = uuidToUsernameCache.getIfPresent(uuid);
-        if (cachedUsername != null) {
-            log.debug("Found Username for {} using the in-memory cache (Username: {})", uuid, cachedUsername);
-            return cachedUsername;
-        }
-
-        Collection result = app.getDatabaseManager().query("SELECT `username` FROM `uuids` WHERE `uuid` = ?", uuid.toString());
-        if (!result.isEmpty()) {
-            String username = result.get(0).getString("username");
-            uuidToUsernameCache.put(uuid, username);
-            log.debug("Found Username for {} using the database cache (Username: {})", uuid, username);
-
-            return username;
-        }
-
-        try {
-            PlayerReply playerReply = getClientContainer().getNextClient().getPlayerByUuid(uuid).get(10, TimeUnit.SECONDS);
-
-            if (playerReply == null || playerReply.getPlayer() == null) {
-                return null;
-            }
-
-            String username = playerReply.getPlayer().get("displayname").getAsString();
-
-            uuidToUsernameCache.put(uuid, username);
-
-            log.debug("Found Username for {} using the Hypixel API (Username: {})", uuid, username);
-
-            try {
-                app.getDatabaseManager().queryInsert("INSERT INTO `uuids` SET `uuid` = ?, `username` = ?",
-                    uuid, username
-                );
-
-                app.getDatabaseManager().queryInsert("INSERT INTO `players` SET `uuid` = ?, `data` = ?",
-                    uuid, getGson().toJson(playerReply)
-                );
-            } catch (Exception e) {
-                log.error("Failed to get Username from UUID for player {}, error: {}",
-                    uuid.toString(), e.getMessage(), e
-                );
-            }
+    public String getUsernameFromUuid(UUID uuid) throws SQLException {
+        return playerNameResolver.getUsername(uuid);
+    }
 
-            return username;
-        } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            log.error("Failed to fetch Username for {} using the Hypixel API, error: {}", uuid, e.getMessage(), e);
-        }
+    public Map<UUID, String> getUsernamesFromUuids(java.util.Collection<UUID> uuids) throws SQLException {
+        return playerNameResolver.resolveUsernames(uuids, true);
+    }
 
-        return null;
+    public Map<UUID, String> getCachedUsernamesFromUuids(java.util.Collection<UUID> uuids) throws SQLException {
+        return playerNameResolver.resolveUsernames(uuids, false);
     }
 
     public HypixelRank getRankFromPlayer(PlayerReply playerReply) {
@@ -828,36 +849,47 @@ public class Hypixel {
         return HypixelRank.DEFAULT;
     }
 
-    private List<SkyBlockProfileReply> prepareSkyBlockProfiles(PlayerReply playerReply) {
+    private CompletableFuture<List<SkyBlockProfileReply>> prepareSkyBlockProfiles(PlayerReply playerReply) {
         JsonObject profiles = playerReply.getPlayer().getAsJsonObject("stats").getAsJsonObject("SkyBlock").getAsJsonObject("profiles");
 
-        List<SkyBlockProfileReply> skyBlockProfileReplies = new ArrayList<>();
+        // All the profiles are requested at the same time, profiles that fails to load, or takes
+        // longer than 5 seconds to load, are logged and left out of the returned profiles.
+        List<CompletableFuture<SkyBlockProfileReply>> futures = new ArrayList<>();
         for (Map.Entry<String, JsonElement> profileEntry : profiles.entrySet()) {
-            try {
-                SkyBlockProfileReply profileReply = getSkyBlockProfile(profileEntry.getKey()).get(5, TimeUnit.SECONDS);
-                if (!profileReply.isSuccess()) {
-                    continue;
-                }
+            futures.add(getSkyBlockProfile(profileEntry.getKey())
+                .orTimeout(5, TimeUnit.SECONDS)
+                .thenApply(profileReply -> {
+                    if (!profileReply.isSuccess()) {
+                        return null;
+                    }
 
-                profileReply.getProfile().add("cute_name", profileEntry.getValue().getAsJsonObject().get("cute_name"));
+                    profileReply.getProfile().add("cute_name", profileEntry.getValue().getAsJsonObject().get("cute_name"));
 
-                skyBlockProfileReplies.add(profileReply);
-            } catch (Exception e) {
-                log.error("Failed to get selected profile for {}, error: {}",
-                    playerReply.getPlayer().get("displayname").getAsString(), e.getMessage(), e
-                );
-            }
+                    return profileReply;
+                })
+                .exceptionally(throwable -> {
+                    log.error("Failed to get selected profile for {}, error: {}",
+                        playerReply.getPlayer().get("displayname").getAsString(), throwable.getMessage(), throwable
+                    );
+                    return null;
+                })
+            );
         }
-        return skyBlockProfileReplies;
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            List<SkyBlockProfileReply> skyBlockProfileReplies = new ArrayList<>();
+            for (CompletableFuture<SkyBlockProfileReply> future : futures) {
+                SkyBlockProfileReply profileReply = future.join();
+                if (profileReply != null) {
+                    skyBlockProfileReplies.add(profileReply);
+                }
+            }
+            return skyBlockProfileReplies;
+        });
     }
 
     private double getSkyblockProfileScore(PlayerReply playerReply, SkyBlockProfileReply profileReply, String uuid) {
-        final JsonObject member = profileReply.getProfile().getAsJsonObject("members").getAsJsonObject(uuid);
-
-        return StatisticsChecker.SKILLS.checkUser(playerReply, profileReply, member).calculateTotalWeight()
-            .add(StatisticsChecker.SLAYER.checkUser(playerReply, profileReply, member).calculateTotalWeight())
-            .add(StatisticsChecker.DUNGEON.checkUser(playerReply, profileReply, member).calculateTotalWeight())
-            .getTotalWeight();
+        return ProfileStatistics.of(playerReply, profileReply, uuid).getWeight().getTotalWeight();
     }
 
     private long getLastSaveFromMember(JsonObject object) {
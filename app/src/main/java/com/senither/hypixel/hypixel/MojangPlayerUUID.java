@@ -26,8 +26,13 @@ import java.util.UUID;
 public class MojangPlayerUUID {
 
     private UUID id;
+    private String name;
 
     public UUID getUUID() {
         return id;
     }
+
+    public String getName() {
+        return name;
+    }
 }
@@ -0,0 +1,458 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.hypixel;
+
+import com.google.common.collect.Lists;
+import com.senither.hypixel.SkyblockAssistant;
+import com.senither.hypixel.database.collection.Collection;
+import com.senither.hypixel.database.collection.DataRow;
+import net.hypixel.api.reply.PlayerReply;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class PlayerNameResolver {
+
+    /**
+     * The maximum amount of usernames that can be looked up in a single request to the Mojang API.
+     */
+    private static final int MOJANG_BULK_LIMIT = 10;
+
+    private static final Logger log = LoggerFactory.getLogger(PlayerNameResolver.class);
+
+    private final ConcurrentHashMap<String, CompletableFuture<UUID>> pendingUuidLookups = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, CompletableFuture<String>> pendingUsernameLookups = new ConcurrentHashMap<>();
+
+    private final SkyblockAssistant app;
+    private final Hypixel hypixel;
+    private final HttpClient httpClient;
+
+    PlayerNameResolver(SkyblockAssistant app, Hypixel hypixel, HttpClient httpClient) {
+        this.app = app;
+        this.hypixel = hypixel;
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Gets the UUID for the given username, using the in-memory cache, the database cache,
+     * or the Mojang API. If another thread is already looking up the same username,
+     * this will wait for that lookup to finish instead of starting a new one,
+     * while lookups for other usernames are never blocked by it.
+     *
+     * @param name The username that the UUID should be found for.
+     * @return The UUID of the player with the given username, or {@code null}.
+     * @throws SQLException If the database cache query fails.
+     */
+    public UUID getUUID(String name) throws SQLException {
+        UUID cachedUUID = Hypixel.usernameToUuidCache.getIfPresent(name.toLowerCase());
+        if (cachedUUID != null) {
+            log.debug("Found UUID for {} using the in-memory cache (ID: {})", name, cachedUUID);
+            return cachedUUID;
+        }
+
+        return resolve(pendingUuidLookups, name.toLowerCase(), () -> loadUUID(name));
+    }
+
+    /**
+     * Gets the username for the given UUID, using the in-memory cache, the database cache,
+     * or the Hypixel API. If another thread is already looking up the same UUID,
+     * this will wait for that lookup to finish instead of starting a new one.
+     *
+     * @param uuid The UUID that the username should be found for.
+     * @return The username of the player with the given UUID, or {@code null}.
+     * @throws SQLException If the database cache query fails.
+     */
+    public String getUsername(UUID uuid) throws SQLException {
+        String cachedUsername = Hypixel.uuidToUsernameCache.getIfPresent(uuid);
+        if (cachedUsername != null) {
+            log.debug("Found Username for {} using the in-memory cache (Username: {})", uuid, cachedUsername);
+            return cachedUsername;
+        }
+
+        return resolve(pendingUsernameLookups, uuid, () -> loadUsername(uuid));
+    }
+
+    /**
+     * Gets the UUIDs for all the given usernames, usernames that are not in the in-memory
+     * cache are looked up using a single database query, and any usernames that are
+     * still missing after that are looked up using the Mojang bulk profile API.
+     *
+     * @param usernames The usernames that the UUIDs should be found for.
+     * @return A map of the given usernames and their UUIDs, usernames that doesn't
+     * belong to any player are left out of the map.
+     * @throws SQLException If the database cache query fails.
+     */
+    public Map<String, UUID> resolveAll(java.util.Collection<String> usernames) throws SQLException {
+        Map<String, UUID> uuids = new HashMap<>();
+        Map<String, List<String>> missingUsernames = new LinkedHashMap<>();
+
+        for (String username : usernames) {
+            UUID cachedUUID = Hypixel.usernameToUuidCache.getIfPresent(username.toLowerCase());
+            if (cachedUUID != null) {
+                uuids.put(username, cachedUUID);
+                continue;
+            }
+
+            missingUsernames.computeIfAbsent(username.toLowerCase(), name -> new ArrayList<>()).add(username);
+        }
+
+        if (missingUsernames.isEmpty()) {
+            log.debug("Found {} UUIDs using the in-memory cache", uuids.size());
+            return uuids;
+        }
+
+        StringBuilder stringifiedParams = new StringBuilder();
+        for (int i = 0; i < missingUsernames.size(); i++) {
+            stringifiedParams.append(i == 0 ? "?" : ", ?");
+        }
+
+        Collection result = app.getDatabaseManager().query(String.format(
+            "SELECT `uuid`, `username` FROM `uuids` WHERE `username` IN (%s)",
+            stringifiedParams.toString()
+        ), missingUsernames.keySet().toArray());
+
+        for (DataRow row : result) {
+            String username = row.getString("username");
+            if (username == null) {
+                continue;
+            }
+
+            List<String> requestedUsernames = missingUsernames.remove(username.toLowerCase());
+            if (requestedUsernames == null) {
+                continue;
+            }
+
+            UUID uuid = UUID.fromString(row.getString("uuid"));
+            Hypixel.usernameToUuidCache.put(username.toLowerCase(), uuid);
+            for (String requestedUsername : requestedUsernames) {
+                uuids.put(requestedUsername, uuid);
+            }
+        }
+
+        for (List<String> batch : Lists.partition(new ArrayList<>(missingUsernames.keySet()), MOJANG_BULK_LIMIT)) {
+            for (MojangPlayerUUID mojangPlayer : loadMojangPlayers(batch)) {
+                if (mojangPlayer == null || mojangPlayer.getUUID() == null || mojangPlayer.getName() == null) {
+                    continue;
+                }
+
+                List<String> requestedUsernames = missingUsernames.remove(mojangPlayer.getName().toLowerCase());
+                if (requestedUsernames == null) {
+                    continue;
+                }
+
+                Hypixel.usernameToUuidCache.put(mojangPlayer.getName().toLowerCase(), mojangPlayer.getUUID());
+                for (String requestedUsername : requestedUsernames) {
+                    uuids.put(requestedUsername, mojangPlayer.getUUID());
+                }
+
+                storeUuid(mojangPlayer.getUUID(), mojangPlayer.getName());
+            }
+        }
+
+        log.debug("Found {} UUIDs using the in-memory cache, database cache, and Mojang API, {} were missing",
+            uuids.size(), usernames.size() - uuids.size()
+        );
+
+        return uuids;
+    }
+
+    /**
+     * Gets the usernames for all the given UUIDs, UUIDs that are not in the in-memory cache
+     * are looked up using a single database query, if requested, any UUIDs that are
+     * still missing after that are then looked up using the Hypixel API, with all
+     * the players being requested at the same time.
+     *
+     * @param uuids          The UUIDs that the usernames should be found for.
+     * @param requestMissing {@code true} if UUIDs that are not cached should be looked up using the Hypixel API.
+     * @return A map of the given UUIDs and their usernames, UUIDs that could
+     * not be resolved are left out of the map.
+     * @throws SQLException If the database cache query fails.
+     */
+    public Map<UUID, String> resolveUsernames(java.util.Collection<UUID> uuids, boolean requestMissing) throws SQLException {
+        Map<UUID, String> usernames = new HashMap<>();
+
+        Set<UUID> missingUuids = new LinkedHashSet<>();
+        for (UUID uuid : uuids) {
+            String cachedUsername = Hypixel.uuidToUsernameCache.getIfPresent(uuid);
+            if (cachedUsername != null) {
+                usernames.put(uuid, cachedUsername);
+                continue;
+            }
+
+            missingUuids.add(uuid);
+        }
+
+        if (missingUuids.isEmpty()) {
+            log.debug("Found {} usernames using the in-memory cache", usernames.size());
+            return usernames;
+        }
+
+        StringBuilder stringifiedParams = new StringBuilder();
+        List<String> stringifiedUuids = new ArrayList<>();
+        for (UUID uuid : missingUuids) {
+            stringifiedParams.append(stringifiedUuids.isEmpty() ? "?" : ", ?");
+            stringifiedUuids.add(uuid.toString());
+        }
+
+        Collection result = app.getDatabaseManager().query(String.format(
+            "SELECT `uuid`, `username` FROM `uuids` WHERE `uuid` IN (%s)",
+            stringifiedParams.toString()
+        ), stringifiedUuids.toArray());
+
+        for (DataRow row : result) {
+            String username = row.getString("username");
+            if (username == null) {
+                continue;
+            }
+
+            UUID uuid = UUID.fromString(row.getString("uuid"));
+            Hypixel.uuidToUsernameCache.put(uuid, username);
+            usernames.put(uuid, username);
+            missingUuids.remove(uuid);
+        }
+
+        if (requestMissing && !missingUuids.isEmpty()) {
+            usernames.putAll(loadUsernamesFromApi(missingUuids));
+        }
+
+        log.debug("Found {} usernames using the in-memory cache, database cache, and Hypixel API, {} were missing",
+            usernames.size(), uuids.size() - usernames.size()
+        );
+
+        return usernames;
+    }
+
+    private UUID loadUUID(String name) throws SQLException {
+        Collection result = app.getDatabaseManager().query("SELECT `uuid` FROM `uuids` WHERE `username` = ?", name);
+        if (!result.isEmpty()) {
+            UUID uuid = UUID.fromString(result.get(0).getString("uuid"));
+            Hypixel.usernameToUuidCache.put(name.toLowerCase(), uuid);
+            log.debug("Found UUID for {} using the database cache (ID: {})", name, uuid);
+
+            return uuid;
+        }
+
+        try {
+            MojangPlayerUUID mojangPlayer = httpClient.execute(new HttpGet("https://api.mojang.com/users/profiles/minecraft/" + name), obj -> {
+                String content = EntityUtils.toString(obj.getEntity(), "UTF-8");
+                return hypixel.getGson().fromJson(content, MojangPlayerUUID.class);
+            });
+
+            if (mojangPlayer == null || mojangPlayer.getUUID() == null) {
+                return null;
+            }
+
+            log.debug("Found UUID for {} using the Mojang API (ID: {})", name, mojangPlayer.getUUID());
+
+            storeUuid(mojangPlayer.getUUID(), name);
+
+            return mojangPlayer.getUUID();
+        } catch (IOException e) {
+            log.error("Failed to fetch UUID for {} using the Mojang API, error: {}", name, e.getMessage(), e);
+        } catch (IllegalArgumentException e) {
+            // We can ignore this exception since it should only be thrown if
+            // the Hypixel API returns null due to the player not existing.
+        }
+
+        return null;
+    }
+
+    private String loadUsername(UUID uuid) throws SQLException {
+        Collection result = app.getDatabaseManager().query("SELECT `username` FROM `uuids` WHERE `uuid` = ?", uuid.toString());
+        if (!result.isEmpty()) {
+            String username = result.get(0).getString("username");
+            Hypixel.uuidToUsernameCache.put(uuid, username);
+            log.debug("Found Username for {} using the database cache (Username: {})", uuid, username);
+
+            return username;
+        }
+
+        try {
+            PlayerReply playerReply = hypixel.getClientContainer().getNextClient().getPlayerByUuid(uuid).get(10, TimeUnit.SECONDS);
+
+            if (playerReply == null || playerReply.getPlayer() == null) {
+                return null;
+            }
+
+            String username = playerReply.getPlayer().get("displayname").getAsString();
+
+            log.debug("Found Username for {} using the Hypixel API (Username: {})", uuid, username);
+
+            storePlayer(uuid, username, playerReply);
+
+            return username;
+        } catch (InterruptedException | ExecutionException | TimeoutException e) {
+            log.error("Failed to fetch Username for {} using the Hypixel API, error: {}", uuid, e.getMessage(), e);
+        }
+
+        return null;
+    }
+
+    private Map<UUID, String> loadUsernamesFromApi(Set<UUID> uuids) {
+        Map<UUID, CompletableFuture<PlayerReply>> requests = new HashMap<>();
+        for (UUID uuid : uuids) {
+            requests.put(uuid, hypixel.getClientContainer().getNextClient().getPlayerByUuid(uuid));
+        }
+
+        try {
+            CompletableFuture.allOf(requests.values().stream()
+                .map(future -> future.exceptionally(throwable -> null))
+                .toArray(CompletableFuture[]::new)
+            ).get(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("Failed to fetch Usernames for {} players using the Hypixel API, error: {}", uuids.size(), e.getMessage(), e);
+        }
+
+        Map<UUID, String> usernames = new HashMap<>();
+        for (Map.Entry<UUID, CompletableFuture<PlayerReply>> request : requests.entrySet()) {
+            PlayerReply playerReply = request.getValue().getNow(null);
+            if (playerReply == null || playerReply.getPlayer() == null || !playerReply.getPlayer().has("displayname")) {
+                continue;
+            }
+
+            String username = playerReply.getPlayer().get("displayname").getAsString();
+            storePlayer(request.getKey(), username, playerReply);
+
+            usernames.put(request.getKey(), username);
+        }
+        return usernames;
+    }
+
+    private void storePlayer(UUID uuid, String username, PlayerReply playerReply) {
+        Hypixel.uuidToUsernameCache.put(uuid, username);
+
+        try {
+            app.getDatabaseManager().queryInsert("INSERT INTO `uuids` SET `uuid` = ?, `username` = ?",
+                uuid, username
+            );
+
+            app.getDatabaseManager().queryInsert("INSERT INTO `players` SET `uuid` = ?, `data` = ?",
+                uuid, hypixel.getGson().toJson(playerReply)
+            );
+        } catch (Exception e) {
+            log.error("Failed to get Username from UUID for player {}, error: {}",
+                uuid.toString(), e.getMessage(), e
+            );
+        }
+    }
+
+    private List<MojangPlayerUUID> loadMojangPlayers(List<String> usernames) {
+        HttpPost request = new HttpPost("https://api.mojang.com/profiles/minecraft");
+        request.setEntity(new StringEntity(hypixel.getGson().toJson(usernames), ContentType.APPLICATION_JSON));
+
+        try {
+            MojangPlayerUUID[] mojangPlayers = httpClient.execute(request, obj -> {
+                String content = EntityUtils.toString(obj.getEntity(), "UTF-8");
+                return hypixel.getGson().fromJson(content, MojangPlayerUUID[].class);
+            });
+
+            if (mojangPlayers != null) {
+                return Arrays.asList(mojangPlayers);
+            }
+        } catch (IOException e) {
+            log.error("Failed to fetch UUIDs for {} usernames using the Mojang API, error: {}",
+                usernames.size(), e.getMessage(), e
+            );
+        } catch (RuntimeException e) {
+            // The Mojang API returns an error object instead of an array if the request
+            // is rejected, which can't be parsed into the Mojang player array.
+            log.debug("The Mojang API rejected the bulk UUID request for {} usernames, error: {}",
+                usernames.size(), e.getMessage()
+            );
+        }
+
+        return Collections.emptyList();
+    }
+
+    private void storeUuid(UUID uuid, String username) {
+        try {
+            app.getDatabaseManager().queryInsert("INSERT INTO `uuids` SET `uuid` = ?, `username` = ?",
+                uuid.toString(), username
+            );
+        } catch (Exception e) {
+            log.error("Failed to get UUID for player {}, error: {}",
+                username, e.getMessage(), e
+            );
+        }
+    }
+
+    private <K, V> V resolve(ConcurrentHashMap<K, CompletableFuture<V>> pendingLookups, K key, Lookup<V> lookup) throws SQLException {
+        CompletableFuture<V> future = new CompletableFuture<>();
+
+        CompletableFuture<V> pendingLookup = pendingLookups.putIfAbsent(key, future);
+        if (pendingLookup != null) {
+            return awaitLookup(pendingLookup, key);
+        }
+
+        try {
+            V value = lookup.load();
+            future.complete(value);
+
+            return value;
+        } catch (SQLException | RuntimeException e) {
+            future.completeExceptionally(e);
+
+            throw e;
+        } finally {
+            pendingLookups.remove(key, future);
+        }
+    }
+
+    private <V> V awaitLookup(CompletableFuture<V> pendingLookup, Object key) throws SQLException {
+        try {
+            return pendingLookup.get(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException e) {
+            log.warn("Timed out while waiting on another thread to resolve the name lookup for {}", key);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            log.error("Failed to resolve the name lookup for {}, error: {}", key, e.getMessage(), e);
+        }
+        return null;
+    }
+
+    @FunctionalInterface
+    private interface Lookup<V> {
+
+        V load() throws SQLException;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.hypixel.auction;
+
+import com.senither.hypixel.hypixel.response.AuctionHouseResponse;
+
+import java.util.*;
+
+public class AuctionHouseIndex {
+
+    /**
+     * The estimated size in bytes of an index object with no auctions,
+     * including the object header, its fields, and the array headers.
+     */
+    private static final long BASE_SIZE = 24 + 16 + 16 + 16;
+
+    private final AuctionHouseResponse.Auction[] unclaimedAuctions;
+    private final long[] unclaimedEndTimes;
+    private final long unclaimedCoins;
+    private final int unclaimedBids;
+
+    /**
+     * Creates a new auction house index for the given auctions, claimed auctions are
+     * left out of the index, while the unclaimed auctions are sorted by the time
+     * they end at, with the aggregated values calculated up front.
+     *
+     * @param auctions The auctions that should be indexed.
+     */
+    public AuctionHouseIndex(List<AuctionHouseResponse.Auction> auctions) {
+        List<AuctionHouseResponse.Auction> unclaimed = new ArrayList<>();
+        for (AuctionHouseResponse.Auction auction : auctions == null ? Collections.<AuctionHouseResponse.Auction>emptyList() : auctions) {
+            if (!auction.isClaimed()) {
+                unclaimed.add(auction);
+            }
+        }
+        unclaimed.sort(Comparator.comparingLong(AuctionHouseResponse.Auction::getEnd));
+
+        unclaimedAuctions = unclaimed.toArray(new AuctionHouseResponse.Auction[0]);
+        unclaimedEndTimes = new long[unclaimedAuctions.length];
+
+        long coins = 0;
+        int bids = 0;
+        for (int i = 0; i < unclaimedAuctions.length; i++) {
+            AuctionHouseResponse.Auction auction = unclaimedAuctions[i];
+
+            unclaimedEndTimes[i] = auction.getEnd();
+            if (auction.getBids() != null && !auction.getBids().isEmpty()) {
+                coins += auction.getHighestBidAmount();
+                bids += auction.getBids().size();
+            }
+        }
+
+        unclaimedCoins = coins;
+        unclaimedBids = bids;
+    }
+
+    /**
+     * Gets the unclaimed auctions, sorted by the time they end at, starting
+     * with the auction that ends first, the returned list is read-only.
+     *
+     * @return The unclaimed auctions, sorted by their end time.
+     */
+    public List<AuctionHouseResponse.Auction> getUnclaimedAuctions() {
+        return Collections.unmodifiableList(Arrays.asList(unclaimedAuctions));
+    }
+
+    public int getUnclaimedCount() {
+        return unclaimedAuctions.length;
+    }
+
+    /**
+     * Gets the total amount of coins from unclaimed auctions that have at least
+     * one bid, including auctions that have not ended yet.
+     *
+     * @return The total amount of coins from unclaimed auctions.
+     */
+    public long getUnclaimedCoins() {
+        return unclaimedCoins;
+    }
+
+    public int getUnclaimedBids() {
+        return unclaimedBids;
+    }
+
+    /**
+     * Gets the amount of unclaimed auctions that are still active at the given time.
+     *
+     * @param time The time in milliseconds the auctions should be checked against.
+     * @return The amount of auctions that ends after the given time.
+     */
+    public int getActiveCount(long time) {
+        int low = 0;
+        int high = unclaimedEndTimes.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (unclaimedEndTimes[middle] <= time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return unclaimedEndTimes.length - low;
+    }
+
+    /**
+     * Gets the estimated amount of memory in bytes used by the index itself, the
+     * auctions are owned by the auction house response, so only the references
+     * to the auctions are included in the estimate.
+     *
+     * @return The estimated size of the index in bytes.
+     */
+    public long getEstimatedSize() {
+        return BASE_SIZE + (unclaimedAuctions.length * 4L) + (unclaimedEndTimes.length * 8L);
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.hypixel.bazaar;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+public class BazaarHistory {
+
+    /**
+     * The number of samples kept in memory for each Bazaar product, with
+     * the sample interval below this keeps the last 24 hours of prices.
+     */
+    public static final int CAPACITY = 288;
+
+    /**
+     * The minimum amount of time in milliseconds between two samples.
+     */
+    public static final long SAMPLE_INTERVAL = TimeUnit.MINUTES.toMillis(5);
+
+    private static final int CHECKPOINT_MAGIC = 0x425A4853;
+    private static final int CHECKPOINT_VERSION = 1;
+
+    private static final BazaarProduct[] products = BazaarProduct.values();
+
+    private final File checkpoint;
+
+    private final long[] timestamps = new long[CAPACITY];
+    private final double[] buyPrices = new double[products.length * CAPACITY];
+    private final double[] sellPrices = new double[products.length * CAPACITY];
+    private final double[] buyVolumes = new double[products.length * CAPACITY];
+    private final double[] sellVolumes = new double[products.length * CAPACITY];
+
+    private int head = 0;
+    private int size = 0;
+
+    /**
+     * Creates a new empty Bazaar history, the history can be written to,
+     * and restored from the given checkpoint file, so the collected
+     * samples are not lost when the application restarts.
+     *
+     * @param checkpoint The file the history should be checkpointed to.
+     */
+    public BazaarHistory(File checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Records the given Bazaar prices as the newest sample in the history, if the given
+     * timestamp is within the sample interval of the latest sample the prices will
+     * be ignored, once the history is full the oldest sample is overwritten.
+     *
+     * @param timestamp The time in milliseconds the Bazaar prices were last updated at.
+     * @param prices    The Bazaar prices that should be recorded.
+     * @return {@code true} if the prices were recorded, {@code false} otherwise.
+     */
+    public synchronized boolean record(long timestamp, BazaarPriceTable prices) {
+        if (size > 0 && timestamp - timestamps[getSlot(0)] < SAMPLE_INTERVAL) {
+            return false;
+        }
+
+        timestamps[head] = timestamp;
+        for (BazaarProduct product : products) {
+            int index = product.ordinal() * CAPACITY + head;
+
+            buyPrices[index] = prices.getBuyPrice(product);
+            sellPrices[index] = prices.getSellPrice(product);
+            buyVolumes[index] = prices.getBuyVolume(product);
+            sellVolumes[index] = prices.getSellVolume(product);
+        }
+
+        head = (head + 1) % CAPACITY;
+        size = Math.min(size + 1, CAPACITY);
+
+        return true;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long getTimestamp(int samplesAgo) {
+        return timestamps[getSlot(samplesAgo)];
+    }
+
+    public synchronized double getBuyPrice(BazaarProduct product, int samplesAgo) {
+        return buyPrices[product.ordinal() * CAPACITY + getSlot(samplesAgo)];
+    }
+
+    public synchronized double getSellPrice(BazaarProduct product, int samplesAgo) {
+        return sellPrices[product.ordinal() * CAPACITY + getSlot(samplesAgo)];
+    }
+
+    public synchronized double getBuyVolume(BazaarProduct product, int samplesAgo) {
+        return buyVolumes[product.ordinal() * CAPACITY + getSlot(samplesAgo)];
+    }
+
+    public synchronized double getSellVolume(BazaarProduct product, int samplesAgo) {
+        return sellVolumes[product.ordinal() * CAPACITY + getSlot(samplesAgo)];
+    }
+
+    public synchronized double getAverageBuyPrice(BazaarProduct product) {
+        return getAverage(buyPrices, product);
+    }
+
+    public synchronized double getAverageSellPrice(BazaarProduct product) {
+        return getAverage(sellPrices, product);
+    }
+
+    /**
+     * Writes all the samples in the history to the checkpoint file, the samples are
+     * first written to a temporary file which then replaces the checkpoint,
+     * so a failed write never corrupts the previous checkpoint.
+     *
+     * @throws IOException If the checkpoint file could not be written to.
+     */
+    public synchronized void saveCheckpoint() throws IOException {
+        File parent = checkpoint.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Failed to create the checkpoint directory " + parent);
+        }
+
+        File temporary = new File(checkpoint.getPath() + ".tmp");
+        try (DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)))) {
+            stream.writeInt(CHECKPOINT_MAGIC);
+            stream.writeInt(CHECKPOINT_VERSION);
+            stream.writeInt(size);
+            stream.writeInt(products.length);
+
+            for (int sample = size - 1; sample >= 0; sample--) {
+                stream.writeLong(timestamps[getSlot(sample)]);
+            }
+
+            for (BazaarProduct product : products) {
+                stream.writeUTF(product.getKey());
+
+                for (int sample = size - 1; sample >= 0; sample--) {
+                    int index = product.ordinal() * CAPACITY + getSlot(sample);
+
+                    stream.writeDouble(buyPrices[index]);
+                    stream.writeDouble(sellPrices[index]);
+                    stream.writeDouble(buyVolumes[index]);
+                    stream.writeDouble(sellVolumes[index]);
+                }
+            }
+        }
+
+        Files.move(temporary.toPath(), checkpoint.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Restores the history from the checkpoint file, replacing any samples that are
+     * currently in memory, products that no longer exists are skipped, and if the
+     * checkpoint holds more samples than the history can fit, only the newest
+     * samples are kept. Nothing happens if the checkpoint file doesn't exist.
+     *
+     * @throws IOException If the checkpoint file could not be read, or is invalid.
+     */
+    public synchronized void loadCheckpoint() throws IOException {
+        if (!checkpoint.exists()) {
+            return;
+        }
+
+        try (DataInputStream stream = new DataInputStream(new BufferedInputStream(new FileInputStream(checkpoint)))) {
+            if (stream.readInt() != CHECKPOINT_MAGIC || stream.readInt() != CHECKPOINT_VERSION) {
+                throw new IOException("The Bazaar history checkpoint has an invalid or unsupported header");
+            }
+
+            int samples = stream.readInt();
+            int productCount = stream.readInt();
+            int skipped = Math.max(0, samples - CAPACITY);
+
+            clear();
+            size = samples - skipped;
+
+            for (int sample = 0; sample < samples; sample++) {
+                long timestamp = stream.readLong();
+                if (sample >= skipped) {
+                    timestamps[sample - skipped] = timestamp;
+                }
+            }
+
+            for (int i = 0; i < productCount; i++) {
+                BazaarProduct product = BazaarProduct.getFromKey(stream.readUTF());
+
+                for (int sample = 0; sample < samples; sample++) {
+                    double buyPrice = stream.readDouble();
+                    double sellPrice = stream.readDouble();
+                    double buyVolume = stream.readDouble();
+                    double sellVolume = stream.readDouble();
+
+                    if (product == null || sample < skipped) {
+                        continue;
+                    }
+
+                    int index = product.ordinal() * CAPACITY + sample - skipped;
+
+                    buyPrices[index] = buyPrice;
+                    sellPrices[index] = sellPrice;
+                    buyVolumes[index] = buyVolume;
+                    sellVolumes[index] = sellVolume;
+                }
+            }
+
+            head = size % CAPACITY;
+        } catch (IOException e) {
+            clear();
+            throw e;
+        }
+    }
+
+    private void clear() {
+        head = 0;
+        size = 0;
+
+        Arrays.fill(timestamps, 0L);
+        Arrays.fill(buyPrices, 0D);
+        Arrays.fill(sellPrices, 0D);
+        Arrays.fill(buyVolumes, 0D);
+        Arrays.fill(sellVolumes, 0D);
+    }
+
+    private double getAverage(double[] column, BazaarProduct product) {
+        if (size == 0) {
+            return 0D;
+        }
+
+        double total = 0D;
+        for (int sample = 0; sample < size; sample++) {
+            total += column[product.ordinal() * CAPACITY + getSlot(sample)];
+        }
+        return total / size;
+    }
+
+    private int getSlot(int samplesAgo) {
+        if (samplesAgo < 0 || samplesAgo >= size) {
+            throw new IndexOutOfBoundsException(String.format(
+                "Sample %s is out of bounds for a history with %s samples", samplesAgo, size
+            ));
+        }
+        return (head - 1 - samplesAgo + CAPACITY) % CAPACITY;
+    }
+}
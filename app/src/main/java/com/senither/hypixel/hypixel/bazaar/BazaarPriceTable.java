@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.hypixel.bazaar;
+
+import java.util.Collections;
+import java.util.Map;
+
+public class BazaarPriceTable {
+
+    private final double[] buyPrices;
+    private final double[] sellPrices;
+    private final double[] buyVolumes;
+    private final double[] sellVolumes;
+    private final double[] buyMovingWeeks;
+    private final double[] sellMovingWeeks;
+    private final double[] buyOrders;
+    private final double[] sellOrders;
+
+    /**
+     * Creates a new Bazaar price table from the given products, the quick status of every
+     * known Bazaar product is copied into primitive columns indexed by the ordinal of
+     * the product, products missing from the given map will have all their values
+     * set to zero, matching the default product used by the Bazaar reply.
+     *
+     * @param products The Bazaar products from the API, mapped by their product ID.
+     */
+    public BazaarPriceTable(Map<String, BazaarProductReply.Product> products) {
+        BazaarProduct[] bazaarProducts = BazaarProduct.values();
+
+        buyPrices = new double[bazaarProducts.length];
+        sellPrices = new double[bazaarProducts.length];
+        buyVolumes = new double[bazaarProducts.length];
+        sellVolumes = new double[bazaarProducts.length];
+        buyMovingWeeks = new double[bazaarProducts.length];
+        sellMovingWeeks = new double[bazaarProducts.length];
+        buyOrders = new double[bazaarProducts.length];
+        sellOrders = new double[bazaarProducts.length];
+
+        if (products == null) {
+            products = Collections.emptyMap();
+        }
+
+        for (BazaarProduct bazaarProduct : bazaarProducts) {
+            BazaarProductReply.Product product = products.get(bazaarProduct.getKey());
+            if (product == null || product.getQuickStatus() == null) {
+                continue;
+            }
+
+            BazaarProductReply.QuickStatus quickStatus = product.getQuickStatus();
+            int index = bazaarProduct.ordinal();
+
+            buyPrices[index] = quickStatus.getBuyPrice();
+            sellPrices[index] = quickStatus.getSellPrice();
+            buyVolumes[index] = quickStatus.getBuyVolume();
+            sellVolumes[index] = quickStatus.getSellVolume();
+            buyMovingWeeks[index] = quickStatus.getBuyMovingWeek();
+            sellMovingWeeks[index] = quickStatus.getSellMovingWeek();
+            buyOrders[index] = quickStatus.getBuyOrders();
+            sellOrders[index] = quickStatus.getSellOrders();
+        }
+    }
+
+    public double getBuyPrice(BazaarProduct product) {
+        return buyPrices[product.ordinal()];
+    }
+
+    public double getSellPrice(BazaarProduct product) {
+        return sellPrices[product.ordinal()];
+    }
+
+    public double getBuyVolume(BazaarProduct product) {
+        return buyVolumes[product.ordinal()];
+    }
+
+    public double getSellVolume(BazaarProduct product) {
+        return sellVolumes[product.ordinal()];
+    }
+
+    public double getBuyMovingWeek(BazaarProduct product) {
+        return buyMovingWeeks[product.ordinal()];
+    }
+
+    public double getSellMovingWeek(BazaarProduct product) {
+        return sellMovingWeeks[product.ordinal()];
+    }
+
+    public double getBuyOrders(BazaarProduct product) {
+        return buyOrders[product.ordinal()];
+    }
+
+    public double getSellOrders(BazaarProduct product) {
+        return sellOrders[product.ordinal()];
+    }
+}
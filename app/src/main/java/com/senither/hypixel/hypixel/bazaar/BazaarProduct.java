@@ -1,8 +1,6 @@
 package com.senither.hypixel.hypixel.bazaar;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
 
 public enum BazaarProduct {
 
@@ -249,6 +247,21 @@ public enum BazaarProduct {
     TITANIC_EXP_BOTTLE("TITANIC_EXP_BOTTLE", "Titanic Experience Bottle", "Titanic Exp Bottle", "Titanic XP Bottle", "TXP Bottle"),
     COLOSSAL_EXP_BOTTLE("COLOSSAL_EXP_BOTTLE", "Colossal Experience Bottle", "Colossal Exp Bottle", "Colossal XP Bottle", "CXP Bottle");
 
+    private static final Map<String, BazaarProduct> keyIndex = new HashMap<>();
+    private static final Map<String, BazaarProduct> nameIndex = new HashMap<>();
+    private static final Map<String, BazaarProduct> normalizedNameIndex = new HashMap<>();
+
+    static {
+        for (BazaarProduct product : values()) {
+            keyIndex.putIfAbsent(product.getKey().toLowerCase(Locale.ROOT), product);
+
+            for (String productName : product.names) {
+                nameIndex.putIfAbsent(productName.toLowerCase(Locale.ROOT), product);
+                normalizedNameIndex.putIfAbsent(normalizeName(productName), product);
+            }
+        }
+    }
+
     private final String key;
     private final String name;
     private final List<String> names;
@@ -269,22 +282,100 @@ public enum BazaarProduct {
     }
 
     public static BazaarProduct getFromKey(String key) {
-        for (BazaarProduct product : values()) {
-            if (product.getKey().equalsIgnoreCase(key)) {
-                return product;
+        return key == null ? null : keyIndex.get(key.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Gets the Bazaar product with the given name or alias, ignoring the casing of the name,
+     * if no product matches the name exactly, the name is compared again without any
+     * spaces or symbols, and then without a trailing "s", before falling back to
+     * the product name that is only a single typo away from the given name.
+     *
+     * @param name The name or alias of the Bazaar product.
+     * @return The Bazaar product matching the name, or {@code null} if no product matches.
+     */
+    public static BazaarProduct getFromName(String name) {
+        if (name == null) {
+            return null;
+        }
+
+        BazaarProduct product = nameIndex.get(name.toLowerCase(Locale.ROOT));
+        if (product != null) {
+            return product;
+        }
+
+        String normalizedName = normalizeName(name);
+        if (normalizedName.isEmpty()) {
+            return null;
+        }
+
+        product = normalizedNameIndex.get(normalizedName);
+        if (product == null && normalizedName.endsWith("s")) {
+            product = normalizedNameIndex.get(normalizedName.substring(0, normalizedName.length() - 1));
+        }
+
+        if (product == null && normalizedName.length() >= 5) {
+            product = getFromTypo(normalizedName);
+        }
+
+        return product;
+    }
+
+    private static BazaarProduct getFromTypo(String normalizedName) {
+        BazaarProduct match = null;
+        for (Map.Entry<String, BazaarProduct> entry : normalizedNameIndex.entrySet()) {
+            if (!isSingleEditAway(normalizedName, entry.getKey())) {
+                continue;
+            }
+
+            if (match != null && match != entry.getValue()) {
+                return null;
             }
+            match = entry.getValue();
         }
-        return null;
+        return match;
     }
 
-    public static BazaarProduct getFromName(String name) {
-        for (BazaarProduct product : values()) {
-            for (String productName : product.names) {
-                if (productName.equalsIgnoreCase(name)) {
-                    return product;
-                }
+    private static boolean isSingleEditAway(String left, String right) {
+        if (Math.abs(left.length() - right.length()) > 1) {
+            return false;
+        }
+
+        int i = 0;
+        int j = 0;
+        int edits = 0;
+
+        while (i < left.length() && j < right.length()) {
+            if (left.charAt(i) == right.charAt(j)) {
+                i++;
+                j++;
+                continue;
+            }
+
+            if (++edits > 1) {
+                return false;
+            }
+
+            if (left.length() > right.length()) {
+                i++;
+            } else if (left.length() < right.length()) {
+                j++;
+            } else {
+                i++;
+                j++;
+            }
+        }
+
+        return edits + (left.length() - i) + (right.length() - j) <= 1;
+    }
+
+    private static String normalizeName(String name) {
+        StringBuilder builder = new StringBuilder(name.length());
+        for (char character : name.toCharArray()) {
+            if (Character.isLetterOrDigit(character)) {
+                builder.append(Character.toLowerCase(character));
             }
         }
-        return null;
+        return builder.toString();
     }
 }
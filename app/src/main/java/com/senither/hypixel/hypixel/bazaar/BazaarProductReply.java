@@ -26,6 +26,8 @@ public class BazaarProductReply extends AbstractReply {
     private long lastUpdated;
     private HashMap<String, Product> products;
 
+    private transient volatile BazaarPriceTable prices;
+
     public long getLastUpdated() {
         return lastUpdated;
     }
@@ -38,6 +40,17 @@ public class BazaarProductReply extends AbstractReply {
         return getProducts().getOrDefault(product.getKey(), defaultProduct);
     }
 
+    public BazaarPriceTable getPrices() {
+        if (prices == null) {
+            synchronized (this) {
+                if (prices == null) {
+                    prices = new BazaarPriceTable(products);
+                }
+            }
+        }
+        return prices;
+    }
+
     public static class Product {
 
         private String product_id;
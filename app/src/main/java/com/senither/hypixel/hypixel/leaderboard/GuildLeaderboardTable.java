@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.hypixel.leaderboard;
+
+import com.senither.hypixel.hypixel.response.GuildLeaderboardResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ToDoubleFunction;
+
+public class GuildLeaderboardTable {
+
+    private final List<GuildLeaderboardResponse.Guild> guilds;
+    private final AtomicReferenceArray<int[]> rankings;
+
+    /**
+     * Creates a new guild leaderboard table for the given guilds, guilds without
+     * a name, or guilds that are hidden will be left out of the table, the
+     * remaining guilds are ranked the first time each ranking is used.
+     *
+     * @param guilds The guilds that should be stored in the leaderboard table.
+     */
+    public GuildLeaderboardTable(List<GuildLeaderboardResponse.Guild> guilds) {
+        this.guilds = new ArrayList<>();
+        for (GuildLeaderboardResponse.Guild guild : guilds == null ? Collections.<GuildLeaderboardResponse.Guild>emptyList() : guilds) {
+            if (guild.getName() != null && (guild.getMeta() == null || !guild.getMeta().isHidden())) {
+                this.guilds.add(guild);
+            }
+        }
+
+        rankings = new AtomicReferenceArray<>(Ranking.values().length);
+    }
+
+    private int[] getRanking(Ranking ranking) {
+        int[] result = rankings.get(ranking.ordinal());
+        if (result == null) {
+            synchronized (rankings) {
+                result = rankings.get(ranking.ordinal());
+                if (result == null) {
+                    result = createRanking(ranking);
+                    rankings.set(ranking.ordinal(), result);
+                }
+            }
+        }
+        return result;
+    }
+
+    private int[] createRanking(Ranking ranking) {
+        final double[] column = new double[guilds.size()];
+        final Integer[] sortedRows = new Integer[guilds.size()];
+
+        for (int row = 0; row < column.length; row++) {
+            column[row] = ranking.function.applyAsDouble(guilds.get(row));
+            sortedRows[row] = row;
+        }
+
+        Arrays.sort(sortedRows, (left, right) -> Double.compare(column[right], column[left]));
+
+        int[] result = new int[sortedRows.length];
+        for (int rank = 0; rank < result.length; rank++) {
+            result[rank] = sortedRows[rank];
+        }
+        return result;
+    }
+
+    /**
+     * Gets the amount of visible guilds stored in the leaderboard table.
+     *
+     * @return The amount of guilds in the leaderboard table.
+     */
+    public int size() {
+        return guilds.size();
+    }
+
+    /**
+     * Gets the guild at the given rank for the given guild ranking, where
+     * rank zero is the guild at the top of the leaderboard.
+     *
+     * @param ranking The ranking the guild should be ranked by.
+     * @param rank    The zero based rank of the guild.
+     * @return The guild at the given rank.
+     */
+    public GuildLeaderboardResponse.Guild getGuild(Ranking ranking, int rank) {
+        return guilds.get(getRanking(ranking)[rank]);
+    }
+
+    public enum Ranking {
+
+        WEIGHT(guild -> guild.getWeight().getTotal()),
+        AVERAGE_SKILL(GuildLeaderboardResponse.Guild::getAverageSkill),
+        CATACOMB(GuildLeaderboardResponse.Guild::getAverageCatacomb),
+        SLAYER(GuildLeaderboardResponse.Guild::getAverageSlayer);
+
+        private final ToDoubleFunction<GuildLeaderboardResponse.Guild> function;
+
+        Ranking(ToDoubleFunction<GuildLeaderboardResponse.Guild> function) {
+            this.function = function;
+        }
+    }
+}
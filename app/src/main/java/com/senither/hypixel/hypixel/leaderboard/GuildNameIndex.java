@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.hypixel.leaderboard;
+
+import com.senither.hypixel.hypixel.response.GuildLeaderboardResponse;
+
+import java.util.*;
+
+public class GuildNameIndex {
+
+    /**
+     * The minimum similarity score a guild name must have to the searched
+     * name before it will be used as a suggestion, where the score is
+     * the Dice coefficient of the trigrams in the two names.
+     */
+    private static final double minimumSuggestionScore = 0.3D;
+
+    private final Map<String, GuildLeaderboardResponse.Guild> guildsByName;
+
+    private final String[] sortedNames;
+    private final GuildLeaderboardResponse.Guild[] sortedGuilds;
+
+    private final Map<String, int[]> guildsByTrigram;
+    private final int[] trigramCounts;
+
+    /**
+     * Creates a new guild name index for the given guilds, the index holds a case folded
+     * hash index for exact name lookups, along with a sorted list of names for prefix
+     * matches, and a trigram index for suggesting names close to a misspelled name.
+     *
+     * @param guilds The guilds that should be indexed.
+     */
+    public GuildNameIndex(List<GuildLeaderboardResponse.Guild> guilds) {
+        guildsByName = new HashMap<>();
+        for (GuildLeaderboardResponse.Guild guild : guilds == null ? Collections.<GuildLeaderboardResponse.Guild>emptyList() : guilds) {
+            if (guild.getName() != null) {
+                guildsByName.putIfAbsent(foldName(guild.getName()), guild);
+            }
+        }
+
+        sortedNames = guildsByName.keySet().toArray(new String[0]);
+        Arrays.sort(sortedNames);
+
+        sortedGuilds = new GuildLeaderboardResponse.Guild[sortedNames.length];
+        trigramCounts = new int[sortedNames.length];
+
+        HashMap<String, List<Integer>> trigramPostings = new HashMap<>();
+        for (int i = 0; i < sortedNames.length; i++) {
+            sortedGuilds[i] = guildsByName.get(sortedNames[i]);
+
+            Set<String> trigrams = getTrigrams(sortedNames[i]);
+            for (String trigram : trigrams) {
+                trigramPostings.computeIfAbsent(trigram, key -> new ArrayList<>()).add(i);
+            }
+            trigramCounts[i] = trigrams.size();
+        }
+
+        guildsByTrigram = new HashMap<>(trigramPostings.size() * 2);
+        for (Map.Entry<String, List<Integer>> entry : trigramPostings.entrySet()) {
+            int[] postings = new int[entry.getValue().size()];
+            for (int i = 0; i < postings.length; i++) {
+                postings[i] = entry.getValue().get(i);
+            }
+            guildsByTrigram.put(entry.getKey(), postings);
+        }
+    }
+
+    /**
+     * Gets the guild with the given name, ignoring the casing of the name.
+     *
+     * @param name The name of the guild that should be returned.
+     * @return The guild with the given name, or {@code null} if no guild has the name.
+     */
+    public GuildLeaderboardResponse.Guild getGuild(String name) {
+        return name == null ? null : guildsByName.get(foldName(name));
+    }
+
+    /**
+     * Gets a list of guilds with names similar to the given name, guilds with names
+     * that starts with the given name are suggested first, followed by guilds
+     * with the most similar names, ordered by how similar the names are.
+     *
+     * @param name  The name that the suggestions should be found for.
+     * @param limit The maximum amount of guilds that should be suggested.
+     * @return A list of guilds with names similar to the given name.
+     */
+    public List<GuildLeaderboardResponse.Guild> getSuggestions(String name, int limit) {
+        if (name == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        final String foldedName = foldName(name);
+
+        LinkedHashSet<Integer> suggestions = new LinkedHashSet<>();
+
+        int index = Arrays.binarySearch(sortedNames, foldedName);
+        for (int i = index < 0 ? -index - 1 : index; i < sortedNames.length && suggestions.size() < limit; i++) {
+            if (!sortedNames[i].startsWith(foldedName)) {
+                break;
+            }
+            suggestions.add(i);
+        }
+
+        if (suggestions.size() < limit) {
+            Set<String> trigrams = getTrigrams(foldedName);
+
+            int[] sharedTrigrams = new int[sortedNames.length];
+            for (String trigram : trigrams) {
+                int[] postings = guildsByTrigram.get(trigram);
+                if (postings == null) {
+                    continue;
+                }
+                for (int posting : postings) {
+                    sharedTrigrams[posting]++;
+                }
+            }
+
+            List<Integer> candidates = new ArrayList<>();
+            double[] scores = new double[sortedNames.length];
+            for (int i = 0; i < sharedTrigrams.length; i++) {
+                if (sharedTrigrams[i] == 0 || suggestions.contains(i)) {
+                    continue;
+                }
+
+                scores[i] = 2D * sharedTrigrams[i] / (trigrams.size() + trigramCounts[i]);
+                if (scores[i] >= minimumSuggestionScore) {
+                    candidates.add(i);
+                }
+            }
+
+            candidates.sort((left, right) -> Double.compare(scores[right], scores[left]));
+            for (int i = 0; i < candidates.size() && suggestions.size() < limit; i++) {
+                suggestions.add(candidates.get(i));
+            }
+        }
+
+        List<GuildLeaderboardResponse.Guild> guilds = new ArrayList<>(suggestions.size());
+        for (int suggestion : suggestions) {
+            guilds.add(sortedGuilds[suggestion]);
+        }
+        return guilds;
+    }
+
+    private String foldName(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private Set<String> getTrigrams(String name) {
+        String paddedName = "  " + name + " ";
+
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= paddedName.length(); i++) {
+            trigrams.add(paddedName.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
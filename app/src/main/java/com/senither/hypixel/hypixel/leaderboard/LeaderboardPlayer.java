@@ -21,8 +21,7 @@
 
 package com.senither.hypixel.hypixel.leaderboard;
 
-import com.google.common.collect.ImmutableMultiset;
-import com.senither.hypixel.Constants;
+import com.senither.hypixel.statistics.ExperienceTable;
 import com.senither.hypixel.utils.NumberUtil;
 
 import java.util.UUID;
@@ -289,15 +288,11 @@ public abstract class LeaderboardPlayer {
     }
 
     private double getExperienceForLevel(double level, boolean isRunecrafting) {
-        double totalRequiredExperience = 0;
-        ImmutableMultiset<Integer> experienceLevels = isRunecrafting
-            ? Constants.RUNECRAFTING_SKILL_EXPERIENCE
-            : Constants.GENERAL_SKILL_EXPERIENCE;
+        ExperienceTable experienceTable = isRunecrafting
+            ? ExperienceTable.RUNECRAFTING
+            : ExperienceTable.GENERAL_SKILLS;
 
-        for (int i = 0; i < Math.min(level, experienceLevels.size()); i++) {
-            totalRequiredExperience += experienceLevels.asList().get(i);
-        }
-        return totalRequiredExperience;
+        return experienceTable.getExperienceForLevel((int) Math.ceil(level));
     }
 
     public class PlayerWeight extends WeightContainer {
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.hypixel.leaderboard;
+
+import com.senither.hypixel.contracts.hypixel.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public class LeaderboardSnapshots {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardSnapshots.class);
+
+    /**
+     * The amount of time a snapshot can go without being used before it's no longer
+     * refreshed in the background, and is removed from the snapshots instead.
+     */
+    private static final long maxIdleTime = TimeUnit.HOURS.toMillis(6);
+
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the latest snapshot of the response with the given key, if no snapshot exists
+     * for the key yet, the fetcher will be used to get the first snapshot, every call
+     * after that will return the in-memory snapshot, which is kept up to date by
+     * {@link #refresh() refreshing the snapshots} in the background.
+     *
+     * @param key     The key the snapshot is stored under.
+     * @param fetcher The fetcher that downloads and parses a new version of the response.
+     * @param <T>     The type of response stored in the snapshot.
+     * @return The latest snapshot of the response, or {@code null} if the response couldn't be fetched.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Response> T get(String key, Supplier<T> fetcher) {
+        Snapshot snapshot = snapshots.computeIfAbsent(key, ignored -> new Snapshot(fetcher));
+        snapshot.lastUsedAt = System.currentTimeMillis();
+
+        Response response = snapshot.response;
+        if (response != null) {
+            return (T) response;
+        }
+
+        synchronized (snapshot) {
+            if (snapshot.response == null) {
+                snapshot.fetch(key);
+            }
+            return (T) snapshot.response;
+        }
+    }
+
+    /**
+     * Refreshes every snapshot that has been used recently, swapping the new response in
+     * once it has been fetched and parsed, snapshots that failed to refresh will keep
+     * their old response, and snapshots that haven't been used in a while are removed.
+     */
+    public void refresh() {
+        Iterator<Map.Entry<String, Snapshot>> iterator = snapshots.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Snapshot> entry = iterator.next();
+            if (System.currentTimeMillis() - entry.getValue().lastUsedAt > maxIdleTime) {
+                log.debug("Removing leaderboard snapshot for {} since it hasn't been used in a while", entry.getKey());
+                iterator.remove();
+                continue;
+            }
+
+            synchronized (entry.getValue()) {
+                entry.getValue().fetch(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Gets the amount of snapshots that are currently being kept up to date.
+     *
+     * @return The amount of leaderboard snapshots.
+     */
+    public int size() {
+        return snapshots.size();
+    }
+
+    private static class Snapshot {
+
+        private final Supplier<? extends Response> fetcher;
+
+        private volatile Response response;
+        private volatile long lastUsedAt;
+
+        Snapshot(Supplier<? extends Response> fetcher) {
+            this.fetcher = fetcher;
+            this.lastUsedAt = System.currentTimeMillis();
+        }
+
+        void fetch(String key) {
+            long start = System.currentTimeMillis();
+
+            Response fetchedResponse = fetcher.get();
+            if (fetchedResponse == null) {
+                log.warn("Failed to refresh the leaderboard snapshot for {}, keeping the old snapshot", key);
+                return;
+            }
+
+            fetchedResponse.setFetchedAt(System.currentTimeMillis());
+            response = fetchedResponse;
+
+            log.debug("Refreshed the leaderboard snapshot for {} in {} ms", key, System.currentTimeMillis() - start);
+        }
+    }
+}
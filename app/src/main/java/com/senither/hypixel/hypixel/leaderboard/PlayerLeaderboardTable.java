@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.hypixel.leaderboard;
+
+import com.senither.hypixel.contracts.hypixel.PlayerStatConversionFunction;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class PlayerLeaderboardTable {
+
+    private final List<LeaderboardPlayer> players;
+    private final Map<UUID, Integer> rowsByUuid;
+    private final AtomicReferenceArray<Column> columns;
+
+    /**
+     * Creates a new column based leaderboard table for the given players, the stats
+     * for a leaderboard type are pulled out of the players the first time the
+     * type is used, and the players are then ranked for that type, so pages
+     * and player positions can be looked up without having to sort again.
+     *
+     * @param players The players that should be stored in the leaderboard table.
+     */
+    public PlayerLeaderboardTable(List<? extends LeaderboardPlayer> players) {
+        this.players = players == null ? Collections.emptyList() : new ArrayList<>(players);
+        this.rowsByUuid = new HashMap<>(this.players.size() * 2);
+        this.columns = new AtomicReferenceArray<>(LeaderboardType.values().length);
+
+        for (int row = 0; row < this.players.size(); row++) {
+            rowsByUuid.putIfAbsent(this.players.get(row).getUuid(), row);
+        }
+    }
+
+    private Column getColumn(LeaderboardType type) {
+        Column column = columns.get(type.ordinal());
+        if (column == null) {
+            synchronized (columns) {
+                column = columns.get(type.ordinal());
+                if (column == null) {
+                    column = new Column(type);
+                    columns.set(type.ordinal(), column);
+                }
+            }
+        }
+        return column;
+    }
+
+    private double[] getStats(PlayerStatConversionFunction function) {
+        double[] stats = new double[players.size()];
+        for (int row = 0; row < stats.length; row++) {
+            stats[row] = function.getStat(players.get(row));
+        }
+        return stats;
+    }
+
+    /**
+     * Gets the amount of players stored in the leaderboard table.
+     *
+     * @return The amount of players in the leaderboard table.
+     */
+    public int size() {
+        return players.size();
+    }
+
+    /**
+     * Gets the player at the given rank for the given leaderboard type, where
+     * rank zero is the player at the top of the leaderboard.
+     *
+     * @param type The leaderboard type the player should be ranked by.
+     * @param rank The zero based rank of the player.
+     * @return The player at the given rank.
+     */
+    public LeaderboardPlayer getPlayer(LeaderboardType type, int rank) {
+        return players.get(getColumn(type).ranking[rank]);
+    }
+
+    /**
+     * Gets the stat for the player at the given rank for the given leaderboard type.
+     *
+     * @param type The leaderboard type the player should be ranked by.
+     * @param rank The zero based rank of the player.
+     * @return The stat for the player at the given rank.
+     */
+    public double getStat(LeaderboardType type, int rank) {
+        Column column = getColumn(type);
+
+        return column.stats[column.ranking[rank]];
+    }
+
+    /**
+     * Gets the experience for the player at the given rank for the given leaderboard
+     * type, or {@code null} if the leaderboard type doesn't have any experience.
+     *
+     * @param type The leaderboard type the player should be ranked by.
+     * @param rank The zero based rank of the player.
+     * @return The experience for the player at the given rank, or {@code null}.
+     */
+    public Double getExperience(LeaderboardType type, int rank) {
+        Column column = getColumn(type);
+        if (column.experience == null) {
+            return null;
+        }
+        return column.experience[column.ranking[rank]];
+    }
+
+    /**
+     * Gets the one based position of the player with the given UUID
+     * on the leaderboard for the given leaderboard type.
+     *
+     * @param type The leaderboard type the player should be ranked by.
+     * @param uuid The UUID of the player that the position should be found for.
+     * @return The one based position of the player, or {@code -1} if the player isn't on the leaderboard.
+     */
+    public int getPosition(LeaderboardType type, UUID uuid) {
+        Integer row = uuid == null ? null : rowsByUuid.get(uuid);
+        if (row == null) {
+            return -1;
+        }
+        return getColumn(type).positions[row] + 1;
+    }
+
+    /**
+     * Gets the average stat for the given leaderboard type, only
+     * players with a stat above zero is counted in the average.
+     *
+     * @param type The leaderboard type the average should be found for.
+     * @return The average stat for the leaderboard type.
+     */
+    public double getAverageStat(LeaderboardType type) {
+        Column column = getColumn(type);
+
+        return column.statTotal / column.playersWithStats;
+    }
+
+    /**
+     * Gets the average experience for the given leaderboard type, only
+     * players with a stat above zero is counted in the average.
+     *
+     * @param type The leaderboard type the average should be found for.
+     * @return The average experience for the leaderboard type.
+     */
+    public double getAverageExperience(LeaderboardType type) {
+        Column column = getColumn(type);
+
+        return column.experienceTotal / column.playersWithStats;
+    }
+
+    private class Column {
+
+        private final double[] stats;
+        private final double[] experience;
+        private final int[] ranking;
+        private final int[] positions;
+
+        private double statTotal = 0D;
+        private double experienceTotal = 0D;
+        private int playersWithStats = 0;
+
+        Column(LeaderboardType type) {
+            if (type.getStatFunction() == null) {
+                throw new IllegalArgumentException(type.getName() + " leaderboards can't be ranked by player stats");
+            }
+
+            final int size = players.size();
+
+            stats = getStats(type.getStatFunction());
+            experience = type.getExpFunction() == null ? null : getStats(type.getExpFunction());
+
+            for (int row = 0; row < size; row++) {
+                if (stats[row] <= 0) {
+                    continue;
+                }
+
+                statTotal += stats[row];
+                playersWithStats++;
+
+                if (experience != null && experience[row] > 0) {
+                    experienceTotal += experience[row];
+                }
+            }
+
+            final double[] order = getStats(type.getOrderFunction());
+            final double[] index = type.getIndexFunction() == null ? null : getStats(type.getIndexFunction());
+
+            Integer[] sortedRows = new Integer[size];
+            for (int row = 0; row < size; row++) {
+                sortedRows[row] = row;
+            }
+
+            // The sort is stable, so players with the same stats will stay in the order
+            // they were given to us in, in the same way sorting the players did.
+            Arrays.sort(sortedRows, (left, right) -> {
+                int result = Double.compare(order[right], order[left]);
+                if (result != 0 || index == null) {
+                    return result;
+                }
+                return Double.compare(index[right], index[left]);
+            });
+
+            ranking = new int[size];
+            positions = new int[size];
+            for (int rank = 0; rank < size; rank++) {
+                ranking[rank] = sortedRows[rank];
+                positions[sortedRows[rank]] = rank;
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.senither.hypixel.hypixel.response;
 
+import com.senither.hypixel.hypixel.auction.AuctionHouseIndex;
 import com.senither.hypixel.inventory.ItemRarity;
 
 import java.util.List;
@@ -9,6 +10,8 @@ public class AuctionHouseResponse {
     private boolean success;
     protected List<Auction> auctions;
 
+    private transient volatile AuctionHouseIndex index;
+
     public boolean isSuccess() {
         return success;
     }
@@ -17,6 +20,17 @@ public class AuctionHouseResponse {
         return auctions;
     }
 
+    public AuctionHouseIndex getIndex() {
+        if (index == null) {
+            synchronized (this) {
+                if (index == null) {
+                    index = new AuctionHouseIndex(auctions);
+                }
+            }
+        }
+        return index;
+    }
+
     public class Auction {
 
         private String uuid;
@@ -22,6 +22,8 @@
 package com.senither.hypixel.hypixel.response;
 
 import com.senither.hypixel.contracts.hypixel.Response;
+import com.senither.hypixel.hypixel.leaderboard.GuildLeaderboardTable;
+import com.senither.hypixel.hypixel.leaderboard.GuildNameIndex;
 import com.senither.hypixel.time.Carbon;
 
 import java.util.List;
@@ -31,10 +33,35 @@ public class GuildLeaderboardResponse extends Response {
 
     protected List<Guild> data;
 
+    private transient volatile GuildLeaderboardTable table;
+    private transient volatile GuildNameIndex nameIndex;
+
     public List<Guild> getData() {
         return data;
     }
 
+    public GuildLeaderboardTable getTable() {
+        if (table == null) {
+            synchronized (this) {
+                if (table == null) {
+                    table = new GuildLeaderboardTable(data);
+                }
+            }
+        }
+        return table;
+    }
+
+    public GuildNameIndex getNameIndex() {
+        if (nameIndex == null) {
+            synchronized (this) {
+                if (nameIndex == null) {
+                    nameIndex = new GuildNameIndex(data);
+                }
+            }
+        }
+        return nameIndex;
+    }
+
     public class Guild {
 
         protected String id;
@@ -23,6 +23,7 @@ package com.senither.hypixel.hypixel.response;
 
 import com.senither.hypixel.contracts.hypixel.Response;
 import com.senither.hypixel.hypixel.leaderboard.LeaderboardPlayer;
+import com.senither.hypixel.hypixel.leaderboard.PlayerLeaderboardTable;
 
 import java.util.List;
 
@@ -31,10 +32,23 @@ public class PlayerLeaderboardResponse extends Response {
 
     protected List<Player> data;
 
+    private transient volatile PlayerLeaderboardTable table;
+
     public List<Player> getData() {
         return data;
     }
 
+    public PlayerLeaderboardTable getTable() {
+        if (table == null) {
+            synchronized (this) {
+                if (table == null) {
+                    table = new PlayerLeaderboardTable(data);
+                }
+            }
+        }
+        return table;
+    }
+
     public class Player extends LeaderboardPlayer {
         //
     }
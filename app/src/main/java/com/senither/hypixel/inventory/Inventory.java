@@ -21,60 +21,24 @@
 
 package com.senither.hypixel.inventory;
 
-import com.github.steveice10.opennbt.tag.builtin.ByteArrayTag;
-import com.github.steveice10.opennbt.tag.builtin.CompoundTag;
-import com.github.steveice10.opennbt.tag.builtin.ListTag;
-import com.github.steveice10.opennbt.tag.builtin.Tag;
-import com.senither.hypixel.contracts.inventory.InventoryDecoder;
 import com.senither.hypixel.contracts.inventory.Searchable;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
 
-public class Inventory implements Searchable, InventoryDecoder {
+public class Inventory implements Searchable {
 
     private final List<Item> items = new ArrayList<>();
 
     public Inventory(String encodedInventory) throws IOException {
-        Tag decodedInventoryTag = decodeInventoryString(encodedInventory);
-        if (decodedInventoryTag == null || !(decodedInventoryTag instanceof CompoundTag)) {
-            throw new IOException("Decoded inventory is not a LinkedHashMap, unable to parse inventory data!");
-        }
-
-        Tag inventoryContentsTag = ((CompoundTag) decodedInventoryTag).get("i");
-        if (!(inventoryContentsTag instanceof ListTag)) {
-            throw new IOException("Inventory contents tag is not a list, unable to get inventory contents!");
-        }
-
-        for (Tag tag : (ListTag) inventoryContentsTag) {
-            if (!(tag instanceof CompoundTag)) {
-                continue;
-            }
-
-            CompoundTag itemTag = (CompoundTag) tag;
-            if (itemTag.isEmpty()) {
-                continue;
-            }
-
-            try {
-                items.add(new Item(this, itemTag));
-            } catch (Exception e) {
-                // This should only be thrown if the item is not properly formatted or
-                // is an illegal item and shouldn't exist in the game to begin with.
-            }
-        }
+        this(Base64.getDecoder().decode(encodedInventory));
     }
 
-    void addBackpackContent(ByteArrayTag backpackData) {
-        try {
-            Inventory inventory = new Inventory(Base64.getEncoder().encodeToString(backpackData.getValue()));
-
-            items.addAll(inventory.getItems());
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+    Inventory(byte[] decodedInventory) throws IOException {
+        InventoryReader.read(decodedInventory, items);
     }
 
     @Override
@@ -88,7 +52,7 @@ public class Inventory implements Searchable, InventoryDecoder {
     }
 
     public List<Item> getItems() {
-        return items;
+        return Collections.unmodifiableList(items);
     }
 
     public List<Item> getItemsWithType(ItemType type) {
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.inventory;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class InventoryCache {
+
+    public static final Cache<String, Inventory> cache = CacheBuilder.newBuilder()
+        .expireAfterAccess(5, TimeUnit.MINUTES)
+        .maximumSize(5000)
+        .recordStats()
+        .build();
+
+    /**
+     * Gets the decoded inventory with the given name for the given profile member, the
+     * inventories are cached using the profile ID, member ID, inventory name, and a
+     * hash of the encoded inventory data, so multiple checkers looking at the
+     * same inventory will only have to decode the inventory data once.
+     *
+     * @param profileId     The ID of the SkyBlock profile the inventory belongs to.
+     * @param memberId      The ID of the profile member the inventory belongs to.
+     * @param member        The profile member JSON object that holds the inventory.
+     * @param inventoryName The name of the inventory that should be decoded.
+     * @return The decoded inventory.
+     * @throws IOException Thrown if the inventory data could not be decoded.
+     */
+    public static Inventory getInventory(String profileId, String memberId, JsonObject member, String inventoryName) throws IOException {
+        final String encodedInventory = member.get(inventoryName).getAsJsonObject().get("data").getAsString();
+        final String cacheKey = String.format("%s-%s-%s-%s",
+            profileId, memberId, inventoryName, Hashing.murmur3_128().hashUnencodedChars(encodedInventory)
+        );
+
+        try {
+            return cache.get(cacheKey, () -> new Inventory(encodedInventory));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Failed to decode the " + inventoryName + " inventory, error: " + e.getMessage(), e);
+        }
+    }
+}
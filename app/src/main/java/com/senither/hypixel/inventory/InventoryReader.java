@@ -0,0 +1,373 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.inventory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * A streaming NBT reader built specifically for the inventory data returned by the
+ * SkyBlock profile API, instead of building the full NBT tree for the inventory
+ * the reader only pulls out the item name, the last line of the item lore,
+ * the item ID, the reforge, and backpack contents, everything else is skipped.
+ */
+final class InventoryReader {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryReader.class);
+
+    private static final byte TAG_END = 0;
+    private static final byte TAG_BYTE = 1;
+    private static final byte TAG_SHORT = 2;
+    private static final byte TAG_INT = 3;
+    private static final byte TAG_LONG = 4;
+    private static final byte TAG_FLOAT = 5;
+    private static final byte TAG_DOUBLE = 6;
+    private static final byte TAG_BYTE_ARRAY = 7;
+    private static final byte TAG_STRING = 8;
+    private static final byte TAG_LIST = 9;
+    private static final byte TAG_COMPOUND = 10;
+    private static final byte TAG_INT_ARRAY = 11;
+    private static final byte TAG_LONG_ARRAY = 12;
+
+    private static final byte[] INVENTORY_CONTENTS = encode("i");
+    private static final byte[] ITEM_TAG = encode("tag");
+    private static final byte[] HIDE_FLAGS = encode("HideFlags");
+    private static final byte[] EXTRA_ATTRIBUTES = encode("ExtraAttributes");
+    private static final byte[] DISPLAY = encode("display");
+    private static final byte[] DISPLAY_NAME = encode("Name");
+    private static final byte[] DISPLAY_LORE = encode("Lore");
+    private static final byte[] ITEM_ID = encode("id");
+    private static final byte[] WINNING_BID = encode("winning_bid");
+    private static final byte[] REFORGE = encode("modifier");
+    private static final byte[] BACKPACK_DATA_SUFFIX = encode("_backpack_data");
+
+    private final DataInputStream input;
+
+    private byte[] nameBuffer = new byte[32];
+    private int nameLength = 0;
+
+    private InventoryReader(InputStream stream) {
+        this.input = new DataInputStream(stream);
+    }
+
+    static void read(byte[] data, List<Item> items) throws IOException {
+        if (data == null || data.length == 0) {
+            throw new IOException("Failed to decode inventory, inventory can't be empty or null!");
+        }
+
+        InputStream stream = isCompressed(data)
+            ? new BufferedInputStream(new GZIPInputStream(new ByteArrayInputStream(data), 8192), 8192)
+            : new ByteArrayInputStream(data);
+
+        try (stream) {
+            new InventoryReader(stream).readInventory(items);
+        }
+    }
+
+    private static boolean isCompressed(byte[] data) {
+        return data.length > 1
+            && data[0] == (byte) (GZIPInputStream.GZIP_MAGIC)
+            && data[1] == (byte) (GZIPInputStream.GZIP_MAGIC >> 8);
+    }
+
+    private static byte[] encode(String name) {
+        return name.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void readInventory(List<Item> items) throws IOException {
+        if (input.readByte() != TAG_COMPOUND) {
+            throw new IOException("Decoded inventory is not a compound tag, unable to parse inventory data!");
+        }
+        skipString();
+
+        boolean hasInventoryContents = false;
+
+        byte type;
+        while ((type = input.readByte()) != TAG_END) {
+            readName();
+
+            if (type == TAG_LIST && isName(INVENTORY_CONTENTS)) {
+                readItems(items);
+                hasInventoryContents = true;
+            } else {
+                skipPayload(type);
+            }
+        }
+
+        if (!hasInventoryContents) {
+            throw new IOException("Inventory contents tag is not a list, unable to get inventory contents!");
+        }
+    }
+
+    private void readItems(List<Item> items) throws IOException {
+        byte elementType = input.readByte();
+        int length = input.readInt();
+
+        if (elementType != TAG_COMPOUND) {
+            for (int i = 0; i < length; i++) {
+                skipPayload(elementType);
+            }
+            return;
+        }
+
+        for (int i = 0; i < length; i++) {
+            readItem(items);
+        }
+    }
+
+    private void readItem(List<Item> items) throws IOException {
+        ItemFields fields = new ItemFields();
+
+        byte type;
+        while ((type = input.readByte()) != TAG_END) {
+            readName();
+
+            if (type == TAG_COMPOUND && isName(ITEM_TAG)) {
+                readItemTag(fields);
+            } else {
+                skipPayload(type);
+            }
+        }
+
+        if (!fields.hasHideFlags) {
+            return;
+        }
+
+        if (fields.backpackData != null) {
+            try {
+                read(fields.backpackData, items);
+            } catch (IOException e) {
+                log.debug("Failed to decode backpack contents, error: {}", e.getMessage(), e);
+            }
+        }
+
+        if (fields.name == null || fields.lastLoreLine == null) {
+            return;
+        }
+
+        try {
+            items.add(new Item(fields.name, fields.lastLoreLine, fields.hideFlags, fields.itemId, fields.reforge, fields.winningBid));
+        } catch (Exception e) {
+            // This should only be thrown if the item is not properly formatted or
+            // is an illegal item and shouldn't exist in the game to begin with.
+        }
+    }
+
+    private void readItemTag(ItemFields fields) throws IOException {
+        byte type;
+        while ((type = input.readByte()) != TAG_END) {
+            readName();
+
+            if (type == TAG_INT && isName(HIDE_FLAGS)) {
+                fields.hideFlags = input.readInt();
+                fields.hasHideFlags = true;
+            } else if (type == TAG_COMPOUND && isName(EXTRA_ATTRIBUTES)) {
+                readExtraAttributes(fields);
+            } else if (type == TAG_COMPOUND && isName(DISPLAY)) {
+                readDisplay(fields);
+            } else {
+                skipPayload(type);
+            }
+        }
+    }
+
+    private void readExtraAttributes(ItemFields fields) throws IOException {
+        byte type;
+        while ((type = input.readByte()) != TAG_END) {
+            readName();
+
+            if (type == TAG_STRING && isName(ITEM_ID)) {
+                fields.itemId = input.readUTF();
+            } else if (type == TAG_STRING && isName(REFORGE)) {
+                fields.reforge = input.readUTF();
+            } else if (type == TAG_INT && isName(WINNING_BID)) {
+                fields.winningBid = input.readInt();
+            } else if (type == TAG_LONG && isName(WINNING_BID)) {
+                fields.winningBid = input.readLong();
+            } else if (type == TAG_BYTE_ARRAY && fields.backpackData == null && isNameEndingWith(BACKPACK_DATA_SUFFIX)) {
+                fields.backpackData = new byte[input.readInt()];
+                input.readFully(fields.backpackData);
+            } else {
+                skipPayload(type);
+            }
+        }
+    }
+
+    private void readDisplay(ItemFields fields) throws IOException {
+        byte type;
+        while ((type = input.readByte()) != TAG_END) {
+            readName();
+
+            if (type == TAG_STRING && isName(DISPLAY_NAME)) {
+                fields.name = input.readUTF();
+            } else if (type == TAG_LIST && isName(DISPLAY_LORE)) {
+                readLastLoreLine(fields);
+            } else {
+                skipPayload(type);
+            }
+        }
+    }
+
+    private void readLastLoreLine(ItemFields fields) throws IOException {
+        byte elementType = input.readByte();
+        int length = input.readInt();
+
+        if (elementType != TAG_STRING) {
+            for (int i = 0; i < length; i++) {
+                skipPayload(elementType);
+            }
+            return;
+        }
+
+        for (int i = 0; i < length - 1; i++) {
+            skipString();
+        }
+
+        if (length > 0) {
+            fields.lastLoreLine = input.readUTF();
+        }
+    }
+
+    private void readName() throws IOException {
+        nameLength = input.readUnsignedShort();
+        if (nameLength > nameBuffer.length) {
+            nameBuffer = new byte[nameLength];
+        }
+        input.readFully(nameBuffer, 0, nameLength);
+    }
+
+    private boolean isName(byte[] name) {
+        if (nameLength != name.length) {
+            return false;
+        }
+
+        for (int i = 0; i < nameLength; i++) {
+            if (nameBuffer[i] != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isNameEndingWith(byte[] suffix) {
+        if (nameLength < suffix.length) {
+            return false;
+        }
+
+        int offset = nameLength - suffix.length;
+        for (int i = 0; i < suffix.length; i++) {
+            if (nameBuffer[offset + i] != suffix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void skipString() throws IOException {
+        skipBytes(input.readUnsignedShort());
+    }
+
+    private void skipPayload(byte type) throws IOException {
+        switch (type) {
+            case TAG_BYTE:
+                skipBytes(1);
+                break;
+
+            case TAG_SHORT:
+                skipBytes(2);
+                break;
+
+            case TAG_INT:
+            case TAG_FLOAT:
+                skipBytes(4);
+                break;
+
+            case TAG_LONG:
+            case TAG_DOUBLE:
+                skipBytes(8);
+                break;
+
+            case TAG_BYTE_ARRAY:
+                skipBytes(input.readInt());
+                break;
+
+            case TAG_STRING:
+                skipString();
+                break;
+
+            case TAG_LIST:
+                byte elementType = input.readByte();
+                int length = input.readInt();
+                for (int i = 0; i < length; i++) {
+                    skipPayload(elementType);
+                }
+                break;
+
+            case TAG_COMPOUND:
+                byte childType;
+                while ((childType = input.readByte()) != TAG_END) {
+                    skipString();
+                    skipPayload(childType);
+                }
+                break;
+
+            case TAG_INT_ARRAY:
+                skipBytes(input.readInt() * 4L);
+                break;
+
+            case TAG_LONG_ARRAY:
+                skipBytes(input.readInt() * 8L);
+                break;
+
+            default:
+                throw new IOException("Found unknown NBT tag type " + type + ", unable to parse inventory data!");
+        }
+    }
+
+    private void skipBytes(long amount) throws IOException {
+        while (amount > 0) {
+            int skipped = input.skipBytes((int) Math.min(amount, Integer.MAX_VALUE));
+            if (skipped <= 0) {
+                input.readByte();
+                skipped = 1;
+            }
+            amount -= skipped;
+        }
+    }
+
+    private static class ItemFields {
+
+        private String name = null;
+        private String lastLoreLine = null;
+        private String itemId = null;
+        private String reforge = null;
+        private long winningBid = 0L;
+        private int hideFlags = 0;
+        private boolean hasHideFlags = false;
+        private byte[] backpackData = null;
+    }
+}
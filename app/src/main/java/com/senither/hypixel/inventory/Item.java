@@ -21,55 +21,25 @@
 
 package com.senither.hypixel.inventory;
 
-import com.github.steveice10.opennbt.tag.builtin.ByteArrayTag;
-import com.github.steveice10.opennbt.tag.builtin.CompoundTag;
-import com.github.steveice10.opennbt.tag.builtin.IntTag;
-import com.github.steveice10.opennbt.tag.builtin.ListTag;
-import com.senither.hypixel.contracts.inventory.InventoryDecoder;
-
-import java.io.IOException;
-
-public class Item implements InventoryDecoder {
+public class Item {
 
     private final String name;
+    private final String itemId;
+    private final String reforge;
     private final int tagId;
     private final ItemRarity rarity;
     private final ItemType type;
     private final boolean recombobulated;
+    private final long winningBid;
 
-    private final CompoundTag compoundTag;
-
-    Item(Inventory inventory, CompoundTag compoundTag) throws IOException {
-        if (!compoundTag.contains("tag")) {
-            throw new IOException("Missing tag named \"tag\", unable to create item");
-        }
-
-        this.compoundTag = compoundTag;
-
-        CompoundTag tag = compoundTag.get("tag");
-        tagId = ((IntTag) tag.get("HideFlags")).getValue();
-
-        if (tag.contains("ExtraAttributes")) {
-            ByteArrayTag backpackData = getInventoryDataFromAttributes(tag.get("ExtraAttributes"));
-            if (backpackData != null) {
-                inventory.addBackpackContent(backpackData);
-            }
-        }
-        if (!tag.contains("display")) {
-            throw new IOException("Missing display tag, unable to create item");
-        }
-
-        CompoundTag display = tag.get("display");
-        this.name = display.get("Name").getValue().toString().replaceAll("([!|#|%]?[§]+[a-f|0-9])", "");
-
-        ListTag lore = display.get("Lore");
+    Item(String name, String lastLoreLine, int tagId, String itemId, String reforge, long winningBid) {
+        this.name = stripColorCodes(name);
+        this.tagId = tagId;
+        this.itemId = itemId;
+        this.reforge = reforge;
+        this.winningBid = winningBid;
 
-        String metaString = lore.get(lore.size() - 1)
-            .getValue()
-            .toString()
-            .replaceAll("([!|#|%]?[§]+[a-f|0-9])", "");
-
-        String[] itemMeta = metaString.split(" ");
+        String[] itemMeta = stripColorCodes(lastLoreLine).split(" ");
 
         this.recombobulated = itemMeta[itemMeta.length - 1].equals("§l§ka");
 
@@ -82,10 +52,67 @@ public class Item implements InventoryDecoder {
         }
     }
 
+    /**
+     * Strips the Minecraft color codes from the given string, this does the same as
+     * replacing <code>([!|#|%]?[§]+[a-f|0-9])</code> with an empty string, without
+     * having to run the regex for every name and lore line we decode.
+     *
+     * @param string The string that the color codes should be stripped from.
+     * @return The string without any color codes.
+     */
+    static String stripColorCodes(String string) {
+        if (string.indexOf('§') == -1) {
+            return string;
+        }
+
+        StringBuilder builder = new StringBuilder(string.length());
+
+        int length = string.length();
+        for (int i = 0; i < length; i++) {
+            int start = isColorCodePrefix(string.charAt(i)) && i + 1 < length && string.charAt(i + 1) == '§' ? i + 1 : i;
+
+            int end = start;
+            while (end < length && string.charAt(end) == '§') {
+                end++;
+            }
+
+            if (end > start && end < length && isColorCode(string.charAt(end))) {
+                i = end;
+                continue;
+            }
+
+            builder.append(string.charAt(i));
+        }
+
+        return builder.toString();
+    }
+
+    private static boolean isColorCodePrefix(char character) {
+        return character == '!' || character == '|' || character == '#' || character == '%';
+    }
+
+    private static boolean isColorCode(char character) {
+        return (character >= 'a' && character <= 'f')
+            || (character >= '0' && character <= '9')
+            || character == '|';
+    }
+
     public String getName() {
         return name;
     }
 
+    public String getItemId() {
+        return itemId;
+    }
+
+    public String getReforge() {
+        return reforge;
+    }
+
+    public boolean isReforged() {
+        return reforge != null;
+    }
+
     public int getTagId() {
         return tagId;
     }
@@ -102,7 +129,7 @@ public class Item implements InventoryDecoder {
         return recombobulated;
     }
 
-    public CompoundTag getRawCompoundTag() {
-        return compoundTag;
+    public long getWinningBid() {
+        return winningBid;
     }
 }
@@ -23,14 +23,16 @@ package com.senither.hypixel.metrics;
 
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
-import com.senither.hypixel.commands.middlewares.ThrottleMiddleware;
+import com.senither.hypixel.chat.MessageTemplate;
 import com.senither.hypixel.commands.middlewares.VerificationMiddleware;
 import com.senither.hypixel.commands.misc.BoopCommand;
 import com.senither.hypixel.commands.misc.BotStatsCommand;
 import com.senither.hypixel.contracts.commands.Command;
 import com.senither.hypixel.database.controller.GuildController;
 import com.senither.hypixel.hypixel.Hypixel;
+import com.senither.hypixel.inventory.InventoryCache;
 import com.senither.hypixel.servlet.routes.GetGuildRoute;
+import com.senither.hypixel.statistics.ProfileStatistics;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
@@ -129,6 +131,34 @@ public class Metrics {
         .labelNames("class")
         .register();
 
+    public static final Gauge commandQueueDepth = Gauge.build()
+        .name("skyblock_assistant_command_queue_depth")
+        .help("The amount of commands that are currently queued or running")
+        .register();
+
+    public static final Histogram commandQueueWaitTime = Histogram.build()
+        .name("skyblock_assistant_command_queue_wait_duration_seconds")
+        .help("The time commands spend in the queue before they're executed")
+        .register();
+
+    public static final Counter commandsRejected = Counter.build()
+        .name("skyblock_assistant_commands_rejected_total")
+        .help("Total commands rejected because too many commands were already queued")
+        .labelNames("reason") // global or guild
+        .register();
+
+    public static final Histogram skillCommandStageTime = Histogram.build()
+        .name("skyblock_assistant_skill_command_stage_duration_seconds")
+        .help("Skill command execution time split up by the stage of the command")
+        .labelNames("class", "stage") // player, profile, or compute
+        .register();
+
+    public static final Histogram rankCheckerExecutionTime = Histogram.build()
+        .name("skyblock_assistant_rank_checker_execution_duration_seconds")
+        .help("Rank requirement checker execution time by requirement type")
+        .labelNames("type")
+        .register();
+
     public static final Counter commandExceptions = Counter.build()
         .name("skyblock_assistant_commands_exceptions_total")
         .help("Total uncaught exceptions thrown by command invocation")
@@ -146,6 +176,22 @@ public class Metrics {
         .help("The amount of servers and users that are currently on the blacklist")
         .register();
 
+    public static final Gauge auctionIndexes = Gauge.build()
+        .name("skyblock_assistant_auction_indexes_current")
+        .help("The amount of profile auction indexes that are currently cached")
+        .register();
+
+    public static final Gauge auctionIndexesMemory = Gauge.build()
+        .name("skyblock_assistant_auction_indexes_memory_bytes")
+        .help("The estimated number of bytes used by the cached profile auction indexes")
+        .register();
+
+    public static final Gauge ratelimitBuckets = Gauge.build()
+        .name("skyblock_assistant_ratelimit_buckets_current")
+        .help("The amount of token buckets currently being tracked by the given limiter")
+        .labelNames("limiter")
+        .register();
+
     private static boolean isSetup = false;
 
     public static void setup() {
@@ -175,13 +221,14 @@ public class Metrics {
         cacheMetrics.addCache("uuid-to-discord-id", Hypixel.uuidToDiscordIdCache);
         cacheMetrics.addCache("uuid-to-username", Hypixel.uuidToUsernameCache);
         cacheMetrics.addCache("reply", Hypixel.replyCache);
-        cacheMetrics.addCache("response", Hypixel.responseCache);
         cacheMetrics.addCache("profile-auctions", Hypixel.auctionsCache);
         cacheMetrics.addCache("verify", VerificationMiddleware.cache);
         cacheMetrics.addCache("database-guild", GuildController.cache);
+        cacheMetrics.addCache("decoded-inventories", InventoryCache.cache);
+        cacheMetrics.addCache("message-templates", MessageTemplate.cache);
+        cacheMetrics.addCache("profile-statistics", ProfileStatistics.cache);
         cacheMetrics.addCache("discord-id-to-username", Command.discordIdToUsernameCache);
         cacheMetrics.addCache("discord-id-to-uuid", Command.discordIdToUuidCache);
-        cacheMetrics.addCache("throttle-commands", ThrottleMiddleware.cache);
 
         isSetup = true;
     }
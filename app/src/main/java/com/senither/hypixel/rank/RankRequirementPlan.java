@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.rank;
+
+import com.senither.hypixel.database.controller.GuildController;
+import com.senither.hypixel.rank.items.Armor;
+import com.senither.hypixel.rank.items.PowerOrb;
+import com.senither.hypixel.rank.items.Weapon;
+import net.hypixel.api.reply.GuildReply;
+
+import java.util.*;
+
+public final class RankRequirementPlan {
+
+    private static final RankRequirementType[] types = RankRequirementType.values();
+
+    private final String ranksFingerprint;
+    private final GuildReply.Guild.Rank[] ranks;
+    private final int[] priorities;
+
+    private final boolean[][] requirementsSetup;
+    private final boolean[] typeSetup;
+
+    private final int[] fairySouls;
+    private final int[] talismansLegendary;
+    private final int[] talismansEpic;
+    private final int[] averageSkills;
+    private final int[] slayerExperience;
+    private final int[] bankCoins;
+    private final int[] powerOrbs;
+
+    private final int[] armorPoints;
+    private final Armor[][] armorItems;
+    private final int[][] armorItemPoints;
+    private final Armor[] armors;
+
+    private final int[] weaponPoints;
+    private final Weapon[][] weaponItems;
+    private final int[][] weaponItemPoints;
+
+    /**
+     * Compiles the given rank requirements into a plan, the guild ranks are sorted by their
+     * priority once, ranks without any requirements are dropped, and the thresholds for
+     * each requirement type are flattened into primitive arrays, with the armor and
+     * weapon names resolved to their item enums, so checking a member against the
+     * plan doesn't have to touch the requirement maps at all.
+     *
+     * @param requirements The rank requirements, mapped by the name of the rank.
+     * @param guildReply   The guild the rank requirements belongs to.
+     */
+    public RankRequirementPlan(Map<String, GuildController.GuildEntry.RankRequirement> requirements, GuildReply guildReply) {
+        ranksFingerprint = createRanksFingerprint(guildReply);
+
+        List<GuildReply.Guild.Rank> sortedRanks = new ArrayList<>();
+        for (GuildReply.Guild.Rank rank : guildReply.getGuild().getRanks()) {
+            if (requirements.containsKey(rank.getName())) {
+                sortedRanks.add(rank);
+            }
+        }
+        sortedRanks.sort((o1, o2) -> o2.getPriority() - o1.getPriority());
+
+        int size = sortedRanks.size();
+
+        ranks = sortedRanks.toArray(new GuildReply.Guild.Rank[0]);
+        priorities = new int[size];
+
+        requirementsSetup = new boolean[size][types.length];
+        typeSetup = new boolean[types.length];
+
+        fairySouls = new int[size];
+        talismansLegendary = new int[size];
+        talismansEpic = new int[size];
+        averageSkills = new int[size];
+        slayerExperience = new int[size];
+        bankCoins = new int[size];
+        powerOrbs = new int[size];
+
+        armorPoints = new int[size];
+        armorItems = new Armor[size][];
+        armorItemPoints = new int[size][];
+
+        weaponPoints = new int[size];
+        weaponItems = new Weapon[size][];
+        weaponItemPoints = new int[size][];
+
+        EnumSet<Armor> usedArmors = EnumSet.noneOf(Armor.class);
+
+        for (int i = 0; i < size; i++) {
+            GuildController.GuildEntry.RankRequirement requirement = requirements.get(ranks[i].getName());
+
+            priorities[i] = ranks[i].getPriority();
+
+            for (RankRequirementType type : types) {
+                if (type.getChecker().hasRequirementsSetup(requirement)) {
+                    requirementsSetup[i][type.ordinal()] = true;
+                    typeSetup[type.ordinal()] = true;
+                }
+            }
+
+            fairySouls[i] = requirement.getFairySouls();
+            talismansLegendary[i] = requirement.getTalismansLegendary();
+            talismansEpic[i] = requirement.getTalismansEpic();
+            averageSkills[i] = requirement.getAverageSkills();
+            slayerExperience[i] = requirement.getSlayerExperience();
+            bankCoins[i] = requirement.getBankCoins();
+            powerOrbs[i] = requirement.getPowerOrb() == null
+                ? Integer.MAX_VALUE
+                : requirement.getPowerOrb().getId();
+
+            EnumMap<Armor, Integer> rankArmors = new EnumMap<>(Armor.class);
+            if (requirement.getArmorPoints() != Integer.MAX_VALUE) {
+                for (Map.Entry<String, Integer> entry : requirement.getArmorItems().entrySet()) {
+                    Armor armor = Armor.getFromName(entry.getKey());
+                    if (armor != null) {
+                        rankArmors.put(armor, entry.getValue());
+                    }
+                }
+            }
+
+            armorPoints[i] = requirement.getArmorItems().isEmpty() ? Integer.MAX_VALUE : requirement.getArmorPoints();
+            armorItems[i] = rankArmors.keySet().toArray(new Armor[0]);
+            armorItemPoints[i] = toIntArray(rankArmors.values());
+            usedArmors.addAll(rankArmors.keySet());
+
+            EnumMap<Weapon, Integer> rankWeapons = new EnumMap<>(Weapon.class);
+            if (requirement.getWeaponPoints() != Integer.MAX_VALUE) {
+                for (Map.Entry<String, Integer> entry : requirement.getWeaponItems().entrySet()) {
+                    Weapon weapon = Weapon.getFromName(entry.getKey());
+                    if (weapon != null) {
+                        rankWeapons.put(weapon, entry.getValue());
+                    }
+                }
+            }
+
+            weaponPoints[i] = requirement.getWeaponItems().isEmpty() ? Integer.MAX_VALUE : requirement.getWeaponPoints();
+            weaponItems[i] = rankWeapons.keySet().toArray(new Weapon[0]);
+            weaponItemPoints[i] = toIntArray(rankWeapons.values());
+        }
+
+        armors = usedArmors.toArray(new Armor[0]);
+    }
+
+    /**
+     * Checks if the plan was compiled from the same set of guild ranks as the
+     * given guild reply has, if a rank has been added, removed, renamed,
+     * or had its priority changed, the plan is outdated.
+     *
+     * @param guildReply The guild reply that should be checked against the plan.
+     * @return {@code True} if the plan was compiled from the same guild ranks.
+     */
+    public boolean isCompiledFor(GuildReply guildReply) {
+        return ranksFingerprint.equals(createRanksFingerprint(guildReply));
+    }
+
+    public boolean isEmpty() {
+        return ranks.length == 0;
+    }
+
+    public boolean hasRequirementsSetup(RankRequirementType type) {
+        return typeSetup[type.ordinal()];
+    }
+
+    public GuildReply.Guild.Rank findFairySoulsRank(int collectedFairySouls) {
+        for (int i = 0; i < ranks.length; i++) {
+            if (fairySouls[i] <= collectedFairySouls) {
+                return ranks[i];
+            }
+        }
+        return null;
+    }
+
+    public GuildReply.Guild.Rank findTalismansRank(int legendaries, int epics) {
+        for (int i = 0; i < ranks.length; i++) {
+            if (talismansLegendary[i] <= legendaries && talismansEpic[i] <= epics) {
+                return ranks[i];
+            }
+        }
+        return null;
+    }
+
+    public GuildReply.Guild.Rank findAverageSkillsRank(double averageSkillLevel) {
+        long roundedSkillLevel = Math.round(averageSkillLevel);
+        for (int i = 0; i < ranks.length; i++) {
+            if (averageSkills[i] <= roundedSkillLevel) {
+                return ranks[i];
+            }
+        }
+        return null;
+    }
+
+    public GuildReply.Guild.Rank findSlayerRank(long totalSlayerExperience) {
+        for (int i = 0; i < ranks.length; i++) {
+            if (slayerExperience[i] <= totalSlayerExperience) {
+                return ranks[i];
+            }
+        }
+        return null;
+    }
+
+    public GuildReply.Guild.Rank findBankRank(int totalCoins) {
+        for (int i = 0; i < ranks.length; i++) {
+            if (bankCoins[i] <= totalCoins) {
+                return ranks[i];
+            }
+        }
+        return null;
+    }
+
+    public GuildReply.Guild.Rank findPowerOrbRank(PowerOrb powerOrb) {
+        for (int i = 0; i < ranks.length; i++) {
+            if (powerOrbs[i] <= powerOrb.getId()) {
+                return ranks[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the armor sets that are used by at least one rank in the plan, any
+     * other armor sets can't give the player points, so there is no
+     * reason for checkers to look for them.
+     *
+     * @return The armor sets used by the plan.
+     */
+    public Armor[] getArmors() {
+        return armors;
+    }
+
+    /**
+     * Finds the highest rank the player qualifies for using their completed
+     * armor sets, the completed sets should be indexed by their ordinal.
+     *
+     * @param completedSets The armor sets the player has all the pieces for, indexed by ordinal.
+     * @return The matched rank and the points the player got for it.
+     */
+    public ItemMatch findArmorRank(boolean[] completedSets) {
+        for (int i = 0; i < ranks.length; i++) {
+            if (armorPoints[i] == Integer.MAX_VALUE) {
+                continue;
+            }
+
+            int points = 0;
+            for (int j = 0; j < armorItems[i].length; j++) {
+                if (completedSets[armorItems[i][j].ordinal()]) {
+                    points += armorItemPoints[i][j];
+                }
+            }
+
+            if (points >= armorPoints[i]) {
+                return new ItemMatch(ranks[i], points);
+            }
+        }
+        return new ItemMatch(null, 0);
+    }
+
+    /**
+     * Finds the highest rank the player qualifies for using the amount of
+     * each weapon the player has, the amounts should be indexed by ordinal.
+     *
+     * @param weaponCounts The amount of each weapon the player has, indexed by ordinal.
+     * @return The matched rank and the points the player got for it.
+     */
+    public ItemMatch findWeaponRank(int[] weaponCounts) {
+        for (int i = 0; i < ranks.length; i++) {
+            if (weaponPoints[i] == Integer.MAX_VALUE) {
+                continue;
+            }
+
+            int points = 0;
+            for (int j = 0; j < weaponItems[i].length; j++) {
+                points += weaponItemPoints[i][j] * weaponCounts[weaponItems[i][j].ordinal()];
+            }
+
+            if (points >= weaponPoints[i]) {
+                return new ItemMatch(ranks[i], points);
+            }
+        }
+        return new ItemMatch(null, 0);
+    }
+
+    /**
+     * Resolves the highest rank the player qualifies for across all the requirement
+     * types, a rank is only given if the player qualifies for that rank, or a
+     * higher rank, for every requirement type the rank has setup.
+     *
+     * @param qualifiers The rank the player qualified for for each requirement type.
+     * @return The highest rank the player qualifies for, or {@code null}.
+     */
+    public GuildReply.Guild.Rank resolveRank(Map<RankRequirementType, GuildReply.Guild.Rank> qualifiers) {
+        boolean[] qualified = new boolean[types.length];
+        int[] qualifiedPriorities = new int[types.length];
+        for (Map.Entry<RankRequirementType, GuildReply.Guild.Rank> entry : qualifiers.entrySet()) {
+            if (entry.getValue() != null) {
+                qualified[entry.getKey().ordinal()] = true;
+                qualifiedPriorities[entry.getKey().ordinal()] = entry.getValue().getPriority();
+            }
+        }
+
+        RANK_LOOP:
+        for (int i = 0; i < ranks.length; i++) {
+            for (int type = 0; type < types.length; type++) {
+                if (!requirementsSetup[i][type]) {
+                    continue;
+                }
+
+                if (!qualified[type] || priorities[i] > qualifiedPriorities[type]) {
+                    continue RANK_LOOP;
+                }
+            }
+            return ranks[i];
+        }
+        return null;
+    }
+
+    private static String createRanksFingerprint(GuildReply guildReply) {
+        StringBuilder fingerprint = new StringBuilder();
+        for (GuildReply.Guild.Rank rank : guildReply.getGuild().getRanks()) {
+            fingerprint.append(rank.getName()).append('\0').append(rank.getPriority()).append('\n');
+        }
+        return fingerprint.toString();
+    }
+
+    private static int[] toIntArray(Collection<Integer> values) {
+        int[] result = new int[values.size()];
+        int index = 0;
+        for (Integer value : values) {
+            result[index++] = value;
+        }
+        return result;
+    }
+
+    public static class ItemMatch {
+
+        private final GuildReply.Guild.Rank rank;
+        private final int points;
+
+        ItemMatch(GuildReply.Guild.Rank rank, int points) {
+            this.rank = rank;
+            this.points = points;
+        }
+
+        public GuildReply.Guild.Rank getRank() {
+            return rank;
+        }
+
+        public int getPoints() {
+            return points;
+        }
+    }
+}
@@ -77,6 +77,7 @@ public enum RankRequirementType {
         this.checker = checker;
         this.handler = handler;
 
+        this.checker.setRankType(this);
         this.handler.setRankType(this);
     }
 
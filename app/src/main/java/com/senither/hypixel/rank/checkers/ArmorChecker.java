@@ -29,8 +29,8 @@ import com.senither.hypixel.exceptions.NoRankRequirementException;
 import com.senither.hypixel.inventory.Item;
 import com.senither.hypixel.inventory.ItemType;
 import com.senither.hypixel.rank.RankCheckResponse;
+import com.senither.hypixel.rank.RankRequirementPlan;
 import com.senither.hypixel.rank.items.Armor;
-import com.senither.hypixel.rank.items.ArmorSet;
 import net.hypixel.api.reply.GuildReply;
 import net.hypixel.api.reply.skyblock.SkyBlockProfileReply;
 
@@ -65,68 +65,33 @@ public class ArmorChecker extends RankRequirementChecker {
     }
 
     @Override
-    public RankCheckResponse handleGetRankForUser(GuildController.GuildEntry guildEntry, GuildReply guildReply, SkyBlockProfileReply profileReply, UUID playerUUID) {
+    public RankCheckResponse handleGetRankForUser(RankRequirementPlan plan, SkyBlockProfileReply profileReply, UUID playerUUID) {
         JsonObject member = getProfileMemberFromUUID(profileReply, playerUUID);
 
         if (!isInventoryApiEnabled(member)) {
             throw new FriendlyException("Inventory API is disabled, unable to look for armor");
         }
 
-        boolean hasRequirements = false;
-        for (GuildController.GuildEntry.RankRequirement requirement : guildEntry.getRankRequirements().values()) {
-            if (requirement.getArmorPoints() != Integer.MAX_VALUE && !requirement.getArmorItems().isEmpty()) {
-                hasRequirements = true;
-            }
-        }
-
-        if (!hasRequirements) {
+        if (!plan.hasRequirementsSetup(rankType)) {
             throw new NoRankRequirementException("armor");
         }
 
         try {
             List<Item> items = new ArrayList<>();
-            items.addAll(buildInventoryForPlayer(member, "ender_chest_contents").getItemsWithType(ItemType.ARMOR));
-            items.addAll(buildInventoryForPlayer(member, "inv_contents").getItemsWithType(ItemType.ARMOR));
-            items.addAll(buildInventoryForPlayer(member, "inv_armor").getItemsWithType(ItemType.ARMOR));
-
-            for (GuildReply.Guild.Rank rank : getSortedRanksFromGuild(guildReply)) {
-                if (!guildEntry.getRankRequirements().containsKey(rank.getName())) {
-                    continue;
-                }
-
-                GuildController.GuildEntry.RankRequirement requirement = guildEntry.getRankRequirements().get(rank.getName());
-                if (requirement.getArmorItems().isEmpty() || requirement.getArmorPoints() == Integer.MAX_VALUE) {
-                    continue;
-                }
-
-                EnumMap<Armor, Integer> armors = new EnumMap<>(Armor.class);
-                for (Map.Entry<String, Integer> armorEntry : requirement.getArmorItems().entrySet()) {
-                    Armor armor = Armor.getFromName(armorEntry.getKey());
-                    if (armor != null) {
-                        armors.put(armor, armorEntry.getValue());
-                    }
-                }
-
-                int points = 0;
-                for (Map.Entry<Armor, Integer> armorIntegerEntry : armors.entrySet()) {
-                    int armorPieces = 0;
-
-                    ArmorSet armorSet = armorIntegerEntry.getKey().getArmorSet();
-                    for (Item item : items) {
-                        if (armorSet.isPartOfSet(item.getName())) {
-                            armorPieces += 1;
-                        }
-                    }
-
-                    if (armorPieces >= armorSet.getSetPieces()) {
-                        points += armorIntegerEntry.getValue();
-                    }
-                }
-
-                if (points >= requirement.getArmorPoints()) {
-                    return createResponse(rank, points);
-                }
+            items.addAll(buildInventoryForPlayer(profileReply, playerUUID, "ender_chest_contents").getItemsWithType(ItemType.ARMOR));
+            items.addAll(buildInventoryForPlayer(profileReply, playerUUID, "inv_contents").getItemsWithType(ItemType.ARMOR));
+            items.addAll(buildInventoryForPlayer(profileReply, playerUUID, "inv_armor").getItemsWithType(ItemType.ARMOR));
+
+            int[] setPieces = Armor.countSetPieces(items);
+
+            boolean[] completedSets = new boolean[setPieces.length];
+            for (Armor armor : plan.getArmors()) {
+                completedSets[armor.ordinal()] = setPieces[armor.ordinal()] >= armor.getArmorSet().getSetPieces();
             }
+
+            RankRequirementPlan.ItemMatch match = plan.findArmorRank(completedSets);
+
+            return createResponse(match.getRank(), match.getPoints());
         } catch (IOException ignored) {
             ignored.printStackTrace();
         }
@@ -26,6 +26,7 @@ import com.senither.hypixel.contracts.rank.RankRequirementChecker;
 import com.senither.hypixel.database.controller.GuildController;
 import com.senither.hypixel.exceptions.FriendlyException;
 import com.senither.hypixel.rank.RankCheckResponse;
+import com.senither.hypixel.rank.RankRequirementPlan;
 import com.senither.hypixel.statistics.StatisticsChecker;
 import com.senither.hypixel.statistics.responses.SkillsResponse;
 import net.hypixel.api.reply.GuildReply;
@@ -54,7 +55,7 @@ public class AverageSkillsChecker extends RankRequirementChecker {
     }
 
     @Override
-    public RankCheckResponse handleGetRankForUser(GuildController.GuildEntry guildEntry, GuildReply guildReply, SkyBlockProfileReply profileReply, UUID playerUUID) {
+    public RankCheckResponse handleGetRankForUser(RankRequirementPlan plan, SkyBlockProfileReply profileReply, UUID playerUUID) {
         JsonObject member = getProfileMemberFromUUID(profileReply, playerUUID);
 
         SkillsResponse response = StatisticsChecker.SKILLS.checkUser(null, profileReply, member);
@@ -63,17 +64,12 @@ public class AverageSkillsChecker extends RankRequirementChecker {
         }
 
         double averageSkillLevel = response.getAverageSkillLevel();
-        for (GuildReply.Guild.Rank rank : getSortedRanksFromGuild(guildReply)) {
-            if (!guildEntry.getRankRequirements().containsKey(rank.getName())) {
-                continue;
-            }
 
-            GuildController.GuildEntry.RankRequirement requirement = guildEntry.getRankRequirements().get(rank.getName());
-            if (requirement.getAverageSkills() <= Math.round(averageSkillLevel)) {
-                return createResponse(rank, averageSkillLevel, response.getAverageSkillLevelWithoutPorgress());
-            }
-        }
-        return createResponse(null, averageSkillLevel, response.getAverageSkillLevelWithoutPorgress());
+        return createResponse(
+            plan.findAverageSkillsRank(averageSkillLevel),
+            averageSkillLevel,
+            response.getAverageSkillLevelWithoutPorgress()
+        );
     }
 
     private RankCheckResponse createResponse(GuildReply.Guild.Rank rank, double amount, double withoutProgress) {
@@ -25,6 +25,7 @@ import com.google.gson.JsonObject;
 import com.senither.hypixel.contracts.rank.RankRequirementChecker;
 import com.senither.hypixel.database.controller.GuildController;
 import com.senither.hypixel.rank.RankCheckResponse;
+import com.senither.hypixel.rank.RankRequirementPlan;
 import com.senither.hypixel.utils.NumberUtil;
 import net.hypixel.api.reply.GuildReply;
 import net.hypixel.api.reply.skyblock.SkyBlockProfileReply;
@@ -52,7 +53,7 @@ public class BankChecker extends RankRequirementChecker {
     }
 
     @Override
-    public RankCheckResponse handleGetRankForUser(GuildController.GuildEntry guildEntry, GuildReply guildReply, SkyBlockProfileReply profileReply, UUID playerUUID) {
+    public RankCheckResponse handleGetRankForUser(RankRequirementPlan plan, SkyBlockProfileReply profileReply, UUID playerUUID) {
         JsonObject member = getProfileMemberFromUUID(profileReply, playerUUID);
 
         int bank = 0;
@@ -62,18 +63,7 @@ public class BankChecker extends RankRequirementChecker {
             bank = profileReply.getProfile().get("banking").getAsJsonObject().get("balance").getAsInt();
         }
 
-        int totalCoins = bank + purse;
-        for (GuildReply.Guild.Rank rank : getSortedRanksFromGuild(guildReply)) {
-            if (!guildEntry.getRankRequirements().containsKey(rank.getName())) {
-                continue;
-            }
-
-            GuildController.GuildEntry.RankRequirement requirement = guildEntry.getRankRequirements().get(rank.getName());
-            if (requirement.getBankCoins() <= totalCoins) {
-                return createResponse(rank, bank, purse);
-            }
-        }
-        return createResponse(null, bank, purse);
+        return createResponse(plan.findBankRank(bank + purse), bank, purse);
     }
 
     private RankCheckResponse createResponse(GuildReply.Guild.Rank rank, int bank, int purse) {
@@ -25,6 +25,7 @@ import com.google.gson.JsonObject;
 import com.senither.hypixel.contracts.rank.RankRequirementChecker;
 import com.senither.hypixel.database.controller.GuildController;
 import com.senither.hypixel.rank.RankCheckResponse;
+import com.senither.hypixel.rank.RankRequirementPlan;
 import net.hypixel.api.reply.GuildReply;
 import net.hypixel.api.reply.skyblock.SkyBlockProfileReply;
 
@@ -51,24 +52,14 @@ public class FairySoulsChecker extends RankRequirementChecker {
     }
 
     @Override
-    public RankCheckResponse handleGetRankForUser(GuildController.GuildEntry guildEntry, GuildReply guildReply, SkyBlockProfileReply profileReply, UUID playerUUID) {
+    public RankCheckResponse handleGetRankForUser(RankRequirementPlan plan, SkyBlockProfileReply profileReply, UUID playerUUID) {
         JsonObject member = getProfileMemberFromUUID(profileReply, playerUUID);
 
         int collectedFairySouls = member.has("fairy_souls_collected")
             ? member.get("fairy_souls_collected").getAsInt()
             : 0;
 
-        for (GuildReply.Guild.Rank rank : getSortedRanksFromGuild(guildReply)) {
-            if (!guildEntry.getRankRequirements().containsKey(rank.getName())) {
-                continue;
-            }
-
-            GuildController.GuildEntry.RankRequirement requirement = guildEntry.getRankRequirements().get(rank.getName());
-            if (requirement.getFairySouls() <= collectedFairySouls) {
-                return createResponse(rank, collectedFairySouls);
-            }
-        }
-        return createResponse(null, collectedFairySouls);
+        return createResponse(plan.findFairySoulsRank(collectedFairySouls), collectedFairySouls);
     }
 
     private RankCheckResponse createResponse(GuildReply.Guild.Rank rank, int amount) {
@@ -27,6 +27,7 @@ import com.senither.hypixel.database.controller.GuildController;
 import com.senither.hypixel.exceptions.FriendlyException;
 import com.senither.hypixel.inventory.Item;
 import com.senither.hypixel.rank.RankCheckResponse;
+import com.senither.hypixel.rank.RankRequirementPlan;
 import com.senither.hypixel.rank.items.PowerOrb;
 import net.hypixel.api.reply.GuildReply;
 import net.hypixel.api.reply.skyblock.SkyBlockProfileReply;
@@ -57,7 +58,7 @@ public class PowerOrbsChecker extends RankRequirementChecker {
     }
 
     @Override
-    public RankCheckResponse handleGetRankForUser(GuildController.GuildEntry guildEntry, GuildReply guildReply, SkyBlockProfileReply profileReply, UUID playerUUID) {
+    public RankCheckResponse handleGetRankForUser(RankRequirementPlan plan, SkyBlockProfileReply profileReply, UUID playerUUID) {
         JsonObject member = getProfileMemberFromUUID(profileReply, playerUUID);
 
         if (!isInventoryApiEnabled(member)) {
@@ -66,8 +67,8 @@ public class PowerOrbsChecker extends RankRequirementChecker {
 
         try {
             List<Item> items = new ArrayList<>();
-            items.addAll(buildInventoryForPlayer(member, "ender_chest_contents").getItems());
-            items.addAll(buildInventoryForPlayer(member, "inv_contents").getItems());
+            items.addAll(buildInventoryForPlayer(profileReply, playerUUID, "ender_chest_contents").getItems());
+            items.addAll(buildInventoryForPlayer(profileReply, playerUUID, "inv_contents").getItems());
 
             PowerOrb powerOrb = null;
             for (Item item : items) {
@@ -88,17 +89,7 @@ public class PowerOrbsChecker extends RankRequirementChecker {
                 return null;
             }
 
-            for (GuildReply.Guild.Rank rank : getSortedRanksFromGuild(guildReply)) {
-                if (!guildEntry.getRankRequirements().containsKey(rank.getName())) {
-                    continue;
-                }
-
-                GuildController.GuildEntry.RankRequirement requirement = guildEntry.getRankRequirements().get(rank.getName());
-                if (requirement.getPowerOrb() != null && requirement.getPowerOrb().getId() <= powerOrb.getId()) {
-                    return createResponse(rank, powerOrb);
-                }
-            }
-            return createResponse(null, powerOrb);
+            return createResponse(plan.findPowerOrbRank(powerOrb), powerOrb);
         } catch (IOException ignored) {
         }
         return createResponse(null, null);
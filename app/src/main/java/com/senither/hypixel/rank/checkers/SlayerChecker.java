@@ -25,6 +25,7 @@ import com.google.gson.JsonObject;
 import com.senither.hypixel.contracts.rank.RankRequirementChecker;
 import com.senither.hypixel.database.controller.GuildController;
 import com.senither.hypixel.rank.RankCheckResponse;
+import com.senither.hypixel.rank.RankRequirementPlan;
 import com.senither.hypixel.statistics.StatisticsChecker;
 import com.senither.hypixel.statistics.responses.SlayerResponse;
 import net.hypixel.api.reply.GuildReply;
@@ -53,21 +54,13 @@ public class SlayerChecker extends RankRequirementChecker {
     }
 
     @Override
-    public RankCheckResponse handleGetRankForUser(GuildController.GuildEntry guildEntry, GuildReply guildReply, SkyBlockProfileReply profileReply, UUID playerUUID) {
+    public RankCheckResponse handleGetRankForUser(RankRequirementPlan plan, SkyBlockProfileReply profileReply, UUID playerUUID) {
         JsonObject member = getProfileMemberFromUUID(profileReply, playerUUID);
 
         SlayerResponse response = StatisticsChecker.SLAYER.checkUser(null, profileReply, member);
-        for (GuildReply.Guild.Rank rank : getSortedRanksFromGuild(guildReply)) {
-            if (!guildEntry.getRankRequirements().containsKey(rank.getName())) {
-                continue;
-            }
+        long totalSlayerExperience = response.getTotalSlayerExperience();
 
-            GuildController.GuildEntry.RankRequirement requirement = guildEntry.getRankRequirements().get(rank.getName());
-            if (requirement.getSlayerExperience() <= response.getTotalSlayerExperience()) {
-                return createResponse(rank, response.getTotalSlayerExperience());
-            }
-        }
-        return createResponse(null, response.getTotalSlayerExperience());
+        return createResponse(plan.findSlayerRank(totalSlayerExperience), totalSlayerExperience);
     }
 
     private RankCheckResponse createResponse(GuildReply.Guild.Rank rank, long amount) {
@@ -28,6 +28,7 @@ import com.senither.hypixel.exceptions.FriendlyException;
 import com.senither.hypixel.inventory.Item;
 import com.senither.hypixel.inventory.ItemType;
 import com.senither.hypixel.rank.RankCheckResponse;
+import com.senither.hypixel.rank.RankRequirementPlan;
 import net.hypixel.api.reply.GuildReply;
 import net.hypixel.api.reply.skyblock.SkyBlockProfileReply;
 
@@ -60,7 +61,7 @@ public class TalismansChecker extends RankRequirementChecker {
     }
 
     @Override
-    public RankCheckResponse handleGetRankForUser(GuildController.GuildEntry guildEntry, GuildReply guildReply, SkyBlockProfileReply profileReply, UUID playerUUID) {
+    public RankCheckResponse handleGetRankForUser(RankRequirementPlan plan, SkyBlockProfileReply profileReply, UUID playerUUID) {
         JsonObject member = getProfileMemberFromUUID(profileReply, playerUUID);
 
         if (!isInventoryApiEnabled(member)) {
@@ -69,9 +70,9 @@ public class TalismansChecker extends RankRequirementChecker {
 
         try {
             List<Item> talismans = new ArrayList<>();
-            talismans.addAll(buildInventoryForPlayer(member, "ender_chest_contents").getItemsWithType(ItemType.ACCESSORY));
-            talismans.addAll(buildInventoryForPlayer(member, "talisman_bag").getItemsWithType(ItemType.ACCESSORY));
-            talismans.addAll(buildInventoryForPlayer(member, "inv_contents").getItemsWithType(ItemType.ACCESSORY));
+            talismans.addAll(buildInventoryForPlayer(profileReply, playerUUID, "ender_chest_contents").getItemsWithType(ItemType.ACCESSORY));
+            talismans.addAll(buildInventoryForPlayer(profileReply, playerUUID, "talisman_bag").getItemsWithType(ItemType.ACCESSORY));
+            talismans.addAll(buildInventoryForPlayer(profileReply, playerUUID, "inv_contents").getItemsWithType(ItemType.ACCESSORY));
 
             int epics = 0;
             int legendaries = 0;
@@ -87,18 +88,7 @@ public class TalismansChecker extends RankRequirementChecker {
                 }
             }
 
-            for (GuildReply.Guild.Rank rank : getSortedRanksFromGuild(guildReply)) {
-                if (!guildEntry.getRankRequirements().containsKey(rank.getName())) {
-                    continue;
-                }
-
-                GuildController.GuildEntry.RankRequirement requirement = guildEntry.getRankRequirements().get(rank.getName());
-                if (requirement.getTalismansLegendary() <= legendaries && requirement.getTalismansEpic() <= epics) {
-                    return createResponse(rank, legendaries, epics);
-                }
-            }
-
-            return createResponse(null, legendaries, epics);
+            return createResponse(plan.findTalismansRank(legendaries, epics), legendaries, epics);
         } catch (IOException ignored) {
             return null;
         }
@@ -29,6 +29,7 @@ import com.senither.hypixel.exceptions.NoRankRequirementException;
 import com.senither.hypixel.inventory.Item;
 import com.senither.hypixel.inventory.ItemType;
 import com.senither.hypixel.rank.RankCheckResponse;
+import com.senither.hypixel.rank.RankRequirementPlan;
 import com.senither.hypixel.rank.items.Weapon;
 import net.hypixel.api.reply.GuildReply;
 import net.hypixel.api.reply.skyblock.SkyBlockProfileReply;
@@ -64,60 +65,25 @@ public class WeaponsChecker extends RankRequirementChecker {
     }
 
     @Override
-    public RankCheckResponse handleGetRankForUser(GuildController.GuildEntry guildEntry, GuildReply guildReply, SkyBlockProfileReply profileReply, UUID playerUUID) {
+    public RankCheckResponse handleGetRankForUser(RankRequirementPlan plan, SkyBlockProfileReply profileReply, UUID playerUUID) {
         JsonObject member = getProfileMemberFromUUID(profileReply, playerUUID);
 
         if (!isInventoryApiEnabled(member)) {
             throw new FriendlyException("Inventory API is disabled, unable to look for weapons");
         }
 
-        boolean hasRequirements = false;
-        for (GuildController.GuildEntry.RankRequirement requirement : guildEntry.getRankRequirements().values()) {
-            if (requirement.getWeaponPoints() != Integer.MAX_VALUE && !requirement.getWeaponItems().isEmpty()) {
-                hasRequirements = true;
-            }
-        }
-
-        if (!hasRequirements) {
+        if (!plan.hasRequirementsSetup(rankType)) {
             throw new NoRankRequirementException("weapon");
         }
 
         try {
             List<Item> items = new ArrayList<>();
-            items.addAll(buildInventoryForPlayer(member, "ender_chest_contents").getItemsWithType(ItemType.WEAPON));
-            items.addAll(buildInventoryForPlayer(member, "inv_contents").getItemsWithType(ItemType.WEAPON));
-
-            for (GuildReply.Guild.Rank rank : getSortedRanksFromGuild(guildReply)) {
-                if (!guildEntry.getRankRequirements().containsKey(rank.getName())) {
-                    continue;
-                }
-
-                GuildController.GuildEntry.RankRequirement requirement = guildEntry.getRankRequirements().get(rank.getName());
-                if (requirement.getWeaponItems().isEmpty() || requirement.getWeaponPoints() == Integer.MAX_VALUE) {
-                    continue;
-                }
-
-                EnumMap<Weapon, Integer> weapons = new EnumMap<>(Weapon.class);
-                for (Map.Entry<String, Integer> weaponEntry : requirement.getWeaponItems().entrySet()) {
-                    Weapon weapon = Weapon.getFromName(weaponEntry.getKey());
-                    if (weapon != null) {
-                        weapons.put(weapon, weaponEntry.getValue());
-                    }
-                }
-
-                int points = 0;
-                for (Map.Entry<Weapon, Integer> weaponIntegerEntry : weapons.entrySet()) {
-                    for (Item item : items) {
-                        if (weaponIntegerEntry.getKey().match(item)) {
-                            points += weaponIntegerEntry.getValue();
-                        }
-                    }
-                }
-
-                if (points >= requirement.getWeaponPoints()) {
-                    return createResponse(rank, points);
-                }
-            }
+            items.addAll(buildInventoryForPlayer(profileReply, playerUUID, "ender_chest_contents").getItemsWithType(ItemType.WEAPON));
+            items.addAll(buildInventoryForPlayer(profileReply, playerUUID, "inv_contents").getItemsWithType(ItemType.WEAPON));
+
+            RankRequirementPlan.ItemMatch match = plan.findWeaponRank(Weapon.countMatches(items));
+
+            return createResponse(match.getRank(), match.getPoints());
         } catch (IOException ignored) {
         }
         return createResponse(null, 0);
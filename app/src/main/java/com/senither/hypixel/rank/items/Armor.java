@@ -22,10 +22,9 @@
 package com.senither.hypixel.rank.items;
 
 import com.senither.hypixel.contracts.rank.ItemRequirement;
+import com.senither.hypixel.inventory.Item;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
 
 @SuppressWarnings("SpellCheckingInspection")
 public enum Armor implements ItemRequirement {
@@ -129,6 +128,22 @@ public enum Armor implements ItemRequirement {
         "Diver's Boots"
     ), "diver armor", "diver");
 
+    private static final Map<String, Armor> nameIndex = new HashMap<>();
+    private static final SuffixIndex<Armor> pieceIndex = new SuffixIndex<>();
+
+    static {
+        for (Armor armor : values()) {
+            nameIndex.putIfAbsent(armor.getName().toLowerCase(), armor);
+            for (String alias : armor.getAliases()) {
+                nameIndex.putIfAbsent(alias, armor);
+            }
+
+            for (String piece : armor.getArmorSet().getPieces()) {
+                pieceIndex.put(piece, armor);
+            }
+        }
+    }
+
     private final ArmorSet armorSet;
     private final List<String> aliases;
 
@@ -140,12 +155,33 @@ public enum Armor implements ItemRequirement {
     }
 
     public static Armor getFromName(String name) {
-        for (Armor armor : values()) {
-            if (armor.getName().equalsIgnoreCase(name) || armor.getAliases().contains(name.toLowerCase())) {
-                return armor;
-            }
+        return nameIndex.get(name.toLowerCase());
+    }
+
+    /**
+     * Counts how many pieces of each armor set can be found in the given list of items,
+     * each item is only counted once per armor set, and is classified by walking
+     * its name backwards through the armor piece suffix index.
+     *
+     * @param items The items that should be counted.
+     * @return The amount of armor pieces found, indexed by the armor ordinal.
+     */
+    public static int[] countSetPieces(List<Item> items) {
+        int[] pieces = new int[values().length];
+        int[] lastCountedItem = new int[pieces.length];
+        Arrays.fill(lastCountedItem, -1);
+
+        for (int i = 0; i < items.size(); i++) {
+            final int itemIndex = i;
+
+            pieceIndex.forEachSuffixOf(items.get(i).getName(), armor -> {
+                if (lastCountedItem[armor.ordinal()] != itemIndex) {
+                    lastCountedItem[armor.ordinal()] = itemIndex;
+                    pieces[armor.ordinal()]++;
+                }
+            });
         }
-        return null;
+        return pieces;
     }
 
     @Override
@@ -21,6 +21,10 @@
 
 package com.senither.hypixel.rank.items;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 public class ArmorSet {
 
     private final String name;
@@ -31,6 +35,7 @@ public class ArmorSet {
     private final String boots;
 
     private final int setPieces;
+    private final List<String> pieces;
 
     ArmorSet(String name, String helmet, String chestplate, String leggings, String boots) {
         this.name = name;
@@ -46,6 +51,14 @@ public class ArmorSet {
         pieces += boots == null ? 0 : 1;
 
         this.setPieces = pieces;
+
+        List<String> setPieces = new ArrayList<>(pieces);
+        for (String piece : new String[]{helmet, chestplate, leggings, boots}) {
+            if (piece != null) {
+                setPieces.add(piece);
+            }
+        }
+        this.pieces = Collections.unmodifiableList(setPieces);
     }
 
     public String getName() {
@@ -72,6 +85,10 @@ public class ArmorSet {
         return setPieces;
     }
 
+    public List<String> getPieces() {
+        return pieces;
+    }
+
     public boolean isPartOfSet(String itemName) {
         return (helmet != null && itemName.endsWith(helmet))
             || (chestplate != null && itemName.endsWith(chestplate))
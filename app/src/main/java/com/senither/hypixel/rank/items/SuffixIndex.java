@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.rank.items;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A reverse trie of item names, used to find every indexed name that a
+ * given item name ends with in a single walk over the item name,
+ * which lets reforged items be matched without having to
+ * run an {@link String#endsWith(String)} for every name.
+ *
+ * @param <T> The type of value the names are mapped to.
+ */
+final class SuffixIndex<T> {
+
+    private final Node<T> root = new Node<>();
+
+    void put(String name, T value) {
+        Node<T> node = root;
+        for (int i = name.length() - 1; i >= 0; i--) {
+            node = node.getOrCreateChild(name.charAt(i));
+        }
+        node.addValue(value);
+    }
+
+    void forEachSuffixOf(String itemName, Consumer<T> consumer) {
+        Node<T> node = root;
+        for (int i = itemName.length() - 1; i >= 0; i--) {
+            node = node.getChild(itemName.charAt(i));
+            if (node == null) {
+                return;
+            }
+
+            for (T value : node.values) {
+                consumer.accept(value);
+            }
+        }
+    }
+
+    private static class Node<T> {
+
+        private char[] keys = new char[0];
+        private Node<T>[] children = newChildArray(0);
+        private List<T> values = new ArrayList<>(0);
+
+        Node<T> getChild(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node<T> getOrCreateChild(char key) {
+            Node<T> child = getChild(key);
+            if (child != null) {
+                return child;
+            }
+
+            child = new Node<>();
+
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            keys[keys.length - 1] = key;
+
+            children = Arrays.copyOf(children, children.length + 1);
+            children[children.length - 1] = child;
+
+            return child;
+        }
+
+        void addValue(T value) {
+            if (!values.contains(value)) {
+                values.add(value);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Node<T>[] newChildArray(int size) {
+            return (Node<T>[]) new Node[size];
+        }
+    }
+}
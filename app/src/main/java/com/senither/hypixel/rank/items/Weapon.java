@@ -21,26 +21,16 @@
 
 package com.senither.hypixel.rank.items;
 
-import com.github.steveice10.opennbt.tag.builtin.CompoundTag;
-import com.github.steveice10.opennbt.tag.builtin.IntTag;
 import com.senither.hypixel.contracts.rank.ItemRequirement;
 import com.senither.hypixel.contracts.rank.WeaponCondition;
 import com.senither.hypixel.inventory.Item;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
 
 @SuppressWarnings("SpellCheckingInspection")
 public enum Weapon implements ItemRequirement {
 
-    MIDAS_SWORD(item -> {
-        CompoundTag tag = item.getRawCompoundTag().get("tag");
-        CompoundTag attributes = tag.get("ExtraAttributes");
-
-        return attributes.contains("winning_bid")
-            && ((IntTag) attributes.get("winning_bid")).getValue() >= 50000000;
-    }, "Midas' Sword", "midas"),
+    MIDAS_SWORD(item -> item.getWinningBid() >= 50000000, "Midas' Sword", "midas"),
     REAPER_SCYTHE("Reaper Scythe", "scythe"),
     ASPECT_OF_THE_DRAGONS("Aspect of the Dragons", "aotd"),
     PIGMAN_SWORD("Pigman Sword", "pig sword", "pigman"),
@@ -54,6 +44,18 @@ public enum Weapon implements ItemRequirement {
     HURRICANE_BOW("Hurricane Bow", "hurricane"),
     SCORPION_BOW("Scorpion Bow", "scorpion");
 
+    private static final Map<String, Weapon> nameIndex = new HashMap<>();
+    private static final SuffixIndex<Weapon> suffixIndex = new SuffixIndex<>();
+
+    static {
+        for (Weapon weapon : values()) {
+            for (String alias : weapon.getAliases()) {
+                nameIndex.putIfAbsent(alias, weapon);
+            }
+            suffixIndex.put(weapon.getName(), weapon);
+        }
+    }
+
     private final String name;
     private final List<String> aliases;
     private final WeaponCondition specialCondition;
@@ -73,12 +75,27 @@ public enum Weapon implements ItemRequirement {
     }
 
     public static Weapon getFromName(String name) {
-        for (Weapon weapon : values()) {
-            if (weapon.getAliases().contains(name.toLowerCase())) {
-                return weapon;
-            }
+        return nameIndex.get(name.toLowerCase());
+    }
+
+    /**
+     * Counts how many of each weapon can be found in the given list of items, the items
+     * are classified by walking their names backwards through the weapon suffix
+     * index, and must also match the special condition of the weapon if any.
+     *
+     * @param items The items that should be counted.
+     * @return The amount of each weapon found, indexed by the weapon ordinal.
+     */
+    public static int[] countMatches(List<Item> items) {
+        int[] counts = new int[values().length];
+        for (Item item : items) {
+            suffixIndex.forEachSuffixOf(item.getName(), weapon -> {
+                if (weapon.matchesSpecialCondition(item)) {
+                    counts[weapon.ordinal()]++;
+                }
+            });
         }
-        return null;
+        return counts;
     }
 
     @Override
@@ -100,9 +117,12 @@ public enum Weapon implements ItemRequirement {
     }
 
     public boolean match(Item item) {
+        return item.getName().endsWith(getName()) && matchesSpecialCondition(item);
+    }
+
+    private boolean matchesSpecialCondition(Item item) {
         try {
-            return item.getName().endsWith(getName())
-                && (!hasSpecialCondition() || getSpecialCondition().matches(item));
+            return !hasSpecialCondition() || getSpecialCondition().matches(item);
         } catch (Exception e) {
             return false;
         }
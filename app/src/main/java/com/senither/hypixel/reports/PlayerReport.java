@@ -27,11 +27,10 @@ import com.senither.hypixel.rank.RankRequirementType;
 import net.hypixel.api.reply.GuildReply;
 import net.hypixel.api.reply.skyblock.SkyBlockProfileReply;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 public class PlayerReport {
 
@@ -48,7 +47,7 @@ public class PlayerReport {
         this.profileName = profileReply.getProfile().get("cute_name").getAsString();
 
         this.checks = new LinkedHashMap<>();
-        HashMap<RankRequirementType, GuildReply.Guild.Rank> rankQualifiers = new HashMap<>();
+        EnumMap<RankRequirementType, GuildReply.Guild.Rank> rankQualifiers = new EnumMap<>(RankRequirementType.class);
         for (RankRequirementType type : RankRequirementType.values()) {
             try {
                 RankCheckResponse response = type.getChecker().getRankForUser(guildEntry, guildReply, profileReply, uuid);
@@ -66,38 +65,7 @@ public class PlayerReport {
             }
         }
 
-        GuildReply.Guild.Rank rankQualifier = null;
-        List<GuildReply.Guild.Rank> sortedRanks = guildReply.getGuild().getRanks().stream()
-            .sorted((o1, o2) -> o2.getPriority() - o1.getPriority())
-            .collect(Collectors.toList());
-
-        RANK_LOOP:
-        for (GuildReply.Guild.Rank rank : sortedRanks) {
-            if (!guildEntry.getRankRequirements().containsKey(rank.getName())) {
-                continue;
-            }
-
-            GuildController.GuildEntry.RankRequirement requirements = guildEntry.getRankRequirements().get(rank.getName());
-            for (RankRequirementType type : RankRequirementType.values()) {
-                if (!type.getChecker().hasRequirementsSetup(requirements)) {
-                    continue;
-                }
-
-                if (!rankQualifiers.containsKey(type)) {
-                    continue RANK_LOOP;
-                }
-
-                GuildReply.Guild.Rank qualifierRank = rankQualifiers.get(type);
-                if (rank.getPriority() > qualifierRank.getPriority()) {
-                    continue RANK_LOOP;
-                }
-            }
-
-            rankQualifier = rank;
-            break;
-        }
-
-        this.rank = rankQualifier;
+        this.rank = guildEntry.getRankRequirementPlan(guildReply).resolveRank(rankQualifiers);
     }
 
     public String getUsername() {
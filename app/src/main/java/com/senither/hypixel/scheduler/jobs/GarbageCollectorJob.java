@@ -29,9 +29,5 @@ public class GarbageCollectorJob extends Job {
         synchronized (Hypixel.replyCache) {
             Hypixel.replyCache.cleanUp();
         }
-
-        synchronized (Hypixel.responseCache) {
-            Hypixel.responseCache.cleanUp();
-        }
     }
 }
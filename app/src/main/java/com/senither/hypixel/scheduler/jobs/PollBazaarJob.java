@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.scheduler.jobs;
+
+import com.senither.hypixel.SkyblockAssistant;
+import com.senither.hypixel.contracts.scheduler.Job;
+import com.senither.hypixel.hypixel.bazaar.BazaarHistory;
+import com.senither.hypixel.hypixel.bazaar.BazaarProductReply;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+public class PollBazaarJob extends Job {
+
+    private static final Logger log = LoggerFactory.getLogger(PollBazaarJob.class);
+
+    public PollBazaarJob(SkyblockAssistant app) {
+        super(app, 0, 1, TimeUnit.MINUTES);
+    }
+
+    @Override
+    public void run() {
+        if (app.getHypixel() == null) {
+            return;
+        }
+
+        try {
+            // Polling the Bazaar every minute publishes a fresh snapshot of the Bazaar
+            // products, so the Bazaar commands never have to wait on the API, the
+            // same snapshot is then recorded into the Bazaar history.
+            BazaarProductReply bazaarProducts = app.getHypixel().refreshBazaarProducts();
+            if (bazaarProducts == null || !bazaarProducts.isSuccess()) {
+                return;
+            }
+
+            long timestamp = bazaarProducts.getLastUpdated() > 0
+                ? bazaarProducts.getLastUpdated()
+                : System.currentTimeMillis();
+
+            BazaarHistory history = app.getHypixel().getBazaarHistory();
+            if (history.record(timestamp, bazaarProducts.getPrices())) {
+                history.saveCheckpoint();
+            }
+        } catch (Exception e) {
+            log.error("An exception were thrown while polling the Bazaar, error: {}",
+                e.getMessage(), e
+            );
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.scheduler.jobs;
+
+import com.senither.hypixel.SkyblockAssistant;
+import com.senither.hypixel.contracts.scheduler.Job;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+public class RefreshLeaderboardsJob extends Job {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshLeaderboardsJob.class);
+
+    public RefreshLeaderboardsJob(SkyblockAssistant app) {
+        super(app, 1, 30, TimeUnit.MINUTES);
+    }
+
+    @Override
+    public void run() {
+        if (app.getHypixel() == null) {
+            return;
+        }
+
+        try {
+            app.getHypixel().getLeaderboardSnapshots().refresh();
+
+            // Makes sure the guild and player leaderboards are always kept in memory,
+            // the per-guild leaderboards are only kept up to date while they're used.
+            app.getHypixel().getGuildLeaderboard();
+            app.getHypixel().getPlayerLeaderboard();
+        } catch (Exception e) {
+            log.error("An exception were thrown while refreshing the leaderboard snapshots, error: {}",
+                e.getMessage(), e
+            );
+        }
+    }
+}
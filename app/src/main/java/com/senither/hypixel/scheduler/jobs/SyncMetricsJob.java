@@ -2,13 +2,19 @@ package com.senither.hypixel.scheduler.jobs;
 
 import com.senither.hypixel.SkyblockAssistant;
 import com.senither.hypixel.blacklist.BlacklistEntity;
+import com.senither.hypixel.commands.CommandContainer;
+import com.senither.hypixel.commands.ThrottleContainer;
 import com.senither.hypixel.contracts.scheduler.Job;
+import com.senither.hypixel.hypixel.Hypixel;
+import com.senither.hypixel.hypixel.response.AuctionHouseResponse;
 import com.senither.hypixel.metrics.Metrics;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.Region;
 import net.dv8tion.jda.api.entities.Guild;
 
 import java.lang.management.ManagementFactory;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 public class SyncMetricsJob extends Job {
@@ -22,6 +28,45 @@ public class SyncMetricsJob extends Job {
         jdaMetrics();
         uptimeMetrics();
         blacklistMetrics();
+        auctionIndexMetrics();
+        ratelimitMetrics();
+    }
+
+    private void ratelimitMetrics() {
+        if (app.getBlacklist() != null) {
+            Metrics.ratelimitBuckets.labels("blacklist").set(
+                app.getBlacklist().getRatelimit().getLimiter().size()
+            );
+        }
+
+        if (app.getCommandManager() == null) {
+            return;
+        }
+
+        Set<ThrottleContainer> throttleContainers = new HashSet<>();
+        for (CommandContainer container : app.getCommandManager().getCommands()) {
+            throttleContainers.add(container.getCommand().getThrottleContainer());
+        }
+
+        long throttleBuckets = 0;
+        for (ThrottleContainer throttleContainer : throttleContainers) {
+            throttleBuckets += throttleContainer.getLimiter().size();
+        }
+
+        Metrics.ratelimitBuckets.labels("throttle").set(throttleBuckets);
+    }
+
+    private void auctionIndexMetrics() {
+        long auctionIndexes = 0;
+        long auctionIndexesMemory = 0;
+
+        for (AuctionHouseResponse response : Hypixel.auctionsCache.asMap().values()) {
+            auctionIndexes++;
+            auctionIndexesMemory += response.getIndex().getEstimatedSize();
+        }
+
+        Metrics.auctionIndexes.set(auctionIndexes);
+        Metrics.auctionIndexesMemory.set(auctionIndexesMemory);
     }
 
     private void blacklistMetrics() {
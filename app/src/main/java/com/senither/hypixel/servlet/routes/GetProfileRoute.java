@@ -25,7 +25,7 @@ import com.google.gson.JsonObject;
 import com.senither.hypixel.SkyblockAssistant;
 import com.senither.hypixel.contracts.servlet.SparkRoute;
 import com.senither.hypixel.exceptions.FriendlyException;
-import com.senither.hypixel.statistics.StatisticsChecker;
+import com.senither.hypixel.statistics.ProfileStatistics;
 import net.hypixel.api.reply.PlayerReply;
 import net.hypixel.api.reply.skyblock.SkyBlockProfileReply;
 import spark.Request;
@@ -67,7 +67,7 @@ public class GetProfileRoute extends SparkRoute {
             PlayerReply player = app.getHypixel().getPlayerByName(username).get(10, TimeUnit.SECONDS);
             UUID uuid = app.getHypixel().getUUIDFromName(username);
 
-            JsonObject member = profile.getProfile().getAsJsonObject("members").getAsJsonObject(uuid.toString().replace("-", ""));
+            ProfileStatistics statistics = ProfileStatistics.of(player, profile, uuid.toString().replace("-", ""));
 
             JsonObject data = new JsonObject();
             data.addProperty("uuid", formatUUID(player.getPlayer().get("uuid").getAsString()));
@@ -75,9 +75,9 @@ public class GetProfileRoute extends SparkRoute {
             data.add("profile", profile.getProfile());
 
             JsonObject stats = new JsonObject();
-            stats.add("dungeons", StatisticsChecker.DUNGEON.checkUser(player, profile, member).toJson());
-            stats.add("skills", StatisticsChecker.SKILLS.checkUser(player, profile, member).toJson());
-            stats.add("slayer", StatisticsChecker.SLAYER.checkUser(player, profile, member).toJson());
+            stats.add("dungeons", statistics.getDungeon().toJson());
+            stats.add("skills", statistics.getSkills().toJson());
+            stats.add("slayer", statistics.getSlayer().toJson());
             data.add("stats", stats);
 
             return buildDataResponse(response, 200, data);
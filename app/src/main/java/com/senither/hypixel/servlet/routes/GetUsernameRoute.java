@@ -3,15 +3,10 @@ package com.senither.hypixel.servlet.routes;
 import com.google.gson.JsonObject;
 import com.senither.hypixel.SkyblockAssistant;
 import com.senither.hypixel.contracts.servlet.SparkRoute;
-import com.senither.hypixel.database.collection.Collection;
-import com.senither.hypixel.database.collection.DataRow;
 import spark.Request;
 import spark.Response;
 
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 
 public class GetUsernameRoute extends SparkRoute {
 
@@ -26,31 +21,21 @@ public class GetUsernameRoute extends SparkRoute {
             return buildResponse(response, 400, "Missing uuid or uuids query parameters for the uuids that should be resolved.");
         }
 
-        StringBuilder stringifiedParams = new StringBuilder();
-        for (String ignored : stringifiedUuids) {
-            stringifiedParams.append("?, ");
-        }
-
-        Collection usernamesCollection = app.getDatabaseManager().query(String.format(
-            "SELECT `uuid`, `username` FROM `uuids` WHERE `uuid` IN (%s)",
-            stringifiedParams.toString().substring(0, stringifiedParams.length() - 2)
-        ), stringifiedUuids.toArray());
-
-        JsonObject jsonObject = new JsonObject();
+        Set<UUID> uuids = new LinkedHashSet<>();
         for (String uuidString : stringifiedUuids) {
             try {
-                UUID uuid = UUID.fromString(uuidString);
-
-                List<DataRow> currentUuid = usernamesCollection.where("uuid", uuid.toString());
-                if (currentUuid.isEmpty()) {
-                    jsonObject.add(uuid.toString(), null);
-                    continue;
-                }
-                jsonObject.addProperty(uuid.toString(), currentUuid.get(0).getString("username"));
+                uuids.add(UUID.fromString(uuidString));
             } catch (IllegalArgumentException ignored) {
             }
         }
 
+        Map<UUID, String> usernames = app.getHypixel().getCachedUsernamesFromUuids(uuids);
+
+        JsonObject jsonObject = new JsonObject();
+        for (UUID uuid : uuids) {
+            jsonObject.addProperty(uuid.toString(), usernames.get(uuid));
+        }
+
         return buildDataResponse(response, 200, jsonObject);
     }
 
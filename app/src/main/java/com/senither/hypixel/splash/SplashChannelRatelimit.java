@@ -0,0 +1,48 @@
+package com.senither.hypixel.splash;
+
+/**
+ * Keeps track of how many message requests the splash manager has sent to a
+ * single text channel within Discords per-channel message route window, so
+ * splash updates can be spread out ahead of time instead of being stuck
+ * in JDAs request queue behind a wall of 429 responses.
+ */
+class SplashChannelRatelimit {
+
+    private static final int requestsPerWindow = 5;
+    private static final long windowInMillis = 5000L;
+
+    private long windowStartedAt = 0L;
+    private int requests = 0;
+
+    boolean tryConsume(int amount) {
+        resetIfExpired();
+
+        if (requests + amount > requestsPerWindow) {
+            return false;
+        }
+
+        requests += amount;
+
+        return true;
+    }
+
+    long getMillisUntilReset() {
+        resetIfExpired();
+
+        return requests == 0 ? 0L : Math.max(windowStartedAt + windowInMillis - System.currentTimeMillis(), 0L);
+    }
+
+    boolean isIdle() {
+        resetIfExpired();
+
+        return requests == 0;
+    }
+
+    private void resetIfExpired() {
+        long now = System.currentTimeMillis();
+        if (now - windowStartedAt >= windowInMillis) {
+            windowStartedAt = now;
+            requests = 0;
+        }
+    }
+}
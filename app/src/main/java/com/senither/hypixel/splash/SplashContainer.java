@@ -3,6 +3,7 @@ package com.senither.hypixel.splash;
 import com.senither.hypixel.time.Carbon;
 
 import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
 
 public class SplashContainer {
 
@@ -10,22 +11,28 @@ public class SplashContainer {
     private final long discordId;
     private final UUID userUuid;
     private final Carbon time;
+    private final long splashAt;
 
     private String note;
     private long messageId;
     private long lastUpdatedAt;
     private boolean notifiedEveryone;
 
+    private Long userDiscordId;
+    private String username;
+    private ScheduledFuture<?> scheduledUpdate;
+
     public SplashContainer(long id, long discordId, UUID userUuid, long messageId, Carbon time, String note) {
         this.id = id;
         this.discordId = discordId;
         this.userUuid = userUuid;
         this.messageId = messageId;
         this.time = time;
+        this.splashAt = time.getTimestamp();
         this.note = note;
 
-        notifiedEveryone = time.diffInSeconds(Carbon.now()) <= SplashManager.getEndingSoonTimer();
-        lastUpdatedAt = Carbon.now().getTimestamp();
+        lastUpdatedAt = System.currentTimeMillis() / 1000L;
+        notifiedEveryone = isEndingSoon();
     }
 
     public long getId() {
@@ -76,20 +83,62 @@ public class SplashContainer {
         return notifiedEveryone;
     }
 
-    public boolean shouldUpdate() {
-        long secondsSinceLastUpdate = Carbon.now().getTimestamp() - getLastUpdatedAt();
-        long secondsLeft = time.diffInSeconds();
+    public Long getUserDiscordId() {
+        return userDiscordId;
+    }
+
+    public void setUserDiscordId(Long userDiscordId) {
+        this.userDiscordId = userDiscordId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    ScheduledFuture<?> getScheduledUpdate() {
+        return scheduledUpdate;
+    }
+
+    void setScheduledUpdate(ScheduledFuture<?> scheduledUpdate) {
+        this.scheduledUpdate = scheduledUpdate;
+    }
+
+    public long getSecondsLeft() {
+        return splashAt - (System.currentTimeMillis() / 1000L);
+    }
+
+    /**
+     * Calculates the number of seconds until the splash message should next be
+     * updated, splashes are updated every minute normally, every 25 seconds
+     * when the splash is ending soon, and every 5 seconds in the last 30
+     * seconds, the "ending soon" notification and the splash itself
+     * will always get an update right when they're due.
+     *
+     * @return The number of seconds until the next update is due.
+     */
+    public long getSecondsUntilNextUpdate() {
+        long now = System.currentTimeMillis() / 1000L;
+        long secondsLeft = splashAt - now;
+
+        long interval = secondsLeft < 30 ? 5 : secondsLeft < 300 ? 25 : 60;
+        long nextUpdateAt = Math.min(lastUpdatedAt + interval, splashAt);
+
+        if (!notifiedEveryone && splashAt - SplashManager.getEndingSoonTimer() > now) {
+            nextUpdateAt = Math.min(nextUpdateAt, splashAt - SplashManager.getEndingSoonTimer());
+        }
 
-        return secondsLeft < 30
-            || secondsLeft < 300 && secondsSinceLastUpdate > 25
-            || secondsSinceLastUpdate > 60;
+        return Math.max(nextUpdateAt - now, 0L);
     }
 
     public boolean isFinished() {
-        return time.isPast();
+        return getSecondsLeft() <= 0;
     }
 
     public boolean isEndingSoon() {
-        return time.diffInSeconds() <= SplashManager.getEndingSoonTimer();
+        return getSecondsLeft() <= SplashManager.getEndingSoonTimer();
     }
 }
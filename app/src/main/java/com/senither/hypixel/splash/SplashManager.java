@@ -1,5 +1,6 @@
 package com.senither.hypixel.splash;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.senither.hypixel.SkyblockAssistant;
 import com.senither.hypixel.chat.MessageFactory;
 import com.senither.hypixel.chat.MessageType;
@@ -7,6 +8,7 @@ import com.senither.hypixel.chat.PlaceholderMessage;
 import com.senither.hypixel.database.collection.Collection;
 import com.senither.hypixel.database.collection.DataRow;
 import com.senither.hypixel.database.controller.GuildController;
+import com.senither.hypixel.database.controller.PlayerDonationController;
 import com.senither.hypixel.exceptions.FriendlyException;
 import com.senither.hypixel.time.Carbon;
 import com.senither.hypixel.utils.NumberUtil;
@@ -20,6 +22,9 @@ import org.slf4j.LoggerFactory;
 import java.sql.SQLException;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -27,24 +32,42 @@ public class SplashManager {
 
     private static final Logger log = LoggerFactory.getLogger(SplashManager.class);
     private static final int endingSoonTimer = 300;
+    private static final long batchWindowInMillis = 250L;
 
     private final SkyblockAssistant app;
     private final Set<SplashContainer> splashes;
+    private final Set<SplashContainer> pendingUpdates;
+    private final HashMap<Long, SplashChannelRatelimit> channelRatelimits;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    private ScheduledFuture<?> scheduledBatchUpdate;
 
     public SplashManager(SkyblockAssistant app) {
         this.app = app;
-        this.splashes = new HashSet<>();
+        this.splashes = ConcurrentHashMap.newKeySet();
+        this.pendingUpdates = ConcurrentHashMap.newKeySet();
+        this.channelRatelimits = new HashMap<>();
+
+        this.scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+            .setNameFormat("splash-scheduler-%d")
+            .setDaemon(true)
+            .build()
+        );
+        this.scheduler.setRemoveOnCancelPolicy(true);
 
         try {
             for (DataRow row : app.getDatabaseManager().query("SELECT * FROM `splashes` WHERE `splash_at` > ?", Carbon.now())) {
-                splashes.add(new SplashContainer(
+                SplashContainer splash = new SplashContainer(
                     row.getLong("id"),
                     row.getLong("discord_id"),
                     UUID.fromString(row.getString("uuid")),
                     row.getLong("message_id"),
                     row.getTimestamp("splash_at"),
                     row.getString("note")
-                ));
+                );
+
+                splashes.add(splash);
+                scheduleUpdateFor(splash);
             }
         } catch (SQLException e) {
             log.error("A SQL exception were thrown while loading splashes from the database, error: {}", e.getMessage(), e);
@@ -117,59 +140,16 @@ public class SplashManager {
     }
 
     public void updateSplashFor(SplashContainer splash) {
-        GuildController.GuildEntry guild = GuildController.getGuildById(app.getDatabaseManager(), splash.getDiscordId());
-        if (guild == null || !guild.isSplashTrackerEnabled()) {
-            return;
-        }
-
-        Long userDiscordId = app.getHypixel().getDiscordIdFromUUID(splash.getUserUuid());
-        if (userDiscordId == null) {
-            return;
-        }
-
-        app.getShardManager().retrieveUserById(userDiscordId).queue(user -> {
-            if (user == null) {
-                return;
-            }
-
-            TextChannel channelById = app.getShardManager().getTextChannelById(guild.getSplashChannel());
-            if (channelById == null) {
-                return;
-            }
+        pendingUpdates.add(splash);
 
-            boolean shouldPingEveryone = splash.getTime().diffInSeconds(Carbon.now()) <= endingSoonTimer;
-
-            if (splash.isEndingSoon() && shouldPingEveryone && !splash.hasNotifiedEveryone()) {
-                channelById.deleteMessageById(splash.getMessageId()).queue(null, null);
-
-                splash.setNotifiedEveryone(true);
-
-                channelById.sendMessage(buildSplashMessage(
-                    user, splash.getTime(), splash.getNote(), splash.getId()
-                )).queue(message -> {
-                    try {
-                        app.getDatabaseManager().queryUpdate("UPDATE `splashes` SET `message_id` = ? WHERE `discord_id` = ? and `message_id` = ?",
-                            message.getIdLong(), splash.getDiscordId(), splash.getMessageId()
-                        );
-
-                        splash.setMessageId(message.getIdLong());
-                    } catch (SQLException e) {
-                        log.error("Something went wrong while trying to send \"ending soon\" splash message, error: {}", e.getMessage(), e);
-                    }
-                });
-            } else {
-                channelById.editMessageById(splash.getMessageId(), buildSplashMessage(
-                    user, splash.getTime(), splash.getNote(), splash.getId()
-                )).queue(null, null);
-            }
-        });
+        scheduleBatchUpdate(batchWindowInMillis);
     }
 
     public CompletableFuture<Boolean> removeSplashById(SplashContainer splash) {
         CompletableFuture<Boolean> future = new CompletableFuture<>();
 
         try {
-            getSplashes().removeIf(next -> next.getId() == splash.getId());
+            forgetSplash(splash);
             app.getDatabaseManager().queryUpdate("DELETE FROM `splashes` WHERE `id` = ?",
                 splash.getId()
             );
@@ -224,7 +204,7 @@ public class SplashManager {
             .buildEmbed()
         ).queue(message -> {
             try {
-                getSplashes().removeIf(next -> next.getId() == splash.getId());
+                forgetSplash(splash);
                 app.getDatabaseManager().queryUpdate("DELETE FROM `splashes` WHERE `id` = ?",
                     splash.getId()
                 );
@@ -259,13 +239,17 @@ public class SplashManager {
 
                 Long splashEntryId = ids.iterator().next();
 
-                splashes.add(new SplashContainer(
+                SplashContainer splash = new SplashContainer(
                     splashEntryId,
                     channel.getGuild().getIdLong(),
                     app.getHypixel().getUUIDFromUser(author),
                     message.getIdLong(),
                     time, note
-                ));
+                );
+                splash.setUserDiscordId(author.getIdLong());
+
+                splashes.add(splash);
+                scheduleUpdateFor(splash);
 
                 message.editMessage(buildSplashMessage(author, time, note, splashEntryId)).queue();
 
@@ -278,7 +262,287 @@ public class SplashManager {
         return future;
     }
 
+    private void scheduleUpdateFor(SplashContainer splash) {
+        scheduleUpdateFor(splash, splash.getSecondsUntilNextUpdate());
+    }
+
+    private void scheduleUpdateFor(SplashContainer splash, long delay) {
+        ScheduledFuture<?> previousUpdate = splash.getScheduledUpdate();
+        if (previousUpdate != null) {
+            previousUpdate.cancel(false);
+        }
+
+        splash.setScheduledUpdate(scheduler.schedule(() -> processSplash(splash), delay, TimeUnit.SECONDS));
+    }
+
+    private void processSplash(SplashContainer splash) {
+        if (splashes.contains(splash)) {
+            updateSplashFor(splash);
+        }
+    }
+
+    private synchronized void scheduleBatchUpdate(long delay) {
+        if (scheduledBatchUpdate != null && !scheduledBatchUpdate.isDone()) {
+            if (scheduledBatchUpdate.getDelay(TimeUnit.MILLISECONDS) <= delay) {
+                return;
+            }
+            scheduledBatchUpdate.cancel(false);
+        }
+
+        scheduledBatchUpdate = scheduler.schedule(this::processBatchUpdate, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void processBatchUpdate() {
+        synchronized (this) {
+            scheduledBatchUpdate = null;
+        }
+
+        List<SplashContainer> batch = new ArrayList<>(pendingUpdates);
+        pendingUpdates.removeAll(batch);
+        batch.removeIf(splash -> !splashes.contains(splash));
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // The splash manager is created before we're connected to Discord, so any splashes
+        // that are due before the shard manager is ready is just pushed back a bit.
+        if (app.getShardManager() == null) {
+            pendingUpdates.addAll(batch);
+            scheduleBatchUpdate(5000L);
+            return;
+        }
+
+        batch.sort(Comparator.comparingLong(SplashContainer::getSecondsLeft));
+
+        try {
+            loadUsernamesFor(batch);
+
+            LinkedHashMap<Long, List<SplashContainer>> splashesByChannel = new LinkedHashMap<>();
+            for (SplashContainer splash : batch) {
+                Long channelId = getSplashChannelIdFor(splash);
+                if (channelId == null) {
+                    finishUpdateFor(splash);
+                    continue;
+                }
+                splashesByChannel.computeIfAbsent(channelId, id -> new ArrayList<>()).add(splash);
+            }
+
+            LinkedHashMap<SplashContainer, CompletableFuture<Message>> endingSoonMessages = new LinkedHashMap<>();
+            long nextBatchUpdateIn = Long.MAX_VALUE;
+
+            for (Map.Entry<Long, List<SplashContainer>> entry : splashesByChannel.entrySet()) {
+                TextChannel channel = app.getShardManager().getTextChannelById(entry.getKey());
+                if (channel == null) {
+                    entry.getValue().forEach(this::finishUpdateFor);
+                    continue;
+                }
+
+                SplashChannelRatelimit ratelimit = channelRatelimits.computeIfAbsent(entry.getKey(), id -> new SplashChannelRatelimit());
+                for (SplashContainer splash : entry.getValue()) {
+                    boolean shouldNotifyEveryone = splash.isEndingSoon() && !splash.hasNotifiedEveryone();
+                    if (!ratelimit.tryConsume(shouldNotifyEveryone ? 2 : 1)) {
+                        pendingUpdates.add(splash);
+                        nextBatchUpdateIn = Math.min(nextBatchUpdateIn, ratelimit.getMillisUntilReset());
+                        continue;
+                    }
+
+                    if (shouldNotifyEveryone) {
+                        channel.deleteMessageById(splash.getMessageId()).queue(null, null);
+
+                        splash.setNotifiedEveryone(true);
+
+                        endingSoonMessages.put(splash, channel.sendMessage(buildSplashMessage(splash)).submit());
+                    } else {
+                        channel.editMessageById(splash.getMessageId(), buildSplashMessage(splash)).queue(null, null);
+                    }
+
+                    finishUpdateFor(splash);
+                }
+            }
+
+            channelRatelimits.values().removeIf(SplashChannelRatelimit::isIdle);
+
+            if (!endingSoonMessages.isEmpty()) {
+                saveEndingSoonMessages(endingSoonMessages);
+            }
+
+            if (nextBatchUpdateIn != Long.MAX_VALUE) {
+                scheduleBatchUpdate(Math.max(nextBatchUpdateIn, batchWindowInMillis));
+            }
+        } catch (Exception e) {
+            log.error("An error occurred while processing a batch of {} splash updates, error: {}", batch.size(), e.getMessage(), e);
+
+            batch.stream()
+                .filter(splash -> !pendingUpdates.contains(splash))
+                .forEach(this::finishUpdateFor);
+        }
+    }
+
+    private void finishUpdateFor(SplashContainer splash) {
+        splash.setLastUpdatedAt(System.currentTimeMillis() / 1000L);
+
+        if (!splash.isFinished()) {
+            scheduleUpdateFor(splash);
+            return;
+        }
+
+        if (splashes.remove(splash)) {
+            handlePointsAssignments(splash);
+        }
+    }
+
+    private Long getSplashChannelIdFor(SplashContainer splash) {
+        GuildController.GuildEntry guild = GuildController.getGuildById(app.getDatabaseManager(), splash.getDiscordId());
+        if (guild == null || !guild.isSplashTrackerEnabled()) {
+            return null;
+        }
+
+        if (splash.getUserDiscordId() == null) {
+            splash.setUserDiscordId(app.getHypixel().getDiscordIdFromUUID(splash.getUserUuid()));
+            if (splash.getUserDiscordId() == null) {
+                return null;
+            }
+        }
+
+        return guild.getSplashChannel();
+    }
+
+    private void loadUsernamesFor(List<SplashContainer> batch) {
+        Set<UUID> uuids = new HashSet<>();
+        for (SplashContainer splash : batch) {
+            if (splash.getUsername() == null) {
+                uuids.add(splash.getUserUuid());
+            }
+        }
+
+        if (uuids.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<UUID, String> usernames = app.getHypixel().getUsernamesFromUuids(uuids);
+            for (SplashContainer splash : batch) {
+                if (splash.getUsername() == null) {
+                    splash.setUsername(usernames.get(splash.getUserUuid()));
+                }
+            }
+        } catch (SQLException e) {
+            log.error("Failed to load the usernames for {} splashes, error: {}", uuids.size(), e.getMessage(), e);
+        }
+    }
+
+    private void saveEndingSoonMessages(LinkedHashMap<SplashContainer, CompletableFuture<Message>> endingSoonMessages) {
+        CompletableFuture.allOf(
+            endingSoonMessages.values().stream()
+                .map(future -> future.exceptionally(throwable -> null))
+                .toArray(CompletableFuture[]::new)
+        ).thenRun(() -> {
+            StringBuilder cases = new StringBuilder();
+            StringBuilder ids = new StringBuilder();
+            List<Object> binds = new ArrayList<>();
+            List<Object> idBinds = new ArrayList<>();
+
+            for (Map.Entry<SplashContainer, CompletableFuture<Message>> entry : endingSoonMessages.entrySet()) {
+                Message message = entry.getValue().getNow(null);
+                if (message == null) {
+                    continue;
+                }
+
+                entry.getKey().setMessageId(message.getIdLong());
+
+                cases.append("WHEN ? THEN ? ");
+                binds.add(entry.getKey().getId());
+                binds.add(message.getIdLong());
+
+                ids.append("?, ");
+                idBinds.add(entry.getKey().getId());
+            }
+
+            if (idBinds.isEmpty()) {
+                return;
+            }
+
+            binds.addAll(idBinds);
+
+            try {
+                app.getDatabaseManager().queryUpdate(String.format(
+                    "UPDATE `splashes` SET `message_id` = CASE `id` %sEND WHERE `id` IN (%s)",
+                    cases.toString(), ids.toString().substring(0, ids.length() - 2)
+                ), binds.toArray());
+            } catch (SQLException e) {
+                log.error("Something went wrong while trying to send \"ending soon\" splash messages, error: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    private void forgetSplash(SplashContainer splash) {
+        for (SplashContainer next : getSplashes()) {
+            if (next.getId() != splash.getId()) {
+                continue;
+            }
+
+            splashes.remove(next);
+
+            if (next.getScheduledUpdate() != null) {
+                next.getScheduledUpdate().cancel(false);
+            }
+        }
+    }
+
+    private void handlePointsAssignments(SplashContainer container) {
+        GuildController.GuildEntry guild = GuildController.getGuildById(
+            app.getDatabaseManager(), container.getDiscordId()
+        );
+
+        if (guild == null || !guild.isSplashTrackerEnabled() || !guild.isDonationsTrackerEnabled() || !guild.getSplashPoints()) {
+            return;
+        }
+
+        PlayerDonationController.PlayerDonationEntry player = PlayerDonationController.getPlayerByUuid(
+            app.getDatabaseManager(), container.getDiscordId(), container.getUserUuid()
+        );
+
+        if (player == null) {
+            return;
+        }
+
+        player.setPoints(player.getPoints() + guild.getDonationPoints());
+
+        try {
+            app.getDatabaseManager().queryUpdate("UPDATE `donation_points` SET `points` = ? WHERE `discord_id` = ? AND `uuid` = ?",
+                player.getPoints(), player.getDiscordId(), player.getUuid()
+            );
+        } catch (SQLException e) {
+            log.error("Failed to assign splash points for the splash with an ID of {}, error: {}", container.getId(), e.getMessage(), e);
+        }
+    }
+
+    private Message buildSplashMessage(SplashContainer splash) {
+        return buildSplashMessage(
+            "<@" + splash.getUserDiscordId() + ">",
+            splash.getUsername(),
+            splash.getTime(),
+            splash.getNote(),
+            splash.getId()
+        );
+    }
+
     private Message buildSplashMessage(User author, Carbon time, String note, Long id) {
+        String username = null;
+        try {
+            UUID uuid = app.getHypixel().getUUIDFromUser(author);
+            if (uuid != null) {
+                username = app.getHypixel().getUsernamesFromUuids(Collections.singleton(uuid)).get(uuid);
+            }
+        } catch (SQLException e) {
+            log.error("Failed to load the username for {}, error: {}", author.getAsTag(), e.getMessage(), e);
+        }
+
+        return buildSplashMessage(author.getAsMention(), username, time, note, id);
+    }
+
+    private Message buildSplashMessage(String userMention, String username, Carbon time, String note, Long id) {
         String description = ":user (IGN: :name) is splashing :time!";
         if (note != null && note.trim().length() > 0) {
             description += "\n\n> :note";
@@ -287,23 +551,17 @@ public class SplashManager {
         PlaceholderMessage embedMessage = MessageFactory.makeEmbeddedMessage(null)
             .setTimestamp(time.getTime().toInstant())
             .setDescription(description)
-            .set("user", author.getAsMention())
+            .set("user", userMention)
             .set("note", note)
+            .set("name", username == null
+                ? "_Unable to load_"
+                : username.startsWith("_") ? "\\" + username : username
+            )
             .set("time", time.diffInSeconds(Carbon.now()) > 5
-                ? "in " + time.diffForHumans()
+                ? "in " + time.copy().diffForHumans()
                 : "now"
             );
 
-        try {
-            final String username = app.getHypixel().getUsernameFromUuid(
-                app.getHypixel().getUUIDFromUser(author)
-            );
-
-            embedMessage.set("name", username.startsWith("_") ? "\\" + username : username);
-        } catch (SQLException e) {
-            embedMessage.set("name", "_Unable to load_");
-        }
-
         if (id != null) {
             embedMessage.setFooter("Splash ID: " + NumberUtil.formatNicely(id));
         }
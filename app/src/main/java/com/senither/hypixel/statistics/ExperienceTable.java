@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.statistics;
+
+import com.senither.hypixel.Constants;
+
+import java.util.Collection;
+
+/**
+ * Precomputed cumulative experience table, used to look up levels from experience,
+ * and experience from levels, using binary search over a primitive array instead
+ * of walking the boxed experience lists from the {@link Constants} every time.
+ */
+public final class ExperienceTable {
+
+    public static final ExperienceTable GENERAL_SKILLS = fromLevelRequirements(Constants.GENERAL_SKILL_EXPERIENCE);
+    public static final ExperienceTable RUNECRAFTING = fromLevelRequirements(Constants.RUNECRAFTING_SKILL_EXPERIENCE);
+    public static final ExperienceTable DUNGEONS = fromLevelRequirements(Constants.DUNGEON_EXPERIENCE);
+    public static final ExperienceTable SLAYERS = fromThresholds(Constants.SLAYER_EXPERIENCE);
+    public static final ExperienceTable PETS = fromLevelRequirements(Constants.PET_EXPERIENCE);
+
+    /**
+     * The total amount of experience required to reach each level, where
+     * index zero is level zero, and the last index is the max level.
+     */
+    private final long[] cumulative;
+
+    private ExperienceTable(long[] cumulative) {
+        this.cumulative = cumulative;
+    }
+
+    /**
+     * Creates an experience table from a list of the experience
+     * needed to go from one level to the next level.
+     *
+     * @param requirements The experience required for each level.
+     * @return The experience table for the given requirements.
+     */
+    public static ExperienceTable fromLevelRequirements(Collection<Integer> requirements) {
+        long[] cumulative = new long[requirements.size() + 1];
+
+        int level = 1;
+        for (int requirement : requirements) {
+            cumulative[level] = cumulative[level - 1] + requirement;
+            level++;
+        }
+        return new ExperienceTable(cumulative);
+    }
+
+    /**
+     * Creates an experience table from a list of the total
+     * experience needed to reach each level.
+     *
+     * @param thresholds The total experience required for each level.
+     * @return The experience table for the given thresholds.
+     */
+    public static ExperienceTable fromThresholds(Collection<Integer> thresholds) {
+        long[] cumulative = new long[thresholds.size() + 1];
+
+        int level = 1;
+        for (int threshold : thresholds) {
+            cumulative[level++] = threshold;
+        }
+        return new ExperienceTable(cumulative);
+    }
+
+    public int getMaxLevel() {
+        return cumulative.length - 1;
+    }
+
+    /**
+     * Gets the total amount of experience required to reach the given level,
+     * levels outside of the table is clamped to the closest valid level.
+     *
+     * @param level The level that the experience should be returned for.
+     * @return The total experience required to reach the given level.
+     */
+    public long getExperienceForLevel(int level) {
+        if (level <= 0) {
+            return 0L;
+        }
+        return cumulative[Math.min(level, getMaxLevel())];
+    }
+
+    /**
+     * Gets the level for the given amount of experience, including the progress
+     * towards the next level as the decimal part of the level, the level
+     * will never go above the max level of the experience table.
+     *
+     * @param experience The experience that the level should be calculated for.
+     * @return The level for the given experience.
+     */
+    public double getLevelFromExperience(double experience) {
+        int level = findLevel(experience);
+        if (level >= getMaxLevel()) {
+            return getMaxLevel();
+        }
+
+        return level + (experience - cumulative[level]) / (double) (cumulative[level + 1] - cumulative[level]);
+    }
+
+    /**
+     * Gets the amount of experience still needed to reach the next level from
+     * the given amount of experience, or zero if the max level is reached.
+     *
+     * @param experience The experience the player currently has.
+     * @return The experience needed to reach the next level.
+     */
+    public double getExperienceToNextLevel(double experience) {
+        int level = findLevel(experience);
+        if (level >= getMaxLevel()) {
+            return 0D;
+        }
+        return cumulative[level + 1] - experience;
+    }
+
+    /**
+     * Counts how many levels, starting from the given offset level, the given
+     * amount of experience is strictly above the requirement for, this is
+     * used for pets where each rarity starts at a different level.
+     *
+     * @param experience The experience that should be checked.
+     * @param offset     The level the counting should start from.
+     * @param maxLevels  The maximum amount of levels that should be counted.
+     * @return The amount of levels completed, between zero and the max levels.
+     */
+    public int getLevelsCompleted(long experience, int offset, int maxLevels) {
+        long base = cumulative[offset];
+
+        int low = 0;
+        int high = Math.min(maxLevels, getMaxLevel() - offset);
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (cumulative[offset + middle] - base < experience) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    private int findLevel(double experience) {
+        int low = 0;
+        int high = getMaxLevel();
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (cumulative[middle] <= experience) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.statistics;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.gson.JsonObject;
+import com.senither.hypixel.statistics.responses.DungeonResponse;
+import com.senither.hypixel.statistics.responses.SkillsResponse;
+import com.senither.hypixel.statistics.responses.SlayerResponse;
+import com.senither.hypixel.statistics.weight.Weight;
+import net.hypixel.api.reply.PlayerReply;
+import net.hypixel.api.reply.skyblock.SkyBlockProfileReply;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class ProfileStatistics {
+
+    public static final Cache<String, ProfileStatistics> cache = CacheBuilder.newBuilder()
+        .expireAfterAccess(5, TimeUnit.MINUTES)
+        .maximumSize(5000)
+        .recordStats()
+        .build();
+
+    private final SkillsResponse skills;
+    private final SlayerResponse slayer;
+    private final DungeonResponse dungeon;
+    private final Weight weight;
+
+    private ProfileStatistics(@Nullable PlayerReply playerReply, SkyBlockProfileReply profileReply, JsonObject member) {
+        this.skills = StatisticsChecker.SKILLS.checkUser(playerReply, profileReply, member);
+        this.slayer = StatisticsChecker.SLAYER.checkUser(playerReply, profileReply, member);
+        this.dungeon = StatisticsChecker.DUNGEON.checkUser(playerReply, profileReply, member);
+
+        this.weight = skills.calculateTotalWeight()
+            .add(slayer.calculateTotalWeight())
+            .add(dungeon.calculateTotalWeight());
+    }
+
+    /**
+     * Gets the skills, slayer, and dungeon statistics along with the total weight for the
+     * given profile member, the statistics are cached using the profile ID, member ID,
+     * and the last save time for the member, so repeat lookups of the same profile
+     * snapshot will only have to calculate the statistics once.
+     * <p>
+     * The returned responses are shared between everyone looking at the same
+     * profile snapshot, so they should never be modified by the caller.
+     *
+     * @param playerReply  The Hypixel player the profile belongs to, or {@code null}
+     *                     if the achievements fallbacks shouldn't be used.
+     * @param profileReply The SkyBlock profile the statistics should be calculated for.
+     * @param memberId     The undashed UUID of the profile member.
+     * @return The calculated profile statistics.
+     */
+    public static ProfileStatistics of(@Nullable PlayerReply playerReply, SkyBlockProfileReply profileReply, String memberId) {
+        final JsonObject member = profileReply.getProfile().getAsJsonObject("members").getAsJsonObject(memberId);
+        final String cacheKey = String.format("%s-%s-%s-%s",
+            profileReply.getProfile().get("profile_id").getAsString(),
+            memberId,
+            member.has("last_save") ? member.get("last_save").getAsLong() : Long.MIN_VALUE,
+            playerReply == null ? "profile" : "player"
+        );
+
+        try {
+            return cache.get(cacheKey, () -> new ProfileStatistics(playerReply, profileReply, member));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    public SkillsResponse getSkills() {
+        return skills;
+    }
+
+    public SlayerResponse getSlayer() {
+        return slayer;
+    }
+
+    public DungeonResponse getDungeon() {
+        return dungeon;
+    }
+
+    public Weight getWeight() {
+        return weight;
+    }
+}
@@ -22,9 +22,9 @@
 package com.senither.hypixel.statistics.checker;
 
 import com.google.gson.JsonObject;
-import com.senither.hypixel.Constants;
 import com.senither.hypixel.contracts.statistics.Checker;
 import com.senither.hypixel.hypixel.SkyBlockSkill;
+import com.senither.hypixel.statistics.ExperienceTable;
 import com.senither.hypixel.statistics.responses.SkillsResponse;
 import net.hypixel.api.reply.PlayerReply;
 import net.hypixel.api.reply.skyblock.SkyBlockProfileReply;
@@ -93,13 +93,13 @@ public class SkillsChecker extends Checker<SkillsResponse> {
     }
 
     private double getSkillLevelFromExperience(SkyBlockSkill skillType, double experience) {
-        int level = 0;
-        for (int toRemove : skillType.equals(SkyBlockSkill.RUNECRAFTING) ? Constants.RUNECRAFTING_SKILL_EXPERIENCE : Constants.GENERAL_SKILL_EXPERIENCE) {
-            experience -= toRemove;
-            if (experience < 0) {
-                return level + (1D - (experience * -1) / (double) toRemove);
-            }
-            level++;
+        ExperienceTable experienceTable = skillType.equals(SkyBlockSkill.RUNECRAFTING)
+            ? ExperienceTable.RUNECRAFTING
+            : ExperienceTable.GENERAL_SKILLS;
+
+        double level = experienceTable.getLevelFromExperience(experience);
+        if (level < experienceTable.getMaxLevel()) {
+            return level;
         }
         return Math.min(level, skillType.getMaxLevel());
     }
@@ -2,11 +2,11 @@ package com.senither.hypixel.statistics.responses;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.senither.hypixel.Constants;
 import com.senither.hypixel.contracts.statistics.CanCalculateWeight;
 import com.senither.hypixel.contracts.statistics.HasLevel;
 import com.senither.hypixel.contracts.statistics.Jsonable;
 import com.senither.hypixel.contracts.statistics.StatisticsResponse;
+import com.senither.hypixel.statistics.ExperienceTable;
 import com.senither.hypixel.statistics.weight.DungeonWeight;
 import com.senither.hypixel.statistics.weight.Weight;
 import com.senither.hypixel.time.Carbon;
@@ -95,15 +95,7 @@ public class DungeonResponse extends StatisticsResponse implements Jsonable {
     }
 
     private double getLevelFromExperience(double experience) {
-        int level = 0;
-        for (int toRemove : Constants.DUNGEON_EXPERIENCE) {
-            experience -= toRemove;
-            if (experience < 0) {
-                return level + (1D - (experience * -1) / (double) toRemove);
-            }
-            level++;
-        }
-        return level;
+        return ExperienceTable.DUNGEONS.getLevelFromExperience(experience);
     }
 
     @Override
@@ -24,6 +24,7 @@ package com.senither.hypixel.statistics.responses;
 import com.senither.hypixel.Constants;
 import com.senither.hypixel.contracts.statistics.StatisticsResponse;
 import com.senither.hypixel.inventory.ItemRarity;
+import com.senither.hypixel.statistics.ExperienceTable;
 import com.senither.hypixel.utils.NumberUtil;
 
 import javax.annotation.Nullable;
@@ -118,18 +119,7 @@ public class PetsResponse extends StatisticsResponse {
         public double getLevel() {
             Integer offset = Constants.PET_OFFSET.get(getTier());
 
-            long experience = getExperience();
-            for (int i = offset; i < offset + 99; i++) {
-                Integer levelXp = Constants.PET_EXPERIENCE.asList().get(i);
-
-                if (experience > levelXp) {
-                    experience -= levelXp;
-                    continue;
-                }
-
-                return i + 1 - offset;
-            }
-            return 100;
+            return ExperienceTable.PETS.getLevelsCompleted(getExperience(), offset, 99) + 1;
         }
 
         public boolean isActive() {
@@ -22,11 +22,11 @@
 package com.senither.hypixel.statistics.responses;
 
 import com.google.gson.JsonObject;
-import com.senither.hypixel.Constants;
 import com.senither.hypixel.contracts.statistics.HasLevel;
 import com.senither.hypixel.contracts.statistics.Jsonable;
 import com.senither.hypixel.contracts.statistics.StatisticsResponse;
 import com.senither.hypixel.hypixel.SkyBlockSkill;
+import com.senither.hypixel.statistics.ExperienceTable;
 import com.senither.hypixel.statistics.weight.SkillWeight;
 import com.senither.hypixel.statistics.weight.Weight;
 
@@ -240,11 +240,7 @@ public class SkillsResponse extends StatisticsResponse implements Jsonable {
     }
 
     private double getExperienceForLevel(double level) {
-        double totalRequiredExperience = 0;
-        for (int i = 0; i < Math.min(level, Constants.GENERAL_SKILL_EXPERIENCE.size()); i++) {
-            totalRequiredExperience += Constants.GENERAL_SKILL_EXPERIENCE.asList().get(i);
-        }
-        return totalRequiredExperience;
+        return ExperienceTable.GENERAL_SKILLS.getExperienceForLevel((int) Math.ceil(level));
     }
 
     @Override
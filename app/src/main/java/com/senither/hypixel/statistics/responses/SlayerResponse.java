@@ -22,10 +22,10 @@
 package com.senither.hypixel.statistics.responses;
 
 import com.google.gson.JsonObject;
-import com.senither.hypixel.Constants;
 import com.senither.hypixel.contracts.statistics.HasLevel;
 import com.senither.hypixel.contracts.statistics.Jsonable;
 import com.senither.hypixel.contracts.statistics.StatisticsResponse;
+import com.senither.hypixel.statistics.ExperienceTable;
 import com.senither.hypixel.statistics.weight.SlayerWeight;
 import com.senither.hypixel.statistics.weight.Weight;
 
@@ -104,13 +104,13 @@ public class SlayerResponse extends StatisticsResponse implements Jsonable {
     }
 
     public Weight calculateTotalWeight() {
-        Weight weight = new Weight(0D, 0D);
+        double weight = 0D;
 
         for (SlayerWeight value : SlayerWeight.values()) {
-            weight = weight.add(value.getSlayerStatsRelation(this).calculateWeight());
+            weight += value.calculateBaseWeight(value.getSlayerStatsRelation(this).getExperience());
         }
 
-        return weight;
+        return new Weight(weight, 0D);
     }
 
     @Override
@@ -162,14 +162,7 @@ public class SlayerResponse extends StatisticsResponse implements Jsonable {
 
         @Override
         public double getLevel() {
-            for (int level = 0; level < Constants.SLAYER_EXPERIENCE.size(); level++) {
-                double requirement = Constants.SLAYER_EXPERIENCE.asList().get(level);
-                if (this.experience < requirement) {
-                    double lastRequirement = level == 0 ? 0D : Constants.SLAYER_EXPERIENCE.asList().get(level - 1);
-                    return level + (this.experience - lastRequirement) / (requirement - lastRequirement);
-                }
-            }
-            return 9D;
+            return ExperienceTable.SLAYERS.getLevelFromExperience(experience);
         }
 
         @Override
@@ -1,8 +1,8 @@
 package com.senither.hypixel.statistics.weight;
 
-import com.senither.hypixel.Constants;
 import com.senither.hypixel.contracts.statistics.CanCalculateWeight;
 import com.senither.hypixel.contracts.statistics.DungeonWeightRelationFunction;
+import com.senither.hypixel.statistics.ExperienceTable;
 import com.senither.hypixel.statistics.responses.DungeonResponse;
 
 public enum DungeonWeight {
@@ -52,28 +52,27 @@ public enum DungeonWeight {
     }
 
     public Weight calculateWeight(double experience) {
-        double level = getLevelFromExperience(experience);
-        double base = Math.pow(level, 4.5) * exponent;
+        double base = calculateLevelWeight(experience);
 
+        return new Weight(roundBaseWeight(experience, base), overflowFromBase(experience, base));
+    }
+
+    double calculateLevelWeight(double experience) {
+        return Math.pow(getLevelFromExperience(experience), 4.5) * exponent;
+    }
+
+    double roundBaseWeight(double experience, double base) {
+        return experience <= level50Exp ? base : Math.floor(base);
+    }
+
+    double overflowFromBase(double experience, double base) {
         if (experience <= level50Exp) {
-            return new Weight(base, 0D);
+            return 0D;
         }
-
-        return new Weight(
-            Math.floor(base),
-            Math.pow((experience - level50Exp) / (4 * level50Exp / base), 0.968)
-        );
+        return Math.pow((experience - level50Exp) / (4 * level50Exp / base), 0.968);
     }
 
     private double getLevelFromExperience(double experience) {
-        int level = 0;
-        for (int toRemove : Constants.DUNGEON_EXPERIENCE) {
-            experience -= toRemove;
-            if (experience < 0) {
-                return level + (1D - (experience * -1) / (double) toRemove);
-            }
-            level++;
-        }
-        return level;
+        return ExperienceTable.DUNGEONS.getLevelFromExperience(experience);
     }
 }
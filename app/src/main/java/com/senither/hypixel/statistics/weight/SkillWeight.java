@@ -1,8 +1,8 @@
 package com.senither.hypixel.statistics.weight;
 
-import com.senither.hypixel.Constants;
 import com.senither.hypixel.contracts.statistics.SkillWeightRelationFunction;
 import com.senither.hypixel.hypixel.SkyBlockSkill;
+import com.senither.hypixel.statistics.ExperienceTable;
 import com.senither.hypixel.statistics.responses.SkillsResponse;
 
 public enum SkillWeight {
@@ -64,25 +64,24 @@ public enum SkillWeight {
     }
 
     public Weight calculateSkillWeight(double experience) {
+        return new Weight(calculateBaseWeight(experience), calculateOverflowWeight(experience));
+    }
+
+    public double calculateBaseWeight(double experience) {
         double level = getSkillLevelFromExperience(experience);
-        double base = Math.pow(level * 10, 0.5 + this.exponent + (level / 100)) / 1250;
 
+        return Math.pow(level * 10, 0.5 + this.exponent + (level / 100)) / 1250;
+    }
+
+    public double calculateOverflowWeight(double experience) {
         if (experience <= skillType.getMaxLevelExp()) {
-            return new Weight(base, 0D);
+            return 0D;
         }
 
-        return new Weight(base, Math.pow((experience - skillType.getMaxLevelExp()) / divider, 0.968));
+        return Math.pow((experience - skillType.getMaxLevelExp()) / divider, 0.968);
     }
 
     private double getSkillLevelFromExperience(double experience) {
-        int level = 0;
-        for (int toRemove : Constants.GENERAL_SKILL_EXPERIENCE) {
-            experience -= toRemove;
-            if (experience < 0) {
-                return Math.min(level + (1D - (experience * -1) / (double) toRemove), skillType.getMaxLevel());
-            }
-            level++;
-        }
-        return Math.min(level, skillType.getMaxLevel());
+        return Math.min(ExperienceTable.GENERAL_SKILLS.getLevelFromExperience(experience), skillType.getMaxLevel());
     }
 }
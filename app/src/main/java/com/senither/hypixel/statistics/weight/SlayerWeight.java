@@ -25,12 +25,16 @@ public enum SlayerWeight {
     }
 
     public Weight calculateSkillWeight(double experience) {
+        return new Weight(calculateBaseWeight(experience), 0D);
+    }
+
+    public double calculateBaseWeight(double experience) {
         if (experience == 0) {
-            return new Weight(0D, 0D);
+            return 0D;
         }
 
         if (experience <= 1000000) {
-            return new Weight(experience / divider, 0D);
+            return experience / divider;
         }
 
         double base = 1000000 / divider;
@@ -47,6 +51,6 @@ public enum SlayerWeight {
             modifier += this.modifier;
         }
 
-        return new Weight(base + overflow, 0D);
+        return base + overflow;
     }
 }
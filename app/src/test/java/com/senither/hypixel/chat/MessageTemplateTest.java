@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.chat;
+
+import com.senither.hypixel.utils.StringReplacementUtil;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that rendering compiled message templates gives the same result as sorting
+ * the placeholder keys by their length and replacing each of them using a regex,
+ * which is how placeholder messages was formatted before. The old path scanned
+ * the message again after every replacement, so a value could be joined with the
+ * text around it into a new placeholder, templates don't do that, so the random
+ * values are never empty, and never contain a colon or anything a key starts with.
+ */
+public class MessageTemplateTest {
+
+    private static final char[] sourceCharacters = "::::abcd ABC$\\\n".toCharArray();
+    private static final char[] keyCharacters = "abcd".toCharArray();
+    private static final char[] valueCharacters = "ABC 12$\\".toCharArray();
+
+    private static final int iterations = 500_000;
+
+    @Test
+    public void renderMatchesReplacingPlaceholders() {
+        Random random = new Random(1337);
+
+        for (int i = 0; i < iterations; i++) {
+            String source = createRandomString(random, sourceCharacters, random.nextInt(24));
+
+            Map<String, String> placeholders = new HashMap<>();
+            for (int keys = random.nextInt(5); keys > 0; keys--) {
+                placeholders.put(
+                    createRandomString(random, keyCharacters, 1 + random.nextInt(3)),
+                    random.nextInt(8) == 0 ? null : createRandomString(random, valueCharacters, 1 + random.nextInt(5))
+                );
+            }
+
+            assertEquals(
+                "Rendering \"" + source + "\" using " + placeholders,
+                renderUsingReplacements(source, placeholders),
+                MessageTemplate.compile(source).render(placeholders)
+            );
+        }
+    }
+
+    @Test
+    public void renderUsesTheLongestMatchingKey() {
+        Map<String, String> placeholders = new HashMap<>();
+        placeholders.put("user", "Senither");
+        placeholders.put("username", "Alexis");
+        placeholders.put("time", "5 minutes");
+
+        assertEquals(
+            "Alexis (Senither) will be back in 5 minutes, :unknown stays.",
+            MessageTemplate.of(":username (:user) will be back in :time, :unknown stays.").render(placeholders)
+        );
+    }
+
+    @Test
+    public void renderDoesNotExpandPlaceholdersInValues() {
+        Map<String, String> placeholders = new LinkedHashMap<>();
+        placeholders.put("note", "Ping :user");
+        placeholders.put("user", "Senither");
+
+        String source = "Splash by :user: :note";
+
+        assertEquals("Splash by Senither: Ping :user", MessageTemplate.compile(source).render(placeholders));
+        assertEquals("Splash by Senither: Ping Senither", renderUsingReplacements(source, placeholders));
+    }
+
+    @Test
+    public void renderDoesNotJoinEmptyValuesIntoNewPlaceholders() {
+        Map<String, String> placeholders = new LinkedHashMap<>();
+        placeholders.put("a", "");
+        placeholders.put("d", "Senither");
+
+        assertEquals(":d", MessageTemplate.compile("::ad").render(placeholders));
+        assertEquals("Senither", renderUsingReplacements("::ad", placeholders));
+    }
+
+    private String createRandomString(Random random, char[] characters, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = characters[random.nextInt(characters.length)];
+        }
+        return new String(chars);
+    }
+
+    private String renderUsingReplacements(String message, Map<String, String> placeholders) {
+        List<String> keys = new ArrayList<>(placeholders.keySet());
+        keys.sort((o1, o2) -> o2.length() - o1.length());
+
+        for (String key : keys) {
+            message = StringReplacementUtil.replaceAll(
+                message, ":" + key, placeholders.get(key)
+            );
+        }
+
+        return message;
+    }
+}
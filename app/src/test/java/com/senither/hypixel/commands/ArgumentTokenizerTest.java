@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.commands;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that the argument tokenizer splits messages into the exact same arguments
+ * as the regex the commands used to split their arguments with, using random
+ * strings made up mostly of quotes, whitespace, and line terminators.
+ */
+public class ArgumentTokenizerTest {
+
+    private static final Pattern argumentsRegEX = Pattern.compile("([^\"]\\S*|\".+?\")\\s*", Pattern.MULTILINE);
+
+    private static final char[] characters = new char[]{
+        'a', 'b', 'c', '1', '-', '"', '"', '"', ' ', ' ', ' ', '\t', '\n', '\r',
+        '\u000B', '\f', '\u0001', '\u0085', ' ', ' ', ' ', 'æ'
+    };
+
+    private static final int iterations = 2_000_000;
+
+    @Test
+    public void tokenizeMatchesRegex() {
+        Random random = new Random(1337);
+
+        for (int i = 0; i < iterations; i++) {
+            String message = createRandomString(random, random.nextInt(16));
+
+            assertEquals(
+                "Arguments for \"" + message + "\"",
+                Arrays.asList(toArgumentsUsingRegex(message)),
+                Arrays.asList(ArgumentTokenizer.tokenize(message))
+            );
+        }
+    }
+
+    @Test
+    public void tokenizeCommandMessages() {
+        assertEquals(
+            Arrays.asList("rank-check", "Senither"),
+            Arrays.asList(ArgumentTokenizer.tokenize("rank-check Senither"))
+        );
+        assertEquals(
+            Arrays.asList("message", "set", "Hello there, :user!"),
+            Arrays.asList(ArgumentTokenizer.tokenize("message  set \"Hello there, :user!\""))
+        );
+        assertEquals(
+            Arrays.asList("settings", "", "value"),
+            Arrays.asList(ArgumentTokenizer.tokenize("settings \"\" value"))
+        );
+    }
+
+    private String createRandomString(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = characters[random.nextInt(characters.length)];
+        }
+        return new String(chars);
+    }
+
+    private String[] toArgumentsUsingRegex(String string) {
+        List<String> arguments = new ArrayList<>();
+
+        Matcher matcher = argumentsRegEX.matcher(string.replaceAll("\"\"", "\" \""));
+        while (matcher.find()) {
+            arguments.add(matcher.group(0)
+                .replaceAll("\"", "")
+                .trim());
+        }
+
+        return arguments.toArray(new String[0]);
+    }
+}
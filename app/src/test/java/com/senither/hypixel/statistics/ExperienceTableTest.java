@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2020.
+ *
+ * This file is part of Hypixel Skyblock Assistant.
+ *
+ * Hypixel Guild Synchronizer is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Hypixel Guild Synchronizer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Hypixel Guild Synchronizer.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *
+ */
+
+package com.senither.hypixel.statistics;
+
+import com.google.common.collect.ImmutableMultiset;
+import com.senither.hypixel.Constants;
+import com.senither.hypixel.inventory.ItemRarity;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that the precomputed experience tables gives the same results as walking
+ * the experience lists from the constants, which is how the levels was calculated
+ * before the experience tables was introduced. The progress towards the next level
+ * is calculated in a different order than the old loops did, so the decimal part
+ * of the level is allowed to be off by a rounding error.
+ */
+public class ExperienceTableTest {
+
+    private static final int iterations = 200_000;
+    private static final double delta = 1.0E-9;
+
+    @Test
+    public void generalSkillLevelsMatchesExperienceList() {
+        assertLevelsMatchesExperienceList(ExperienceTable.GENERAL_SKILLS, Constants.GENERAL_SKILL_EXPERIENCE);
+    }
+
+    @Test
+    public void runecraftingLevelsMatchesExperienceList() {
+        assertLevelsMatchesExperienceList(ExperienceTable.RUNECRAFTING, Constants.RUNECRAFTING_SKILL_EXPERIENCE);
+    }
+
+    @Test
+    public void dungeonLevelsMatchesExperienceList() {
+        assertLevelsMatchesExperienceList(ExperienceTable.DUNGEONS, Constants.DUNGEON_EXPERIENCE);
+    }
+
+    @Test
+    public void slayerLevelsMatchesExperienceThresholds() {
+        Random random = new Random(1337);
+        int bound = Constants.SLAYER_EXPERIENCE.asList().get(Constants.SLAYER_EXPERIENCE.size() - 1) * 2;
+
+        for (int i = 0; i < iterations; i++) {
+            double experience = random.nextInt(bound);
+
+            assertEquals(
+                "Slayer level for " + experience,
+                getSlayerLevelFromThresholds(experience),
+                ExperienceTable.SLAYERS.getLevelFromExperience(experience),
+                delta
+            );
+        }
+    }
+
+    @Test
+    public void petLevelsMatchesExperienceList() {
+        Random random = new Random(1337);
+
+        for (Map.Entry<ItemRarity, Integer> entry : Constants.PET_OFFSET.entrySet()) {
+            int offset = entry.getValue();
+            for (int i = 0; i < iterations; i++) {
+                long experience = random.nextInt(30_000_000);
+
+                assertEquals(
+                    entry.getKey() + " pet level for " + experience,
+                    getPetLevelFromExperienceList(experience, offset),
+                    ExperienceTable.PETS.getLevelsCompleted(experience, offset, 99) + 1
+                );
+            }
+        }
+    }
+
+    @Test
+    public void experienceForLevelMatchesExperienceList() {
+        for (int level = -1; level <= Constants.GENERAL_SKILL_EXPERIENCE.size() + 5; level++) {
+            assertEquals(
+                "Experience for level " + level,
+                getExperienceForLevelFromList(Constants.GENERAL_SKILL_EXPERIENCE, level),
+                ExperienceTable.GENERAL_SKILLS.getExperienceForLevel(level),
+                0D
+            );
+        }
+    }
+
+    private void assertLevelsMatchesExperienceList(ExperienceTable table, ImmutableMultiset<Integer> experienceList) {
+        Random random = new Random(1337);
+        int bound = (int) Math.min(Integer.MAX_VALUE, table.getExperienceForLevel(table.getMaxLevel()) * 2);
+
+        for (int i = 0; i < iterations; i++) {
+            double experience = random.nextDouble() * bound;
+
+            assertEquals(
+                "Level for " + experience,
+                getLevelFromExperienceList(experienceList, experience),
+                table.getLevelFromExperience(experience),
+                delta
+            );
+        }
+    }
+
+    private double getLevelFromExperienceList(ImmutableMultiset<Integer> experienceList, double experience) {
+        int level = 0;
+        for (int toRemove : experienceList) {
+            experience -= toRemove;
+            if (experience < 0) {
+                return level + (1D - (experience * -1) / (double) toRemove);
+            }
+            level++;
+        }
+        return level;
+    }
+
+    private double getSlayerLevelFromThresholds(double experience) {
+        for (int level = 0; level < Constants.SLAYER_EXPERIENCE.size(); level++) {
+            double requirement = Constants.SLAYER_EXPERIENCE.asList().get(level);
+            if (experience < requirement) {
+                double lastRequirement = level == 0 ? 0D : Constants.SLAYER_EXPERIENCE.asList().get(level - 1);
+                return level + (experience - lastRequirement) / (requirement - lastRequirement);
+            }
+        }
+        return 9D;
+    }
+
+    private int getPetLevelFromExperienceList(long experience, int offset) {
+        for (int i = offset; i < offset + 99; i++) {
+            Integer levelXp = Constants.PET_EXPERIENCE.asList().get(i);
+
+            if (experience > levelXp) {
+                experience -= levelXp;
+                continue;
+            }
+
+            return i + 1 - offset;
+        }
+        return 100;
+    }
+
+    private double getExperienceForLevelFromList(ImmutableMultiset<Integer> experienceList, double level) {
+        double totalRequiredExperience = 0;
+        for (int i = 0; i < Math.min(level, experienceList.size()); i++) {
+            totalRequiredExperience += experienceList.asList().get(i);
+        }
+        return totalRequiredExperience;
+    }
+}